@@ -0,0 +1,29 @@
+package hanglog.currency.domain.type;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CurrencyTypeBenchmark {
+
+    @Param({"usd", "KRW", "JPY(100)", "CNH"})
+    private String currencyCode;
+
+    @Benchmark
+    public CurrencyType getMappedCurrencyType() {
+        return CurrencyType.getMappedCurrencyType(currencyCode);
+    }
+
+    @Benchmark
+    public boolean isProvided() {
+        return CurrencyType.isProvided(currencyCode);
+    }
+}
@@ -0,0 +1,59 @@
+package hanglog.expense.domain;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LedgerAmountBenchmark {
+
+    private static final double[] RATES = {1.0, 1310.5, 1421.37, 1652.12, 9.1237, 180.25, 1453.8, 962.33, 37.41, 167.22};
+
+    @Param({"1000", "5000"})
+    private int expenseCount;
+
+    private Amount[] amounts;
+    private double[] rates;
+    private ExchangeRate[] exchangeRates;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(20230801L);
+        amounts = new Amount[expenseCount];
+        rates = new double[expenseCount];
+        exchangeRates = new ExchangeRate[expenseCount];
+        for (int i = 0; i < expenseCount; i++) {
+            amounts[i] = new Amount(BigDecimal.valueOf(random.nextInt(100_000_000), 3));
+            rates[i] = RATES[random.nextInt(RATES.length)];
+            exchangeRates[i] = ExchangeRate.from(rates[i]);
+        }
+    }
+
+    @Benchmark
+    public Amount amount() {
+        Amount total = Amount.ZERO;
+        for (int i = 0; i < expenseCount; i++) {
+            total = total.add(amounts[i].multiply(rates[i]));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money money() {
+        final MoneySum total = new MoneySum();
+        for (int i = 0; i < expenseCount; i++) {
+            total.add(Money.from(amounts[i]), exchangeRates[i]);
+        }
+        return total.toMoney();
+    }
+}
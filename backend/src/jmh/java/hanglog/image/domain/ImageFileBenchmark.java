@@ -0,0 +1,28 @@
+package hanglog.image.domain;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockMultipartFile;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ImageFileBenchmark {
+
+    private final MockMultipartFile file = new MockMultipartFile(
+            "images",
+            "image.png",
+            "image/png",
+            "image".getBytes()
+    );
+
+    @Benchmark
+    public ImageFile hashName() {
+        return new ImageFile(file);
+    }
+}
@@ -0,0 +1,41 @@
+package hanglog.like.dto;
+
+import hanglog.like.domain.LikeInfo;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LikeElementsBenchmark {
+
+    @Param({"10", "1000"})
+    private int tripCount;
+
+    private LikeElements likeElements;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(20230801L);
+        final List<LikeElement> elements = LongStream.rangeClosed(1, tripCount)
+                .mapToObj(tripId -> new LikeElement(tripId, random.nextInt(10_000), random.nextBoolean()))
+                .toList();
+        likeElements = new LikeElements(elements);
+    }
+
+    @Benchmark
+    public Map<Long, LikeInfo> toLikeMap() {
+        return likeElements.toLikeMap();
+    }
+}
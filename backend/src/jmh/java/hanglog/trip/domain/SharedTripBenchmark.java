@@ -0,0 +1,22 @@
+package hanglog.trip.domain;
+
+import static hanglog.trip.fixture.TripFixture.LONDON_TRIP;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SharedTripBenchmark {
+
+    @Benchmark
+    public SharedTrip createdBy() {
+        return SharedTrip.createdBy(LONDON_TRIP);
+    }
+}
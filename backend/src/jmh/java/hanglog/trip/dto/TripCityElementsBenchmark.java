@@ -0,0 +1,48 @@
+package hanglog.trip.dto;
+
+import static hanglog.trip.fixture.CityFixture.LONDON;
+import static hanglog.trip.fixture.CityFixture.PARIS;
+import static hanglog.trip.fixture.CityFixture.TOKYO;
+
+import hanglog.city.domain.City;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TripCityElementsBenchmark {
+
+    private static final List<City> CITIES = List.of(PARIS, LONDON, TOKYO);
+
+    @Param({"10", "1000"})
+    private int tripCount;
+
+    private TripCityElements tripCityElements;
+
+    @Setup
+    public void setUp() {
+        final List<TripCityElement> elements = new ArrayList<>();
+        for (long tripId = 1; tripId <= tripCount; tripId++) {
+            for (int i = 0; i <= tripId % CITIES.size(); i++) {
+                elements.add(new TripCityElement(tripId, CITIES.get(i)));
+            }
+        }
+        tripCityElements = new TripCityElements(elements);
+    }
+
+    @Benchmark
+    public Map<Long, List<City>> toCityMap() {
+        return tripCityElements.toCityMap();
+    }
+}
@@ -0,0 +1,34 @@
+package hanglog.trip.dto.response;
+
+import static hanglog.trip.fixture.CityFixture.LONDON;
+import static hanglog.trip.fixture.CityFixture.PARIS;
+import static hanglog.trip.fixture.ShareFixture.TRIP_SHARE;
+import static hanglog.trip.fixture.TripFixture.LONDON_TRIP;
+
+import hanglog.city.domain.City;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TripDetailResponseBenchmark {
+
+    private static final List<City> CITIES = List.of(LONDON, PARIS);
+
+    @Benchmark
+    public TripDetailResponse personalTrip() {
+        return TripDetailResponse.personalTrip(LONDON_TRIP, CITIES);
+    }
+
+    @Benchmark
+    public TripDetailResponse sharedTrip() {
+        return TripDetailResponse.sharedTrip(TRIP_SHARE, CITIES);
+    }
+}
@@ -0,0 +1,144 @@
+package hanglog.trip.infrastructure;
+
+import hanglog.HangLogApplication;
+import hanglog.member.domain.Member;
+import hanglog.member.domain.repository.MemberRepository;
+import hanglog.trip.domain.Trip;
+import hanglog.trip.domain.repository.CustomDayLogRepository;
+import hanglog.trip.domain.repository.TripGraphRepository;
+import hanglog.trip.dto.request.ExpenseRequest;
+import hanglog.trip.dto.request.ItemRequest;
+import hanglog.trip.dto.request.PlaceRequest;
+import hanglog.trip.dto.request.TripCreateRequest;
+import hanglog.trip.dto.response.TripDetailResponse;
+import hanglog.trip.service.ItemService;
+import hanglog.trip.service.TripService;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 로컬 DB 에 여행을 만든 뒤 상세 조회 지연 시간을 비교한다. 예) ./gradlew jmh -PjmhIncludes=TripGraphRepositoryBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TripGraphRepositoryBenchmark {
+
+    private static final int DAY_COUNT = 10;
+    private static final String FETCH_JOIN_QUERY = """
+            SELECT trip
+            FROM Trip trip
+            LEFT JOIN FETCH trip.member member
+            LEFT JOIN FETCH trip.sharedTrip sharedTrip
+            LEFT JOIN FETCH trip.dayLogs dayLogs
+            LEFT JOIN FETCH dayLogs.items items
+            LEFT JOIN FETCH items.images images
+            LEFT JOIN FETCH items.expense expense
+            LEFT JOIN FETCH items.place place
+            LEFT JOIN FETCH expense.category expense_category
+            LEFT JOIN FETCH place.category place_category
+            WHERE trip.id = :tripId
+            """;
+
+    @Param({"1", "10"})
+    private int itemCountPerDay;
+
+    @Param({"1", "5"})
+    private int imageCountPerItem;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnlyTransaction;
+    private TripGraphRepository tripGraphRepository;
+    private EntityManager entityManager;
+    private Long tripId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(HangLogApplication.class)
+                .profiles(System.getProperty("benchmark.profile", "local"))
+                .web(WebApplicationType.NONE)
+                .run();
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        tripGraphRepository = context.getBean(TripGraphRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        tripId = new TransactionTemplate(context.getBean(PlatformTransactionManager.class))
+                .execute(status -> saveTrip());
+    }
+
+    private Long saveTrip() {
+        final String name = "bench" + System.nanoTime() % 1_000_000_000L;
+        final Member member = context.getBean(MemberRepository.class).save(new Member(
+                name,
+                name,
+                "https://hanglog.com/img/imageName.png"
+        ));
+        final LocalDate startDate = LocalDate.of(2023, 8, 1);
+        final Long savedTripId = context.getBean(TripService.class).save(member.getId(), new TripCreateRequest(
+                startDate,
+                startDate.plusDays(DAY_COUNT - 1),
+                List.of(1L)
+        ));
+        final ItemService itemService = context.getBean(ItemService.class);
+        for (final Long dayLogId : context.getBean(CustomDayLogRepository.class).findDayLogIdsByTripId(savedTripId)) {
+            IntStream.range(0, itemCountPerDay)
+                    .forEach(itemIndex -> itemService.save(savedTripId, createItemRequest(dayLogId, itemIndex)));
+        }
+        return savedTripId;
+    }
+
+    private ItemRequest createItemRequest(final Long dayLogId, final int itemIndex) {
+        final List<String> imageNames = IntStream.range(0, imageCountPerItem)
+                .mapToObj(imageIndex -> dayLogId + "-" + itemIndex + "-" + imageIndex + ".png")
+                .toList();
+        return new ItemRequest(
+                true,
+                "에펠탑",
+                4.5,
+                "에펠탑을 방문",
+                dayLogId,
+                imageNames,
+                new PlaceRequest("에펠탑", new BigDecimal("38.123456"), new BigDecimal("39.123456"), List.of("culture")),
+                new ExpenseRequest("EUR", new BigDecimal(10000), 100L)
+        );
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TripDetailResponse levelByLevel() {
+        return readOnlyTransaction.execute(status -> TripDetailResponse.personalTrip(
+                tripGraphRepository.findById(tripId).orElseThrow(),
+                List.of()
+        ));
+    }
+
+    @Benchmark
+    public TripDetailResponse singleFetchJoin() {
+        return readOnlyTransaction.execute(status -> TripDetailResponse.personalTrip(
+                entityManager.createQuery(FETCH_JOIN_QUERY, Trip.class)
+                        .setParameter("tripId", tripId)
+                        .getSingleResult(),
+                List.of()
+        ));
+    }
+}
@@ -0,0 +1,40 @@
+package hanglog.loadtest;
+
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemoryAmazonS3 extends AbstractAmazonS3 {
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+
+    @Override
+    public PutObjectResult putObject(
+            final String bucketName,
+            final String key,
+            final InputStream input,
+            final ObjectMetadata metadata
+    ) {
+        try {
+            objects.put(bucketName + "/" + key, input.readAllBytes());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new PutObjectResult();
+    }
+
+    @Override
+    public void deleteObject(final String bucketName, final String key) {
+        objects.remove(bucketName + "/" + key);
+    }
+
+    @Override
+    public void shutdown() {
+        objects.clear();
+    }
+}
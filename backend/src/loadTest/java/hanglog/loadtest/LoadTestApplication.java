@@ -0,0 +1,84 @@
+package hanglog.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import hanglog.HangLogApplication;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 애플리케이션을 임의 포트로 띄운 뒤 실제 컨트롤러에 읽기/쓰기 요청을 섞어 보내고, 결과를 기준선과 비교한다.
+ * 예) ./gradlew loadTest -Ploadtest.duration-seconds=60 -Ploadtest.save-baseline=true
+ */
+@Slf4j
+public class LoadTestApplication {
+
+    public static void main(final String[] args) throws IOException {
+        final LoadTestProperties properties = LoadTestProperties.from(System.getProperties());
+        validate(properties);
+
+        final ConfigurableApplicationContext context = new SpringApplicationBuilder(HangLogApplication.class)
+                .profiles("loadtest")
+                .properties("server.port=0")
+                .run(args);
+        final int exitCode;
+        try {
+            final int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            exitCode = runLoadTest("http://localhost:" + port, properties, context.getBean(ObjectMapper.class));
+        } finally {
+            context.close();
+        }
+        System.exit(exitCode);
+    }
+
+    private static void validate(final LoadTestProperties properties) {
+        if (properties.users() < properties.concurrency()) {
+            throw new IllegalArgumentException("users 는 concurrency 보다 작을 수 없습니다.");
+        }
+        if (properties.mix().values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("mix 의 가중치 합은 0보다 커야 합니다.");
+        }
+    }
+
+    private static int runLoadTest(
+            final String baseUrl,
+            final LoadTestProperties properties,
+            final ObjectMapper objectMapper
+    ) throws IOException {
+        final LoadTestClient client = new LoadTestClient(baseUrl);
+        final List<LoadTestUser> users = new LoadTestFixture(client, objectMapper)
+                .createUsers(properties.users(), new SplittableRandom(properties.seed()));
+        final LoadTestReport report = new LoadTestRunner(client, properties, users).run();
+
+        final ObjectWriter writer = objectMapper.writerWithDefaultPrettyPrinter();
+        Files.createDirectories(properties.resultFile().toAbsolutePath().getParent());
+        writer.writeValue(properties.resultFile().toFile(), report);
+        log.info("부하 테스트 결과: {}\n{}", properties.resultFile().toAbsolutePath(), writer.writeValueAsString(report));
+
+        final Path baselineFile = properties.baselineFile();
+        if (properties.saveBaseline()) {
+            writer.writeValue(baselineFile.toFile(), report);
+            log.info("기준선을 저장했습니다: {}", baselineFile.toAbsolutePath());
+            return 0;
+        }
+        if (!Files.exists(baselineFile)) {
+            log.warn("기준선 파일이 없어 비교를 건너뜁니다: {}", baselineFile.toAbsolutePath());
+            return 0;
+        }
+        final LoadTestReport baseline = objectMapper.readValue(baselineFile.toFile(), LoadTestReport.class);
+        final List<String> regressions = report.findRegressions(baseline, properties);
+        if (regressions.isEmpty()) {
+            log.info("기준선 대비 성능 저하가 없습니다.");
+            return 0;
+        }
+        regressions.forEach(regression -> log.error("성능 저하: {}", regression));
+        return 1;
+    }
+}
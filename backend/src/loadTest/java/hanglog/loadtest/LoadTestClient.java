@@ -0,0 +1,65 @@
+package hanglog.loadtest;
+
+import static hanglog.loadtest.QueryCountHeaderAspect.QUERY_COUNT_HEADER;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+
+public class LoadTestClient {
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+
+    public LoadTestClient(final String baseUrl) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.baseUrl = baseUrl;
+    }
+
+    public Response send(final String method, final String path, final String body, final LoadTestUser user) {
+        final HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .method(method, body == null ? BodyPublishers.noBody() : BodyPublishers.ofString(body));
+        if (user != null) {
+            builder.header("Authorization", "Bearer " + user.accessToken());
+            builder.header("Cookie", "refresh-token=" + user.refreshToken());
+        }
+        try {
+            final long startTime = System.nanoTime();
+            final HttpResponse<String> response = httpClient.send(builder.build(), BodyHandlers.ofString());
+            final long latency = System.nanoTime() - startTime;
+            final long queryCount = response.headers()
+                    .firstValueAsLong(QUERY_COUNT_HEADER)
+                    .orElse(-1L);
+            return new Response(response, latency, queryCount);
+        } catch (final IOException e) {
+            throw new IllegalStateException(method + " " + path + " 요청에 실패했습니다.", e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(method + " " + path + " 요청이 중단되었습니다.", e);
+        }
+    }
+
+    public record Response(HttpResponse<String> httpResponse, long latencyNanos, long queryCount) {
+
+        public boolean isSuccessful() {
+            return httpResponse.statusCode() / 100 == 2;
+        }
+
+        public String body() {
+            return httpResponse.body();
+        }
+
+        public String header(final String name) {
+            return httpResponse.headers().firstValue(name).orElseThrow();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package hanglog.loadtest;
+
+import com.amazonaws.services.s3.AmazonS3;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@Profile("loadtest")
+public class LoadTestConfig {
+
+    @Bean
+    @Primary
+    public AmazonS3 inMemoryAmazonS3() {
+        return new InMemoryAmazonS3();
+    }
+}
@@ -0,0 +1,102 @@
+package hanglog.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hanglog.loadtest.LoadTestClient.Response;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.StreamSupport;
+
+public class LoadTestFixture {
+
+    private static final String START_DATE = "2023-07-13";
+    private static final String END_DATE = "2023-07-16";
+    private static final int ITEMS_PER_DAY_LOG = 3;
+
+    private final LoadTestClient client;
+    private final ObjectMapper objectMapper;
+
+    public LoadTestFixture(final LoadTestClient client, final ObjectMapper objectMapper) {
+        this.client = client;
+        this.objectMapper = objectMapper;
+    }
+
+    public List<LoadTestUser> createUsers(final int userCount, final SplittableRandom random) {
+        final List<LoadTestUser> users = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            users.add(createUser("loadtest-user-" + i, random));
+        }
+        return users;
+    }
+
+    private LoadTestUser createUser(final String code, final SplittableRandom random) {
+        final Response loginResponse = expectSuccess(
+                client.send("POST", "/login/" + StubOauthProvider.PROVIDER_NAME, "{\"code\":\"" + code + "\"}", null)
+        );
+        final String accessToken = readTree(loginResponse.body()).get("accessToken").asText();
+        final String refreshToken = parseRefreshToken(loginResponse.header("Set-Cookie"));
+        final LoadTestUser loggedIn = new LoadTestUser(accessToken, refreshToken, null, List.of(), null);
+
+        final String tripBody = String.format(
+                "{\"startDate\":\"%s\",\"endDate\":\"%s\",\"cityIds\":[%d,%d]}",
+                START_DATE, END_DATE, random.nextInt(1, 3), 3
+        );
+        final String location = expectSuccess(client.send("POST", "/trips", tripBody, loggedIn)).header("Location");
+        final Long tripId = Long.valueOf(location.substring(location.lastIndexOf('/') + 1));
+
+        final JsonNode tripDetail = readTree(expectSuccess(client.send("GET", "/trips/" + tripId, null, loggedIn)).body());
+        final List<Long> dayLogIds = StreamSupport.stream(tripDetail.get("dayLogs").spliterator(), false)
+                .map(dayLog -> dayLog.get("id").asLong())
+                .toList();
+        for (final Long dayLogId : dayLogIds) {
+            for (int i = 0; i < ITEMS_PER_DAY_LOG; i++) {
+                expectSuccess(client.send("POST", "/trips/" + tripId + "/items", itemBody(dayLogId, random), loggedIn));
+            }
+        }
+
+        expectSuccess(client.send("PATCH", "/trips/" + tripId + "/publish", "{\"publishedStatus\":true}", loggedIn));
+        final Response shareResponse = expectSuccess(
+                client.send("PATCH", "/trips/" + tripId + "/share", "{\"sharedStatus\":true}", loggedIn)
+        );
+        final String sharedCode = readTree(shareResponse.body()).get("sharedCode").asText();
+        return new LoadTestUser(accessToken, refreshToken, tripId, dayLogIds, sharedCode);
+    }
+
+    public static String itemBody(final Long dayLogId, final SplittableRandom random) {
+        return String.format(
+                "{\"itemType\":false,\"title\":\"부하 테스트 아이템\",\"dayLogId\":%d,\"imageNames\":[],"
+                        + "\"expense\":{\"currency\":\"%s\",\"amount\":%d,\"categoryId\":%d}}",
+                dayLogId,
+                random.nextBoolean() ? "KRW" : "USD",
+                random.nextInt(1, 100_000),
+                random.nextInt(1, 7) * 100
+        );
+    }
+
+    private String parseRefreshToken(final String setCookie) {
+        final String prefix = "refresh-token=";
+        final int start = setCookie.indexOf(prefix) + prefix.length();
+        final int end = setCookie.indexOf(';', start);
+        return end < 0 ? setCookie.substring(start) : setCookie.substring(start, end);
+    }
+
+    private JsonNode readTree(final String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (final IOException e) {
+            throw new IllegalStateException("응답을 읽을 수 없습니다: " + body, e);
+        }
+    }
+
+    private Response expectSuccess(final Response response) {
+        if (!response.isSuccessful()) {
+            throw new IllegalStateException(
+                    "부하 테스트 데이터 생성에 실패했습니다. status: " + response.httpResponse().statusCode()
+                            + ", body: " + response.body()
+            );
+        }
+        return response;
+    }
+}
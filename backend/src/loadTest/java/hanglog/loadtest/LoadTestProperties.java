@@ -0,0 +1,62 @@
+package hanglog.loadtest;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+
+public record LoadTestProperties(
+        int users,
+        int concurrency,
+        int warmupSeconds,
+        int durationSeconds,
+        long seed,
+        Map<LoadTestScenario, Integer> mix,
+        Path resultFile,
+        Path baselineFile,
+        boolean saveBaseline,
+        double latencyThreshold,
+        double throughputThreshold,
+        double minLatencyDeltaMillis,
+        double queryThreshold
+) {
+
+    private static final String PREFIX = "loadtest.";
+
+    public static LoadTestProperties from(final Properties properties) {
+        return new LoadTestProperties(
+                Integer.parseInt(get(properties, "users", "20")),
+                Integer.parseInt(get(properties, "concurrency", "16")),
+                Integer.parseInt(get(properties, "warmup-seconds", "5")),
+                Integer.parseInt(get(properties, "duration-seconds", "30")),
+                Long.parseLong(get(properties, "seed", "20230801")),
+                parseMix(get(properties, "mix", "")),
+                Path.of(get(properties, "result-file", "build/reports/loadtest/result.json")),
+                Path.of(get(properties, "baseline-file", "loadtest-baseline.json")),
+                Boolean.parseBoolean(get(properties, "save-baseline", "false")),
+                Double.parseDouble(get(properties, "latency-threshold", "0.2")),
+                Double.parseDouble(get(properties, "throughput-threshold", "0.2")),
+                Double.parseDouble(get(properties, "min-latency-delta-ms", "2")),
+                Double.parseDouble(get(properties, "query-threshold", "0.5"))
+        );
+    }
+
+    private static String get(final Properties properties, final String key, final String defaultValue) {
+        return properties.getProperty(PREFIX + key, defaultValue);
+    }
+
+    private static Map<LoadTestScenario, Integer> parseMix(final String mix) {
+        final Map<LoadTestScenario, Integer> weights = new EnumMap<>(LoadTestScenario.class);
+        for (final LoadTestScenario scenario : LoadTestScenario.values()) {
+            weights.put(scenario, scenario.getDefaultWeight());
+        }
+        if (mix.isBlank()) {
+            return weights;
+        }
+        for (final String entry : mix.split(",")) {
+            final String[] nameAndWeight = entry.trim().split("=");
+            weights.put(LoadTestScenario.from(nameAndWeight[0]), Integer.parseInt(nameAndWeight[1]));
+        }
+        return weights;
+    }
+}
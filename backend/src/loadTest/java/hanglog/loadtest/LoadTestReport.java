@@ -0,0 +1,69 @@
+package hanglog.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public record LoadTestReport(
+        int users,
+        int concurrency,
+        int durationSeconds,
+        Map<String, Integer> mix,
+        ScenarioResult total,
+        Map<String, ScenarioResult> scenarios
+) {
+
+    public List<String> findRegressions(final LoadTestReport baseline, final LoadTestProperties properties) {
+        final List<String> regressions = new ArrayList<>();
+        if (total.errors() > 0) {
+            regressions.add("total: " + total.errors() + "건의 요청이 실패했습니다.");
+        }
+        final double minThroughput = baseline.total.throughput() * (1 - properties.throughputThreshold());
+        if (total.throughput() < minThroughput) {
+            regressions.add(String.format(
+                    "total: 처리량이 %.1f req/s 에서 %.1f req/s 로 감소했습니다.",
+                    baseline.total.throughput(), total.throughput()
+            ));
+        }
+        scenarios.forEach((name, current) -> {
+            final ScenarioResult previous = baseline.scenarios.get(name);
+            if (previous != null) {
+                addLatencyRegression(regressions, name, previous, current, properties);
+                addQueryRegression(regressions, name, previous, current, properties);
+            }
+        });
+        return regressions;
+    }
+
+    private void addLatencyRegression(
+            final List<String> regressions,
+            final String name,
+            final ScenarioResult previous,
+            final ScenarioResult current,
+            final LoadTestProperties properties
+    ) {
+        final double delta = current.p99Millis() - previous.p99Millis();
+        if (delta > properties.minLatencyDeltaMillis()
+                && delta > previous.p99Millis() * properties.latencyThreshold()) {
+            regressions.add(String.format(
+                    "%s: p99 지연 시간이 %.2fms 에서 %.2fms 로 증가했습니다.",
+                    name, previous.p99Millis(), current.p99Millis()
+            ));
+        }
+    }
+
+    private void addQueryRegression(
+            final List<String> regressions,
+            final String name,
+            final ScenarioResult previous,
+            final ScenarioResult current,
+            final LoadTestProperties properties
+    ) {
+        if (current.queriesPerRequest() - previous.queriesPerRequest() > properties.queryThreshold()) {
+            regressions.add(String.format(
+                    "%s: 요청당 쿼리 수가 %.2f 에서 %.2f 로 증가했습니다.",
+                    name, previous.queriesPerRequest(), current.queriesPerRequest()
+            ));
+        }
+    }
+}
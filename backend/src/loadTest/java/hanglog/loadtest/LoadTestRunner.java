@@ -0,0 +1,167 @@
+package hanglog.loadtest;
+
+import hanglog.loadtest.LoadTestClient.Response;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class LoadTestRunner {
+
+    private final LoadTestClient client;
+    private final LoadTestProperties properties;
+    private final List<LoadTestUser> users;
+    private final LoadTestScenario[] scenarios;
+    private final int[] cumulativeWeights;
+
+    public LoadTestRunner(final LoadTestClient client, final LoadTestProperties properties, final List<LoadTestUser> users) {
+        this.client = client;
+        this.properties = properties;
+        this.users = users;
+        this.scenarios = properties.mix().keySet().toArray(LoadTestScenario[]::new);
+        this.cumulativeWeights = new int[scenarios.length];
+        int sum = 0;
+        for (int i = 0; i < scenarios.length; i++) {
+            sum += properties.mix().get(scenarios[i]);
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    public LoadTestReport run() {
+        runPhase(properties.warmupSeconds(), properties.seed() - 1);
+        final long startTime = System.nanoTime();
+        final List<Map<LoadTestScenario, ScenarioStats>> threadStats = runPhase(
+                properties.durationSeconds(),
+                properties.seed()
+        );
+        final double elapsedSeconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+        return toReport(threadStats, elapsedSeconds);
+    }
+
+    private List<Map<LoadTestScenario, ScenarioStats>> runPhase(final int seconds, final long seed) {
+        final int concurrency = properties.concurrency();
+        final long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        final ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            final List<Future<Map<LoadTestScenario, ScenarioStats>>> futures = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                final int threadIndex = i;
+                futures.add(executor.submit(() -> runWorker(threadIndex, deadline, new SplittableRandom(seed + threadIndex))));
+            }
+            final List<Map<LoadTestScenario, ScenarioStats>> results = new ArrayList<>(concurrency);
+            for (final Future<Map<LoadTestScenario, ScenarioStats>> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException("부하 테스트 실행 중 오류가 발생했습니다.", e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("부하 테스트가 중단되었습니다.", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 같은 회원의 쓰기 요청이 동시에 실행되지 않도록 각 스레드는 자신에게 배정된 회원으로만 요청을 보낸다.
+     */
+    private Map<LoadTestScenario, ScenarioStats> runWorker(
+            final int threadIndex,
+            final long deadline,
+            final SplittableRandom random
+    ) {
+        final int concurrency = properties.concurrency();
+        final int ownedUserCount = (users.size() - threadIndex + concurrency - 1) / concurrency;
+        final Map<LoadTestScenario, ScenarioStats> stats = new EnumMap<>(LoadTestScenario.class);
+        while (System.nanoTime() < deadline) {
+            final LoadTestUser user = users.get(threadIndex + concurrency * random.nextInt(ownedUserCount));
+            final LoadTestUser target = users.get(random.nextInt(users.size()));
+            final LoadTestScenario scenario = pickScenario(random);
+            final Response response = execute(scenario, user, target, random);
+            stats.computeIfAbsent(scenario, ignored -> new ScenarioStats())
+                    .record(response.latencyNanos(), response.isSuccessful(), response.queryCount());
+        }
+        return stats;
+    }
+
+    private LoadTestScenario pickScenario(final SplittableRandom random) {
+        final int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return scenarios[i];
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private Response execute(
+            final LoadTestScenario scenario,
+            final LoadTestUser user,
+            final LoadTestUser target,
+            final SplittableRandom random
+    ) {
+        final Long dayLogId = user.dayLogIds().get(random.nextInt(user.dayLogIds().size()));
+        return switch (scenario) {
+            case TRIPS -> client.send("GET", "/trips", null, user);
+            case TRIP -> client.send("GET", "/trips/" + user.tripId(), null, user);
+            case LEDGER -> client.send("GET", "/trips/" + user.tripId() + "/expense", null, user);
+            case DAY_LOG -> client.send("GET", "/trips/" + user.tripId() + "/daylogs/" + dayLogId, null, user);
+            case COMMUNITY_TRIPS -> client.send("GET", "/community/trips?page=1&size=10", null, user);
+            case COMMUNITY_TRIP -> client.send("GET", "/community/trips/" + target.tripId(), null, user);
+            case RECOMMENDS -> client.send("GET", "/community/recommends", null, user);
+            case SHARED_TRIP -> client.send("GET", "/shared-trips/" + target.sharedCode(), null, null);
+            case UPDATE_DAY_LOG_TITLE -> client.send(
+                    "PATCH",
+                    "/trips/" + user.tripId() + "/daylogs/" + dayLogId,
+                    "{\"title\":\"부하 테스트 " + random.nextInt(1000) + "\"}",
+                    user
+            );
+            case CREATE_ITEM -> client.send(
+                    "POST",
+                    "/trips/" + user.tripId() + "/items",
+                    LoadTestFixture.itemBody(dayLogId, random),
+                    user
+            );
+            case LIKE -> client.send(
+                    "POST",
+                    "/trips/" + target.tripId() + "/like",
+                    "{\"isLike\":" + random.nextBoolean() + "}",
+                    user
+            );
+        };
+    }
+
+    private LoadTestReport toReport(
+            final List<Map<LoadTestScenario, ScenarioStats>> threadStats,
+            final double elapsedSeconds
+    ) {
+        final Map<LoadTestScenario, ScenarioStats> merged = new EnumMap<>(LoadTestScenario.class);
+        final ScenarioStats total = new ScenarioStats();
+        for (final Map<LoadTestScenario, ScenarioStats> stats : threadStats) {
+            stats.forEach((scenario, scenarioStats) -> {
+                merged.computeIfAbsent(scenario, ignored -> new ScenarioStats()).merge(scenarioStats);
+                total.merge(scenarioStats);
+            });
+        }
+
+        final Map<String, Integer> mix = new LinkedHashMap<>();
+        properties.mix().forEach((scenario, weight) -> mix.put(scenario.getScenarioName(), weight));
+        final Map<String, ScenarioResult> scenarioResults = new LinkedHashMap<>();
+        merged.forEach((scenario, stats) -> scenarioResults.put(scenario.getScenarioName(), stats.toResult(elapsedSeconds)));
+        return new LoadTestReport(
+                users.size(),
+                properties.concurrency(),
+                properties.durationSeconds(),
+                mix,
+                total.toResult(elapsedSeconds),
+                scenarioResults
+        );
+    }
+}
@@ -0,0 +1,41 @@
+package hanglog.loadtest;
+
+import java.util.Arrays;
+
+public enum LoadTestScenario {
+
+    TRIPS("trips", 10),
+    TRIP("trip", 15),
+    LEDGER("ledger", 10),
+    DAY_LOG("day-log", 10),
+    COMMUNITY_TRIPS("community-trips", 15),
+    COMMUNITY_TRIP("community-trip", 10),
+    RECOMMENDS("recommends", 5),
+    SHARED_TRIP("shared-trip", 10),
+    UPDATE_DAY_LOG_TITLE("update-day-log-title", 5),
+    CREATE_ITEM("create-item", 5),
+    LIKE("like", 5);
+
+    private final String scenarioName;
+    private final int defaultWeight;
+
+    LoadTestScenario(final String scenarioName, final int defaultWeight) {
+        this.scenarioName = scenarioName;
+        this.defaultWeight = defaultWeight;
+    }
+
+    public static LoadTestScenario from(final String scenarioName) {
+        return Arrays.stream(values())
+                .filter(scenario -> scenario.scenarioName.equals(scenarioName))
+                .findAny()
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 시나리오입니다: " + scenarioName));
+    }
+
+    public String getScenarioName() {
+        return scenarioName;
+    }
+
+    public int getDefaultWeight() {
+        return defaultWeight;
+    }
+}
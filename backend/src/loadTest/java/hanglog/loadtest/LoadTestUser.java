@@ -0,0 +1,12 @@
+package hanglog.loadtest;
+
+import java.util.List;
+
+public record LoadTestUser(
+        String accessToken,
+        String refreshToken,
+        Long tripId,
+        List<Long> dayLogIds,
+        String sharedCode
+) {
+}
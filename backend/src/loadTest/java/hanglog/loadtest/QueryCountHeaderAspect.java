@@ -0,0 +1,40 @@
+package hanglog.loadtest;
+
+import hanglog.global.detector.LoggingForm;
+import hanglog.global.detector.QueryCounterAop;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@Aspect
+@Component
+@Profile("loadtest")
+@RequiredArgsConstructor
+public class QueryCountHeaderAspect {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+
+    private final QueryCounterAop queryCounterAop;
+
+    @Around("within(@org.springframework.web.bind.annotation.RestController *)")
+    public Object addQueryCountHeader(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final LoggingForm loggingForm = queryCounterAop.getCurrentLoggingForm();
+        final long before = loggingForm.getQueryCounts();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            final ServletRequestAttributes attributes =
+                    (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+            final HttpServletResponse response = attributes == null ? null : attributes.getResponse();
+            if (response != null && !response.isCommitted()) {
+                response.setHeader(QUERY_COUNT_HEADER, String.valueOf(loggingForm.getQueryCounts() - before));
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package hanglog.loadtest;
+
+public record ScenarioResult(
+        long requests,
+        long errors,
+        double throughput,
+        double p50Millis,
+        double p99Millis,
+        double p999Millis,
+        double queriesPerRequest
+) {
+}
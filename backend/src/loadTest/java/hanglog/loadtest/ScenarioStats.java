@@ -0,0 +1,59 @@
+package hanglog.loadtest;
+
+import java.util.Arrays;
+
+public class ScenarioStats {
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private long errors;
+    private long queryCountSum;
+    private long queryCountSamples;
+
+    public void record(final long latencyNanos, final boolean successful, final long queryCount) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        if (!successful) {
+            errors++;
+        }
+        if (queryCount >= 0) {
+            queryCountSum += queryCount;
+            queryCountSamples++;
+        }
+    }
+
+    public void merge(final ScenarioStats other) {
+        if (count + other.count > latencies.length) {
+            latencies = Arrays.copyOf(latencies, count + other.count);
+        }
+        System.arraycopy(other.latencies, 0, latencies, count, other.count);
+        count += other.count;
+        errors += other.errors;
+        queryCountSum += other.queryCountSum;
+        queryCountSamples += other.queryCountSamples;
+    }
+
+    public ScenarioResult toResult(final double elapsedSeconds) {
+        final long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return new ScenarioResult(
+                count,
+                errors,
+                count / elapsedSeconds,
+                percentileMillis(sorted, 0.5),
+                percentileMillis(sorted, 0.99),
+                percentileMillis(sorted, 0.999),
+                queryCountSamples == 0 ? 0 : (double) queryCountSum / queryCountSamples
+        );
+    }
+
+    private static double percentileMillis(final long[] sorted, final double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        final int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
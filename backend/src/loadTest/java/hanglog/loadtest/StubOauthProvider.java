@@ -0,0 +1,38 @@
+package hanglog.loadtest;
+
+import hanglog.login.domain.OauthProvider;
+import hanglog.login.domain.OauthUserInfo;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("loadtest")
+public class StubOauthProvider implements OauthProvider {
+
+    public static final String PROVIDER_NAME = "loadtest";
+
+    @Override
+    public boolean is(final String name) {
+        return PROVIDER_NAME.equals(name);
+    }
+
+    @Override
+    public OauthUserInfo getUserInfo(final String code) {
+        return new OauthUserInfo() {
+            @Override
+            public String getSocialLoginId() {
+                return code;
+            }
+
+            @Override
+            public String getNickname() {
+                return code;
+            }
+
+            @Override
+            public String getImageUrl() {
+                return "https://hanglog.com/img/default-image.png";
+            }
+        };
+    }
+}
@@ -8,6 +8,8 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -15,6 +17,10 @@ import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
 @Entity
+@Table(indexes = @Index(
+        name = "idx_published_trip_status_created_at_id",
+        columnList = "status, createdAt, id"
+))
 @Getter
 @AllArgsConstructor
 @SQLDelete(sql = "UPDATE published_trip SET status = 'DELETED' WHERE id = ?")
@@ -0,0 +1,44 @@
+package hanglog.community.domain;
+
+import static hanglog.global.exception.ExceptionCode.INVALID_COMMUNITY_CURSOR;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.time.temporal.ChronoUnit.MICROS;
+
+import hanglog.global.exception.BadRequestException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PublishedTripCursor {
+
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime publishedAt;
+    private final Long id;
+
+    public static PublishedTripCursor from(final PublishedTrip publishedTrip) {
+        return new PublishedTripCursor(publishedTrip.getCreatedAt().truncatedTo(MICROS), publishedTrip.getId());
+    }
+
+    public static PublishedTripCursor decode(final String cursor) {
+        try {
+            final String decoded = new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+            final String[] values = decoded.split(DELIMITER);
+            if (values.length != 2) {
+                throw new BadRequestException(INVALID_COMMUNITY_CURSOR);
+            }
+            return new PublishedTripCursor(LocalDateTime.parse(values[0]), Long.parseLong(values[1]));
+        } catch (final IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException(INVALID_COMMUNITY_CURSOR);
+        }
+    }
+
+    public String encode() {
+        final String value = publishedAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(UTF_8));
+    }
+}
@@ -0,0 +1,121 @@
+package hanglog.community.domain;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+public class TrendingScores {
+
+    private static final double HALF_LIFE_SECONDS = Duration.ofDays(3).toSeconds();
+    private static final double DECAY_RATE = Math.log(2) / HALF_LIFE_SECONDS;
+    private static final double MAX_EXPONENT = 500;
+
+    private static final Comparator<TrendingScore> RANKING = Comparator
+            .comparingDouble(TrendingScore::getScore).reversed()
+            .thenComparing(TrendingScore::getTripId, Comparator.reverseOrder());
+
+    @Getter
+    private final LocalDateTime baseTime;
+    private final Map<Long, TrendingScore> scoreByTrip = new ConcurrentHashMap<>();
+    private final NavigableSet<TrendingScore> ranking = new ConcurrentSkipListSet<>(RANKING);
+
+    public TrendingScores(final LocalDateTime baseTime) {
+        this.baseTime = baseTime;
+    }
+
+    public boolean canAdd(final LocalDateTime likedAt) {
+        return getExponent(likedAt) <= MAX_EXPONENT;
+    }
+
+    public void add(final Long tripId, final LocalDateTime likedAt) {
+        addScore(tripId, Math.exp(getExponent(likedAt)));
+    }
+
+    public void subtract(final Long tripId, final LocalDateTime likedAt) {
+        final TrendingScore previous = scoreByTrip.get(tripId);
+        if (previous == null) {
+            return;
+        }
+        final double score = previous.getScore() - Math.exp(getExponent(likedAt));
+        if (score <= 0) {
+            remove(tripId);
+            return;
+        }
+        final TrendingScore next = new TrendingScore(tripId, score);
+        ranking.add(next);
+        scoreByTrip.put(tripId, next);
+        ranking.remove(previous);
+    }
+
+    public void remove(final Long tripId) {
+        final TrendingScore trendingScore = scoreByTrip.remove(tripId);
+        if (trendingScore != null) {
+            ranking.remove(trendingScore);
+        }
+    }
+
+    public List<Long> findTopTripIds(final int size) {
+        return ranking.stream()
+                .map(TrendingScore::getTripId)
+                .distinct()
+                .limit(size)
+                .toList();
+    }
+
+    public double getScore(final Long tripId, final LocalDateTime now) {
+        final TrendingScore trendingScore = scoreByTrip.get(tripId);
+        if (trendingScore == null) {
+            return 0;
+        }
+        return trendingScore.getScore() * Math.exp(-getExponent(now));
+    }
+
+    public TrendingScores rebase(final LocalDateTime newBaseTime) {
+        final TrendingScores rebased = new TrendingScores(newBaseTime);
+        final double scale = Math.exp(-DECAY_RATE * secondsBetween(baseTime, newBaseTime));
+        scoreByTrip.values().forEach(trendingScore ->
+                rebased.addScore(trendingScore.getTripId(), trendingScore.getScore() * scale)
+        );
+        return rebased;
+    }
+
+    public int size() {
+        return scoreByTrip.size();
+    }
+
+    private void addScore(final Long tripId, final double score) {
+        final TrendingScore previous = scoreByTrip.get(tripId);
+        final double previousScore = previous == null ? 0 : previous.getScore();
+        final TrendingScore next = new TrendingScore(tripId, previousScore + score);
+        ranking.add(next);
+        scoreByTrip.put(tripId, next);
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+    }
+
+    private double getExponent(final LocalDateTime time) {
+        return DECAY_RATE * secondsBetween(baseTime, time);
+    }
+
+    private static double secondsBetween(final LocalDateTime from, final LocalDateTime to) {
+        return Duration.between(from, to).toMillis() / 1000.0;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class TrendingScore {
+
+        private final Long tripId;
+        private final double score;
+    }
+}
@@ -0,0 +1,35 @@
+package hanglog.community.domain.recommendstrategy;
+
+import hanglog.community.dto.response.CommunityTripResponse;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class RecommendSnapshot {
+
+    private final String title;
+    private final List<Long> tripIds;
+    private final List<CommunityTripResponse> trips;
+    private final LocalDateTime createdAt;
+
+    public RecommendSnapshot(
+            final String title,
+            final List<CommunityTripResponse> trips,
+            final LocalDateTime createdAt
+    ) {
+        this.title = title;
+        this.tripIds = trips.stream()
+                .map(CommunityTripResponse::getId)
+                .toList();
+        this.trips = List.copyOf(trips);
+        this.createdAt = createdAt;
+    }
+
+    public RecommendSnapshot without(final List<Long> removedTripIds) {
+        final List<CommunityTripResponse> remainingTrips = trips.stream()
+                .filter(trip -> !removedTripIds.contains(trip.getId()))
+                .toList();
+        return new RecommendSnapshot(title, remainingTrips, createdAt);
+    }
+}
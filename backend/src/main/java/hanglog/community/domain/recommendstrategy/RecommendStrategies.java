@@ -3,6 +3,11 @@ package hanglog.community.domain.recommendstrategy;
 import hanglog.global.exception.ExceptionCode;
 import hanglog.global.exception.InvalidDomainException;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -11,6 +16,7 @@ import org.springframework.stereotype.Component;
 public class RecommendStrategies {
 
     private final List<RecommendStrategy> recommendStrategies;
+    private final AtomicReference<Map<RecommendType, RecommendSnapshot>> snapshots = new AtomicReference<>(Map.of());
 
     public RecommendStrategy mapByRecommendType(final RecommendType recommendType) {
         return recommendStrategies.stream()
@@ -18,4 +24,21 @@ public class RecommendStrategies {
                 .findFirst()
                 .orElseThrow(() -> new InvalidDomainException(ExceptionCode.NOT_FOUND_RECOMMEND_TRIP_STRATEGY));
     }
+
+    public Optional<RecommendSnapshot> findSnapshot(final RecommendType recommendType) {
+        return Optional.ofNullable(snapshots.get().get(recommendType));
+    }
+
+    public Map<RecommendType, RecommendSnapshot> getSnapshots() {
+        return snapshots.get();
+    }
+
+    public void replaceSnapshots(final Map<RecommendType, RecommendSnapshot> newSnapshots) {
+        snapshots.set(Map.copyOf(newSnapshots));
+    }
+
+    public void removeFromSnapshots(final List<Long> tripIds) {
+        snapshots.updateAndGet(current -> current.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Entry::getKey, entry -> entry.getValue().without(tripIds))));
+    }
 }
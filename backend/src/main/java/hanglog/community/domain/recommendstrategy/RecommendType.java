@@ -1,5 +1,6 @@
 package hanglog.community.domain.recommendstrategy;
 
 public enum RecommendType {
-    LIKE
+    LIKE,
+    TRENDING
 }
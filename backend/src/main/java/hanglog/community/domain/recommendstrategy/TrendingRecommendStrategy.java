@@ -0,0 +1,51 @@
+package hanglog.community.domain.recommendstrategy;
+
+import static hanglog.community.domain.recommendstrategy.RecommendType.TRENDING;
+
+import hanglog.community.infrastructure.TrendingScoreIndex;
+import hanglog.trip.domain.Trip;
+import hanglog.trip.domain.repository.TripRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class TrendingRecommendStrategy implements RecommendStrategy {
+
+    private static final String TITLE = "요즘 뜨고 있는 여행들이에요";
+    private static final int CANDIDATE_MULTIPLIER = 2;
+
+    private final TrendingScoreIndex trendingScoreIndex;
+    private final TripRepository tripRepository;
+
+    @Override
+    public List<Trip> recommend(final Pageable pageable) {
+        final List<Long> tripIds = trendingScoreIndex.findTopTripIds(pageable.getPageSize() * CANDIDATE_MULTIPLIER);
+        if (tripIds.isEmpty()) {
+            return List.of();
+        }
+        final Map<Long, Trip> tripById = tripRepository.findPublishedTripsByIds(tripIds).stream()
+                .collect(Collectors.toMap(Trip::getId, Function.identity()));
+        return tripIds.stream()
+                .map(tripById::get)
+                .filter(Objects::nonNull)
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+
+    @Override
+    public boolean isType(final RecommendType recommendType) {
+        return TRENDING.equals(recommendType);
+    }
+
+    @Override
+    public String getTitle() {
+        return TITLE;
+    }
+}
@@ -1,8 +1,10 @@
 package hanglog.community.domain.repository;
 
 import hanglog.community.domain.PublishedTrip;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -14,13 +16,46 @@ public interface PublishedTripRepository extends JpaRepository<PublishedTrip, Lo
 
     Optional<PublishedTrip> findByTripId(final Long tripId);
 
+    @Query("""
+            SELECT publishedTrip FROM PublishedTrip publishedTrip
+            ORDER BY publishedTrip.createdAt DESC, publishedTrip.id DESC
+            """)
+    List<PublishedTrip> findLatest(final Pageable pageable);
+
+    @Query("""
+            SELECT publishedTrip FROM PublishedTrip publishedTrip
+            WHERE publishedTrip.createdAt < :publishedAt
+            OR (publishedTrip.createdAt = :publishedAt AND publishedTrip.id < :id)
+            ORDER BY publishedTrip.createdAt DESC, publishedTrip.id DESC
+            """)
+    List<PublishedTrip> findLatestBefore(
+            @Param("publishedAt") final LocalDateTime publishedAt,
+            @Param("id") final Long id,
+            final Pageable pageable
+    );
+
     @Modifying
     @Query("""
             UPDATE PublishedTrip publishedTrip
             SET publishedTrip.status = 'DELETED'
-            WHERE publishedTrip.tripId = :tripId
+            WHERE publishedTrip.tripId = :tripId AND publishedTrip.status = 'USABLE'
             """)
-    void deleteByTripId(@Param("tripId") final Long tripId);
+    int deleteByTripId(@Param("tripId") final Long tripId);
+
+    // 다시 공개할 때 처음 공개된 행을 되살려 공개 시점과 피드 위치를 유지한다.
+    @Modifying
+    @Query(value = """
+            UPDATE published_trip
+            SET status = 'USABLE'
+            WHERE id = (
+                SELECT earliest.id FROM (
+                    SELECT MIN(p.id) AS id
+                    FROM published_trip p
+                    WHERE p.trip_id = :tripId AND p.status = 'DELETED'
+                ) earliest
+            )
+            """, nativeQuery = true)
+    int restoreByTripId(@Param("tripId") final Long tripId);
 
     @Modifying
     @Query("""
@@ -0,0 +1,13 @@
+package hanglog.community.dto.response;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class CommunityTripCursorResponse {
+
+    private final List<CommunityTripResponse> trips;
+    private final String nextCursor;
+}
@@ -49,4 +49,19 @@ public class CommunityTripResponse {
                 likeCount
         );
     }
+
+    public CommunityTripResponse withLike(final boolean isLike, final Long likeCount) {
+        return new CommunityTripResponse(
+                id,
+                cities,
+                writer,
+                title,
+                startDate,
+                endDate,
+                description,
+                imageName,
+                isLike,
+                likeCount
+        );
+    }
 }
@@ -0,0 +1,82 @@
+package hanglog.community.infrastructure;
+
+import static hanglog.trip.domain.type.PublishedStatusType.PUBLISHED;
+
+import hanglog.trip.domain.repository.TripRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@RequiredArgsConstructor
+public class PublishedTripCounter {
+
+    private static final long UNKNOWN = -1L;
+
+    private final TripRepository tripRepository;
+
+    private volatile long count = UNKNOWN;
+    private long version;
+
+    public long getCount() {
+        final long cachedCount = count;
+        if (cachedCount != UNKNOWN) {
+            return cachedCount;
+        }
+        return load();
+    }
+
+    public synchronized void increase() {
+        version++;
+        if (count != UNKNOWN) {
+            count++;
+        }
+    }
+
+    public synchronized void decrease() {
+        version++;
+        if (count > 0) {
+            count--;
+        }
+    }
+
+    public void decreaseOnCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            decrease();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                decrease();
+            }
+        });
+    }
+
+    public synchronized void invalidate() {
+        version++;
+        count = UNKNOWN;
+    }
+
+    @Scheduled(cron = "0 */10 * * * *")
+    public void reconcile() {
+        invalidate();
+        load();
+    }
+
+    private long load() {
+        final long loadedVersion;
+        synchronized (this) {
+            loadedVersion = version;
+        }
+        final long loadedCount = tripRepository.countTripByPublishedStatus(PUBLISHED);
+        synchronized (this) {
+            if (version == loadedVersion) {
+                count = loadedCount;
+            }
+        }
+        return loadedCount;
+    }
+}
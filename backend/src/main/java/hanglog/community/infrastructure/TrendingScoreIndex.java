@@ -0,0 +1,86 @@
+package hanglog.community.infrastructure;
+
+import hanglog.community.domain.TrendingScores;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TrendingScoreIndex {
+
+    private final List<UnaryOperator<TrendingScores>> changesDuringRebuild = new ArrayList<>();
+    private volatile TrendingScores trendingScores = new TrendingScores(LocalDateTime.now());
+    private LocalDateTime rebuildTime;
+
+    public synchronized void addLikes(final List<Long> tripIds, final LocalDateTime likedAt) {
+        trendingScores = addLikes(trendingScores, tripIds, likedAt);
+        // 재계산 기준 시각 이후의 좋아요는 재계산 결과에 없으므로 교체할 때 다시 더한다.
+        if (rebuildTime != null && !likedAt.isBefore(rebuildTime)) {
+            changesDuringRebuild.add(scores -> addLikes(scores, tripIds, likedAt));
+        }
+    }
+
+    private static TrendingScores addLikes(
+            final TrendingScores scores,
+            final List<Long> tripIds,
+            final LocalDateTime likedAt
+    ) {
+        final TrendingScores target = scores.canAdd(likedAt) ? scores : scores.rebase(likedAt);
+        tripIds.forEach(tripId -> target.add(tripId, likedAt));
+        return target;
+    }
+
+    // 재계산 조회가 취소된 좋아요를 읽었는지 알 수 없으므로 항상 다시 뺀다. 점수는 0 아래로 내려가지 않고 다음 재계산에서 바로잡힌다.
+    public synchronized void removeLike(final Long tripId, final LocalDateTime likedAt) {
+        trendingScores = subtractLike(trendingScores, tripId, likedAt);
+        if (rebuildTime != null) {
+            changesDuringRebuild.add(scores -> subtractLike(scores, tripId, likedAt));
+        }
+    }
+
+    private static TrendingScores subtractLike(
+            final TrendingScores scores,
+            final Long tripId,
+            final LocalDateTime likedAt
+    ) {
+        final TrendingScores target = scores.canAdd(likedAt) ? scores : scores.rebase(likedAt);
+        target.subtract(tripId, likedAt);
+        return target;
+    }
+
+    public synchronized void removeAll(final List<Long> tripIds) {
+        tripIds.forEach(trendingScores::remove);
+        if (rebuildTime != null) {
+            changesDuringRebuild.add(scores -> {
+                tripIds.forEach(scores::remove);
+                return scores;
+            });
+        }
+    }
+
+    public synchronized LocalDateTime startRebuild() {
+        rebuildTime = LocalDateTime.now();
+        changesDuringRebuild.clear();
+        return rebuildTime;
+    }
+
+    public synchronized void cancelRebuild() {
+        rebuildTime = null;
+        changesDuringRebuild.clear();
+    }
+
+    public synchronized void replace(final TrendingScores newTrendingScores) {
+        TrendingScores replaced = newTrendingScores;
+        for (final UnaryOperator<TrendingScores> change : changesDuringRebuild) {
+            replaced = change.apply(replaced);
+        }
+        trendingScores = replaced;
+        cancelRebuild();
+    }
+
+    public List<Long> findTopTripIds(final int size) {
+        return trendingScores.findTopTripIds(size);
+    }
+}
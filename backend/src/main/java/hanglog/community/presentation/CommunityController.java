@@ -4,6 +4,8 @@ import static org.springframework.data.domain.Sort.Direction.DESC;
 
 import hanglog.auth.Auth;
 import hanglog.auth.domain.Accessor;
+import hanglog.community.domain.recommendstrategy.RecommendType;
+import hanglog.community.dto.response.CommunityTripCursorResponse;
 import hanglog.community.dto.response.CommunityTripListResponse;
 import hanglog.community.dto.response.RecommendTripListResponse;
 import hanglog.community.service.CommunityService;
@@ -17,6 +19,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -36,9 +39,26 @@ public class CommunityController {
         return ResponseEntity.ok().body(communityTripListResponse);
     }
 
+    @GetMapping(value = "/trips", params = "cursor")
+    public ResponseEntity<CommunityTripCursorResponse> getTripsByCursor(
+            @Auth final Accessor accessor,
+            @RequestParam final String cursor,
+            @RequestParam(defaultValue = "10") final int size
+    ) {
+        final CommunityTripCursorResponse communityTripCursorResponse = communityService.getCommunityTripsByCursor(
+                accessor,
+                cursor,
+                size
+        );
+        return ResponseEntity.ok().body(communityTripCursorResponse);
+    }
+
     @GetMapping("/recommends")
-    public ResponseEntity<RecommendTripListResponse> getRecommendTrips(@Auth final Accessor accessor) {
-        final RecommendTripListResponse tripResponses = communityService.getRecommendTrips(accessor);
+    public ResponseEntity<RecommendTripListResponse> getRecommendTrips(
+            @Auth final Accessor accessor,
+            @RequestParam(defaultValue = "LIKE") final RecommendType type
+    ) {
+        final RecommendTripListResponse tripResponses = communityService.getRecommendTrips(accessor, type);
         return ResponseEntity.ok().body(tripResponses);
     }
 
@@ -1,30 +1,40 @@
 package hanglog.community.service;
 
-import static hanglog.community.domain.recommendstrategy.RecommendType.LIKE;
+import static hanglog.global.exception.ExceptionCode.INVALID_COMMUNITY_PAGE_SIZE;
 import static hanglog.global.exception.ExceptionCode.NOT_FOUND_TRIP_ID;
-import static hanglog.trip.domain.type.PublishedStatusType.PUBLISHED;
 
 import hanglog.auth.domain.Accessor;
 import hanglog.city.domain.City;
 import hanglog.city.domain.repository.CityRepository;
+import hanglog.community.domain.PublishedTrip;
+import hanglog.community.domain.PublishedTripCursor;
+import hanglog.community.domain.recommendstrategy.RecommendSnapshot;
 import hanglog.community.domain.recommendstrategy.RecommendStrategies;
 import hanglog.community.domain.recommendstrategy.RecommendStrategy;
+import hanglog.community.domain.recommendstrategy.RecommendType;
 import hanglog.community.domain.repository.PublishedTripRepository;
+import hanglog.community.infrastructure.PublishedTripCounter;
+import hanglog.community.dto.response.CommunityTripCursorResponse;
 import hanglog.community.dto.response.CommunityTripListResponse;
 import hanglog.community.dto.response.CommunityTripResponse;
 import hanglog.community.dto.response.RecommendTripListResponse;
 import hanglog.global.exception.BadRequestException;
 import hanglog.like.domain.LikeInfo;
 import hanglog.like.dto.LikeElements;
+import hanglog.like.infrastructure.LikeBuffer;
 import hanglog.like.repository.LikeRepository;
 import hanglog.trip.domain.Trip;
 import hanglog.trip.domain.repository.TripCityRepository;
+import hanglog.trip.domain.repository.TripGraphRepository;
 import hanglog.trip.domain.repository.TripRepository;
 import hanglog.trip.dto.TripCityElements;
 import hanglog.trip.dto.response.TripDetailResponse;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
@@ -38,13 +48,17 @@ import org.springframework.transaction.annotation.Transactional;
 public class CommunityService {
 
     private static final int RECOMMEND_AMOUNT = 5;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
 
     private final LikeRepository likeRepository;
+    private final LikeBuffer likeBuffer;
     private final TripRepository tripRepository;
+    private final TripGraphRepository tripGraphRepository;
     private final TripCityRepository tripCityRepository;
     private final CityRepository cityRepository;
     private final RecommendStrategies recommendStrategies;
     private final PublishedTripRepository publishedTripRepository;
+    private final PublishedTripCounter publishedTripCounter;
 
     @Transactional(readOnly = true)
     public CommunityTripListResponse getCommunityTripsByPage(final Accessor accessor, final Pageable pageable) {
@@ -55,14 +69,97 @@ public class CommunityService {
     }
 
     @Transactional(readOnly = true)
-    public RecommendTripListResponse getRecommendTrips(final Accessor accessor) {
-        final RecommendStrategy recommendStrategy = recommendStrategies.mapByRecommendType(LIKE);
+    public CommunityTripCursorResponse getCommunityTripsByCursor(
+            final Accessor accessor,
+            final String cursor,
+            final int size
+    ) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new BadRequestException(INVALID_COMMUNITY_PAGE_SIZE);
+        }
+        final List<PublishedTrip> publishedTrips = findPublishedTrips(cursor, Pageable.ofSize(size + 1));
+        final List<PublishedTrip> pagePublishedTrips = publishedTrips.stream().limit(size).toList();
+        final List<Trip> trips = findPublishedTripsInOrder(pagePublishedTrips);
+        final List<CommunityTripResponse> communityTripResponses = getCommunityTripResponses(accessor, trips);
+
+        if (publishedTrips.size() <= size) {
+            return new CommunityTripCursorResponse(communityTripResponses, null);
+        }
+        final PublishedTrip last = pagePublishedTrips.get(size - 1);
+        return new CommunityTripCursorResponse(communityTripResponses, PublishedTripCursor.from(last).encode());
+    }
+
+    private List<PublishedTrip> findPublishedTrips(final String cursor, final Pageable pageable) {
+        if (cursor == null || cursor.isBlank()) {
+            return publishedTripRepository.findLatest(pageable);
+        }
+        final PublishedTripCursor publishedTripCursor = PublishedTripCursor.decode(cursor);
+        return publishedTripRepository.findLatestBefore(
+                publishedTripCursor.getPublishedAt(),
+                publishedTripCursor.getId(),
+                pageable
+        );
+    }
+
+    private List<Trip> findPublishedTripsInOrder(final List<PublishedTrip> publishedTrips) {
+        final List<Long> tripIds = publishedTrips.stream()
+                .map(PublishedTrip::getTripId)
+                .toList();
+        final Map<Long, Trip> tripById = tripRepository.findPublishedTripsByIds(tripIds).stream()
+                .collect(Collectors.toMap(Trip::getId, Function.identity()));
+        return tripIds.stream()
+                .map(tripById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public RecommendTripListResponse getRecommendTrips(final Accessor accessor, final RecommendType recommendType) {
+        return recommendStrategies.findSnapshot(recommendType)
+                .map(recommendSnapshot -> getSnapshotRecommendTrips(accessor, recommendSnapshot))
+                .orElseGet(() -> getLiveRecommendTrips(accessor, recommendType));
+    }
+
+    @Transactional(readOnly = true)
+    public RecommendSnapshot createRecommendSnapshot(final RecommendType recommendType) {
+        final RecommendTripListResponse response = getLiveRecommendTrips(Accessor.guest(), recommendType);
+        return new RecommendSnapshot(response.getTitle(), response.getTrips(), LocalDateTime.now());
+    }
+
+    private RecommendTripListResponse getLiveRecommendTrips(
+            final Accessor accessor,
+            final RecommendType recommendType
+    ) {
+        final RecommendStrategy recommendStrategy = recommendStrategies.mapByRecommendType(recommendType);
         final Pageable pageable = Pageable.ofSize(RECOMMEND_AMOUNT);
         final List<Trip> trips = recommendStrategy.recommend(pageable);
         final List<CommunityTripResponse> communityTripResponses = getCommunityTripResponses(accessor, trips);
         return new RecommendTripListResponse(recommendStrategy.getTitle(), communityTripResponses);
     }
 
+    private RecommendTripListResponse getSnapshotRecommendTrips(
+            final Accessor accessor,
+            final RecommendSnapshot recommendSnapshot
+    ) {
+        if (!accessor.isMember()) {
+            return new RecommendTripListResponse(recommendSnapshot.getTitle(), recommendSnapshot.getTrips());
+        }
+        final List<Long> tripIds = recommendSnapshot.getTripIds();
+        final LikeElements likeElements = new LikeElements(likeBuffer.overlay(
+                accessor.getMemberId(),
+                tripIds,
+                likeRepository.findLikeCountAndIsLikeByTripIds(accessor.getMemberId(), tripIds)
+        ));
+        final Map<Long, LikeInfo> likeInfoByTrip = likeElements.toLikeMap();
+
+        final List<CommunityTripResponse> communityTripResponses = recommendSnapshot.getTrips().stream()
+                .map(trip -> trip.withLike(
+                        isLike(likeInfoByTrip, trip.getId()),
+                        getLikeCount(likeInfoByTrip, trip.getId())
+                )).toList();
+        return new RecommendTripListResponse(recommendSnapshot.getTitle(), communityTripResponses);
+    }
+
     private List<CommunityTripResponse> getCommunityTripResponses(final Accessor accessor, final List<Trip> trips) {
         final List<Long> tripIds = trips.stream().map(Trip::getId).toList();
 
@@ -71,9 +168,10 @@ public class CommunityService {
         );
         final Map<Long, List<City>> citiesByTrip = tripCityElements.toCityMap();
 
-        final LikeElements likeElements = new LikeElements(likeRepository.findLikeCountAndIsLikeByTripIds(
+        final LikeElements likeElements = new LikeElements(likeBuffer.overlay(
                 accessor.getMemberId(),
-                tripIds
+                tripIds,
+                likeRepository.findLikeCountAndIsLikeByTripIds(accessor.getMemberId(), tripIds)
         ));
         final Map<Long, LikeInfo> likeInfoByTrip = likeElements.toLikeMap();
 
@@ -103,7 +201,7 @@ public class CommunityService {
     }
 
     private Long getLastPageIndex(final int pageSize) {
-        final Long totalTripCount = tripRepository.countTripByPublishedStatus(PUBLISHED);
+        final long totalTripCount = publishedTripCounter.getCount();
         final long lastPageIndex = totalTripCount / pageSize;
         if (totalTripCount % pageSize == 0) {
             return lastPageIndex;
@@ -113,15 +211,16 @@ public class CommunityService {
 
     @Transactional(readOnly = true)
     public TripDetailResponse getTripDetail(final Accessor accessor, final Long tripId) {
-        final Trip trip = tripRepository.findById(tripId)
+        final Trip trip = tripGraphRepository.findById(tripId)
                 .orElseThrow(() -> new BadRequestException(NOT_FOUND_TRIP_ID));
         final List<City> cities = cityRepository.findCitiesByTripId(tripId);
         final LocalDateTime publishedDate = publishedTripRepository.findByTripId(tripId)
                 .orElseThrow(() -> new BadRequestException(NOT_FOUND_TRIP_ID))
                 .getCreatedAt();
-        final LikeElements likeElements = new LikeElements(likeRepository.findLikeCountAndIsLikeByTripIds(
+        final LikeElements likeElements = new LikeElements(likeBuffer.overlay(
                 accessor.getMemberId(),
-                List.of(tripId)
+                List.of(tripId),
+                likeRepository.findLikeCountAndIsLikeByTripIds(accessor.getMemberId(), List.of(tripId))
         ));
         final Map<Long, LikeInfo> likeInfoByTrip = likeElements.toLikeMap();
         final Boolean isWriter = trip.isWriter(accessor.getMemberId());
@@ -0,0 +1,85 @@
+package hanglog.community.service;
+
+import hanglog.community.domain.recommendstrategy.RecommendSnapshot;
+import hanglog.community.domain.recommendstrategy.RecommendStrategies;
+import hanglog.community.domain.recommendstrategy.RecommendType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class RecommendSnapshotService {
+
+    private static final long LIKE_CHANGE_THRESHOLD = 100;
+
+    private final CommunityService communityService;
+    private final RecommendStrategies recommendStrategies;
+    private final Timer rebuildTimer;
+    private final AtomicLong likeChangeCount = new AtomicLong();
+
+    public RecommendSnapshotService(
+            final CommunityService communityService,
+            final RecommendStrategies recommendStrategies,
+            final MeterRegistry meterRegistry
+    ) {
+        this.communityService = communityService;
+        this.recommendStrategies = recommendStrategies;
+        this.rebuildTimer = Timer.builder("community.recommend.snapshot.rebuild")
+                .description("Time taken to rebuild recommend snapshots")
+                .register(meterRegistry);
+        TimeGauge.builder(
+                        "community.recommend.snapshot.staleness",
+                        this,
+                        TimeUnit.MILLISECONDS,
+                        RecommendSnapshotService::getStalenessMillis
+                )
+                .description("Age of the oldest recommend snapshot")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public synchronized void rebuild() {
+        likeChangeCount.set(0);
+        rebuildTimer.record(() -> {
+            final Map<RecommendType, RecommendSnapshot> snapshots = new EnumMap<>(RecommendType.class);
+            for (final RecommendType recommendType : RecommendType.values()) {
+                snapshots.put(recommendType, communityService.createRecommendSnapshot(recommendType));
+            }
+            recommendStrategies.replaceSnapshots(snapshots);
+        });
+    }
+
+    public void addLikeChanges(final int count) {
+        likeChangeCount.addAndGet(count);
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void rebuildIfLikesChanged() {
+        if (likeChangeCount.get() < LIKE_CHANGE_THRESHOLD) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (final RuntimeException e) {
+            log.warn("recommend snapshot rebuild failed", e);
+        }
+    }
+
+    private double getStalenessMillis() {
+        return recommendStrategies.getSnapshots().values().stream()
+                .map(RecommendSnapshot::getCreatedAt)
+                .min(LocalDateTime::compareTo)
+                .map(createdAt -> (double) Duration.between(createdAt, LocalDateTime.now()).toMillis())
+                .orElse(Double.NaN);
+    }
+}
@@ -0,0 +1,45 @@
+package hanglog.community.service;
+
+import hanglog.community.domain.TrendingScores;
+import hanglog.community.infrastructure.TrendingScoreIndex;
+import hanglog.like.repository.CustomLikeRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingScoreService {
+
+    private static final Duration REBUILD_WINDOW = Duration.ofDays(30);
+
+    private final CustomLikeRepository customLikeRepository;
+    private final TrendingScoreIndex trendingScoreIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0 5 * * *")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        final LocalDateTime rebuildTime = trendingScoreIndex.startRebuild();
+        final TrendingScores trendingScores = new TrendingScores(rebuildTime);
+        try {
+            customLikeRepository.findPublishedTripLikesBetween(
+                    rebuildTime.minus(REBUILD_WINDOW),
+                    rebuildTime,
+                    trendingScores::add
+            );
+        } catch (final RuntimeException e) {
+            trendingScoreIndex.cancelRebuild();
+            throw e;
+        }
+        trendingScoreIndex.replace(trendingScores);
+        log.info("trending scores rebuilt for {} trips", trendingScores.size());
+    }
+}
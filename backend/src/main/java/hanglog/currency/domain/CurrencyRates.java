@@ -0,0 +1,122 @@
+package hanglog.currency.domain;
+
+import static hanglog.currency.domain.type.CurrencyType.CHF;
+import static hanglog.currency.domain.type.CurrencyType.CNY;
+import static hanglog.currency.domain.type.CurrencyType.EUR;
+import static hanglog.currency.domain.type.CurrencyType.GBP;
+import static hanglog.currency.domain.type.CurrencyType.HKD;
+import static hanglog.currency.domain.type.CurrencyType.JPY;
+import static hanglog.currency.domain.type.CurrencyType.KRW;
+import static hanglog.currency.domain.type.CurrencyType.SGD;
+import static hanglog.currency.domain.type.CurrencyType.THB;
+import static hanglog.currency.domain.type.CurrencyType.USD;
+
+import hanglog.currency.domain.type.CurrencyType;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class CurrencyRates {
+
+    private static final List<CurrencyType> STORED_TYPES = List.of(USD, EUR, GBP, JPY, CNY, CHF, SGD, THB, HKD, KRW);
+    private static final int NOT_FOUND = -1;
+
+    private final long[] ids;
+    private final long[] epochDays;
+    private final Map<CurrencyType, double[]> rates;
+
+    private CurrencyRates(final long[] ids, final long[] epochDays, final Map<CurrencyType, double[]> rates) {
+        this.ids = ids;
+        this.epochDays = epochDays;
+        this.rates = rates;
+    }
+
+    public static CurrencyRates from(final List<Currency> currencies) {
+        final List<Currency> sortedCurrencies = currencies.stream()
+                .sorted(Comparator.comparing(Currency::getDate))
+                .toList();
+        final int size = sortedCurrencies.size();
+        final long[] ids = new long[size];
+        final long[] epochDays = new long[size];
+        final Map<CurrencyType, double[]> rates = new EnumMap<>(CurrencyType.class);
+        STORED_TYPES.forEach(type -> rates.put(type, new double[size]));
+
+        for (int i = 0; i < size; i++) {
+            final Currency currency = sortedCurrencies.get(i);
+            ids[i] = currency.getId();
+            epochDays[i] = currency.getDate().toEpochDay();
+            for (final CurrencyType type : STORED_TYPES) {
+                rates.get(type)[i] = getStoredRate(type, currency);
+            }
+        }
+        return new CurrencyRates(ids, epochDays, rates);
+    }
+
+    public Optional<Currency> findLatestOnOrBefore(final LocalDate date) {
+        final int index = floorIndex(date.toEpochDay());
+        if (index == NOT_FOUND) {
+            return Optional.empty();
+        }
+        return Optional.of(toCurrency(index));
+    }
+
+    public Optional<Currency> findOldest() {
+        if (isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(toCurrency(0));
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    private int floorIndex(final long epochDay) {
+        final int index = Arrays.binarySearch(epochDays, epochDay);
+        if (index >= 0) {
+            return index;
+        }
+        final int insertionPoint = -index - 1;
+        return insertionPoint == 0 ? NOT_FOUND : insertionPoint - 1;
+    }
+
+    private Currency toCurrency(final int index) {
+        return new Currency(
+                ids[index],
+                LocalDate.ofEpochDay(epochDays[index]),
+                rates.get(USD)[index],
+                rates.get(EUR)[index],
+                rates.get(GBP)[index],
+                rates.get(JPY)[index],
+                rates.get(CNY)[index],
+                rates.get(CHF)[index],
+                rates.get(SGD)[index],
+                rates.get(THB)[index],
+                rates.get(HKD)[index],
+                rates.get(KRW)[index]
+        );
+    }
+
+    private static double getStoredRate(final CurrencyType type, final Currency currency) {
+        return switch (type) {
+            case USD -> currency.getUsd();
+            case EUR -> currency.getEur();
+            case GBP -> currency.getGbp();
+            case JPY -> currency.getJpy();
+            case CNY, CNY_FROM_API -> currency.getCny();
+            case CHF -> currency.getChf();
+            case SGD -> currency.getSgd();
+            case THB -> currency.getThb();
+            case HKD -> currency.getHkd();
+            case KRW -> currency.getKrw();
+        };
+    }
+}
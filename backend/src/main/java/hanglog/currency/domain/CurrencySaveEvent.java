@@ -0,0 +1,12 @@
+package hanglog.currency.domain;
+
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class CurrencySaveEvent {
+
+    private final LocalDate date;
+}
@@ -0,0 +1,49 @@
+package hanglog.currency.infrastructure;
+
+import static hanglog.global.exception.ExceptionCode.NOT_FOUND_CURRENCY_DATA;
+
+import hanglog.currency.domain.Currency;
+import hanglog.currency.domain.CurrencyRates;
+import hanglog.currency.domain.repository.CurrencyRepository;
+import hanglog.global.exception.BadRequestException;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CurrencyRateStore {
+
+    private final CurrencyRepository currencyRepository;
+
+    private volatile CurrencyRates currencyRates;
+
+    public Currency getCurrencyOnOrBefore(final LocalDate date) {
+        final CurrencyRates rates = getCurrencyRates();
+        return rates.findLatestOnOrBefore(date)
+                .or(rates::findOldest)
+                .orElseThrow(() -> new BadRequestException(NOT_FOUND_CURRENCY_DATA));
+    }
+
+    public synchronized void reload() {
+        currencyRates = CurrencyRates.from(currencyRepository.findAll());
+    }
+
+    @Scheduled(fixedDelay = 600_000)
+    public void reloadIfChanged() {
+        final CurrencyRates rates = currencyRates;
+        if (rates == null || rates.size() != currencyRepository.count()) {
+            reload();
+        }
+    }
+
+    private CurrencyRates getCurrencyRates() {
+        final CurrencyRates rates = currencyRates;
+        if (rates != null && !rates.isEmpty()) {
+            return rates;
+        }
+        reload();
+        return currencyRates;
+    }
+}
@@ -17,6 +17,7 @@ import static java.time.DayOfWeek.SATURDAY;
 import static java.time.DayOfWeek.SUNDAY;
 
 import hanglog.currency.domain.Currency;
+import hanglog.currency.domain.CurrencySaveEvent;
 import hanglog.currency.domain.repository.CurrencyRepository;
 import hanglog.currency.domain.type.CurrencyType;
 import hanglog.currency.dto.SingleCurrencyResponse;
@@ -30,6 +31,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -46,14 +48,17 @@ public class CurrencyService {
 
     private final RestTemplate restTemplate;
     private final CurrencyRepository currencyRepository;
+    private final ApplicationEventPublisher publisher;
     private final String authKey;
 
     public CurrencyService(
             final CurrencyRepository currencyRepository,
+            final ApplicationEventPublisher publisher,
             @Value("${currency.auth-key}") final String authKey
     ) {
         this.restTemplate = new RestTemplate();
         this.currencyRepository = currencyRepository;
+        this.publisher = publisher;
         this.authKey = authKey;
     }
 
@@ -84,6 +89,7 @@ public class CurrencyService {
 
         final Currency currency = createCurrency(date, rateOfCurrencyType);
         currencyRepository.save(currency);
+        publisher.publishEvent(new CurrencySaveEvent(date));
     }
 
     private void validateWeekend(final LocalDate date) {
@@ -0,0 +1,32 @@
+package hanglog.expense.domain;
+
+import java.math.BigDecimal;
+import lombok.Getter;
+
+@Getter
+public final class ExchangeRate {
+
+    private static final int MAX_SCALE = 15;
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+            1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+            10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L
+    };
+
+    private final BigDecimal value;
+    private final boolean scaled;
+    private final long unscaledValue;
+    private final long divisor;
+
+    private ExchangeRate(final BigDecimal value) {
+        this.value = value;
+        final BigDecimal normalized = value.scale() < 0 ? value.setScale(0) : value;
+        this.scaled = normalized.scale() <= MAX_SCALE && normalized.precision() < 19;
+        this.unscaledValue = scaled ? normalized.unscaledValue().longValue() : 0L;
+        this.divisor = scaled ? POWERS_OF_TEN[normalized.scale()] : 1L;
+    }
+
+    public static ExchangeRate from(final double rate) {
+        return new ExchangeRate(new BigDecimal(Double.toString(rate)));
+    }
+}
@@ -0,0 +1,88 @@
+package hanglog.expense.domain;
+
+import static java.math.RoundingMode.HALF_UP;
+
+import java.math.BigDecimal;
+
+public final class Money implements Comparable<Money> {
+
+    public static final int SCALE = 3;
+    public static final Money ZERO = new Money(0L);
+
+    private final long value;
+
+    private Money(final long value) {
+        this.value = value;
+    }
+
+    public static Money from(final Amount amount) {
+        return from(amount.getValue());
+    }
+
+    public static Money from(final BigDecimal value) {
+        return new Money(value.setScale(SCALE, HALF_UP).unscaledValue().longValueExact());
+    }
+
+    public Money plus(final Money addend) {
+        return new Money(Math.addExact(value, addend.value));
+    }
+
+    public Money times(final ExchangeRate rate) {
+        if (rate.isScaled()) {
+            final long unscaledRate = rate.getUnscaledValue();
+            final long high = Math.multiplyHigh(value, unscaledRate);
+            final long low = value * unscaledRate;
+            if ((high == 0 && low >= 0) || (high == -1 && low < 0)) {
+                return new Money(divideHalfUp(low, rate.getDivisor()));
+            }
+        }
+        return from(toBigDecimal().multiply(rate.getValue()));
+    }
+
+    private static long divideHalfUp(final long dividend, final long divisor) {
+        final long quotient = dividend / divisor;
+        final long remainder = dividend % divisor;
+        if (Math.abs(remainder) * 2 >= divisor) {
+            return quotient + Long.signum(dividend);
+        }
+        return quotient;
+    }
+
+    long getUnscaledValue() {
+        return value;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(value, SCALE);
+    }
+
+    public Amount toAmount() {
+        return new Amount(toBigDecimal());
+    }
+
+    @Override
+    public int compareTo(final Money target) {
+        return Long.compare(value, target.value);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof final Money target)) {
+            return false;
+        }
+        return value == target.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
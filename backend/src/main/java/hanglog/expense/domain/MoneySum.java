@@ -0,0 +1,54 @@
+package hanglog.expense.domain;
+
+import java.math.BigDecimal;
+
+/**
+ * 환율을 곱한 금액들을 반올림하지 않고 더한 뒤, 합계를 꺼낼 때 한 번만 소수점 셋째 자리로 반올림한다.
+ * 곱셈 결과의 소수점 셋째 자리 아래는 10^-18 단위의 나머지로 들고 있어 long 범위 안에서는 BigDecimal 없이 정확하다.
+ */
+public final class MoneySum {
+
+    private static final int FRACTION_SCALE = 18;
+    private static final long FRACTION_UNIT = 1_000_000_000_000_000L;
+
+    private long units;
+    private long fraction;
+    private BigDecimal exactSum;
+
+    public void add(final Money money, final ExchangeRate rate) {
+        if (exactSum == null && rate.isScaled() && addScaled(money.getUnscaledValue(), rate)) {
+            return;
+        }
+        exactSum = toBigDecimal().add(money.toBigDecimal().multiply(rate.getValue()));
+    }
+
+    private boolean addScaled(final long value, final ExchangeRate rate) {
+        final long unscaledRate = rate.getUnscaledValue();
+        final long high = Math.multiplyHigh(value, unscaledRate);
+        final long product = value * unscaledRate;
+        if (!((high == 0 && product >= 0) || (high == -1 && product < 0))) {
+            return false;
+        }
+        final long divisor = rate.getDivisor();
+        final long nextFraction = fraction + Math.floorMod(product, divisor) * (FRACTION_UNIT / divisor);
+        final long carry = nextFraction / FRACTION_UNIT;
+        try {
+            units = Math.addExact(units, Math.addExact(Math.floorDiv(product, divisor), carry));
+        } catch (final ArithmeticException e) {
+            return false;
+        }
+        fraction = nextFraction % FRACTION_UNIT;
+        return true;
+    }
+
+    public Money toMoney() {
+        return Money.from(toBigDecimal());
+    }
+
+    private BigDecimal toBigDecimal() {
+        if (exactSum != null) {
+            return exactSum;
+        }
+        return BigDecimal.valueOf(units, Money.SCALE).add(BigDecimal.valueOf(fraction, FRACTION_SCALE));
+    }
+}
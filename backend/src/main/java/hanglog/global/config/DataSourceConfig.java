@@ -3,16 +3,32 @@ package hanglog.global.config;
 import static hanglog.global.config.datasource.DataSourceType.REPLICA;
 import static hanglog.global.config.datasource.DataSourceType.SOURCE;
 
+import com.zaxxer.hikari.HikariDataSource;
+import hanglog.global.config.datasource.LeastOutstandingReplicaSelector;
+import hanglog.global.config.datasource.MySqlReplicationLagProbe;
+import hanglog.global.config.datasource.ReadYourWritesTracker;
+import hanglog.global.config.datasource.ReplicaRouter;
+import hanglog.global.config.datasource.ReplicaSelector;
+import hanglog.global.config.datasource.ReplicaTarget;
 import hanglog.global.config.datasource.RoutingDataSource;
+import hanglog.global.config.datasource.WeightedRoundRobinReplicaSelector;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import javax.sql.DataSource;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
 import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
 @Profile({"dev", "prod"})
@@ -20,7 +36,10 @@ import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 public class DataSourceConfig {
 
     private static final String SOURCE_SERVER = "SOURCE";
-    private static final String REPLICA_SERVER = "REPLICA";
+    private static final String ROUTING_SERVER = "ROUTING";
+    private static final String REPLICAS_PREFIX = "spring.datasource.replicas";
+    private static final String LEGACY_REPLICA_PREFIX = "spring.datasource.replica";
+    private static final String LEAST_OUTSTANDING = "least-outstanding";
 
     @Bean
     @Qualifier(SOURCE_SERVER)
@@ -29,23 +48,83 @@ public class DataSourceConfig {
         return DataSourceBuilder.create().build();
     }
 
+    /**
+     * spring.datasource.replicas[n] 에 jdbc-url, username, password 와 선택적으로 name, weight 를 적는다.
+     * replicas 가 없으면 기존 spring.datasource.replica 하나를 레플리카로 사용한다.
+     */
     @Bean
-    @Qualifier(REPLICA_SERVER)
-    @ConfigurationProperties(prefix = "spring.datasource.replica")
-    public DataSource replicaDataSource() {
-        return DataSourceBuilder.create().build();
+    public ReplicaRouter replicaRouter(
+            final Environment environment,
+            final MeterRegistry meterRegistry,
+            @Value("${spring.datasource.routing.strategy:weighted-round-robin}") final String strategy,
+            @Value("${spring.datasource.routing.max-lag-seconds:10}") final long maxLagSeconds
+    ) {
+        return new ReplicaRouter(
+                bindReplicas(Binder.get(environment)),
+                createReplicaSelector(strategy),
+                new MySqlReplicationLagProbe(),
+                maxLagSeconds,
+                meterRegistry
+        );
+    }
+
+    private List<ReplicaTarget> bindReplicas(final Binder binder) {
+        final List<ReplicaTarget> replicas = new ArrayList<>();
+        for (int index = 0; isBound(binder, replicaPrefix(index)); index++) {
+            final String prefix = replicaPrefix(index);
+            final String name = binder.bind(prefix + ".name", String.class).orElse(REPLICA.name() + "-" + index);
+            final int weight = binder.bind(prefix + ".weight", Integer.class).orElse(1);
+            replicas.add(new ReplicaTarget(name, weight, bindHikariDataSource(binder, prefix, name)));
+        }
+        if (replicas.isEmpty() && isBound(binder, LEGACY_REPLICA_PREFIX)) {
+            final String name = REPLICA.name();
+            replicas.add(new ReplicaTarget(name, 1, bindHikariDataSource(binder, LEGACY_REPLICA_PREFIX, name)));
+        }
+        return replicas;
+    }
+
+    private String replicaPrefix(final int index) {
+        return REPLICAS_PREFIX + "[" + index + "]";
+    }
+
+    private boolean isBound(final Binder binder, final String prefix) {
+        return binder.bind(prefix + ".jdbc-url", String.class).isBound();
+    }
+
+    private HikariDataSource bindHikariDataSource(final Binder binder, final String prefix, final String name) {
+        final HikariDataSource dataSource = DataSourceBuilder.create().type(HikariDataSource.class).build();
+        binder.bind(prefix, Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(name);
+        return dataSource;
+    }
+
+    private ReplicaSelector createReplicaSelector(final String strategy) {
+        if (LEAST_OUTSTANDING.equals(strategy)) {
+            return new LeastOutstandingReplicaSelector();
+        }
+        return new WeightedRoundRobinReplicaSelector();
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${spring.datasource.routing.read-your-writes-window-ms:5000}") final long windowMillis
+    ) {
+        return new ReadYourWritesTracker(Duration.ofMillis(windowMillis));
     }
 
     @Bean
+    @Qualifier(ROUTING_SERVER)
     public DataSource routingDataSource(
             @Qualifier(SOURCE_SERVER) final DataSource sourceDataSource,
-            @Qualifier(REPLICA_SERVER) final DataSource replicaDataSource
+            final ReplicaRouter replicaRouter,
+            final ReadYourWritesTracker readYourWritesTracker
     ) {
-        final RoutingDataSource routingDataSource = new RoutingDataSource();
+        final RoutingDataSource routingDataSource = new RoutingDataSource(replicaRouter, readYourWritesTracker);
 
         final HashMap<Object, Object> dataSourceMap = new HashMap<>();
         dataSourceMap.put(SOURCE, sourceDataSource);
-        dataSourceMap.put(REPLICA, replicaDataSource);
+        replicaRouter.getReplicas()
+                .forEach(replica -> dataSourceMap.put(replica.getName(), replica.getDataSource()));
 
         routingDataSource.setTargetDataSources(dataSourceMap);
         routingDataSource.setDefaultTargetDataSource(sourceDataSource);
@@ -55,8 +134,7 @@ public class DataSourceConfig {
 
     @Bean
     @Primary
-    public DataSource dataSource() {
-        final DataSource determinedDataSource = routingDataSource(sourceDataSource(), replicaDataSource());
-        return new LazyConnectionDataSourceProxy(determinedDataSource);
+    public DataSource dataSource(@Qualifier(ROUTING_SERVER) final DataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
     }
 }
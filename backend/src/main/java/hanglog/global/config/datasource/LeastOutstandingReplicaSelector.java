@@ -0,0 +1,25 @@
+package hanglog.global.config.datasource;
+
+import java.util.List;
+
+public class LeastOutstandingReplicaSelector implements ReplicaSelector {
+
+    @Override
+    public ReplicaTarget select(final List<ReplicaTarget> healthyReplicas) {
+        ReplicaTarget selected = healthyReplicas.get(0);
+        double minLoad = loadOf(selected);
+        for (int i = 1; i < healthyReplicas.size(); i++) {
+            final ReplicaTarget replica = healthyReplicas.get(i);
+            final double load = loadOf(replica);
+            if (load < minLoad) {
+                selected = replica;
+                minLoad = load;
+            }
+        }
+        return selected;
+    }
+
+    private double loadOf(final ReplicaTarget replica) {
+        return (double) replica.getActiveConnections() / replica.getWeight();
+    }
+}
@@ -0,0 +1,39 @@
+package hanglog.global.config.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.OptionalLong;
+import javax.sql.DataSource;
+
+public class MySqlReplicationLagProbe implements ReplicationLagProbe {
+
+    private static final String REPLICA_STATUS_QUERY = "SHOW REPLICA STATUS";
+    private static final String REPLICA_LAG_COLUMN = "Seconds_Behind_Source";
+    private static final String LEGACY_REPLICA_STATUS_QUERY = "SHOW SLAVE STATUS";
+    private static final String LEGACY_REPLICA_LAG_COLUMN = "Seconds_Behind_Master";
+
+    @Override
+    public OptionalLong probe(final DataSource dataSource) throws SQLException {
+        try (final Connection connection = dataSource.getConnection();
+             final Statement statement = connection.createStatement()) {
+            try {
+                return readLag(statement, REPLICA_STATUS_QUERY, REPLICA_LAG_COLUMN);
+            } catch (final SQLException e) {
+                return readLag(statement, LEGACY_REPLICA_STATUS_QUERY, LEGACY_REPLICA_LAG_COLUMN);
+            }
+        }
+    }
+
+    private OptionalLong readLag(final Statement statement, final String query, final String column)
+            throws SQLException {
+        try (final ResultSet resultSet = statement.executeQuery(query)) {
+            if (!resultSet.next()) {
+                return OptionalLong.of(0);
+            }
+            final long lagSeconds = resultSet.getLong(column);
+            return resultSet.wasNull() ? OptionalLong.empty() : OptionalLong.of(lagSeconds);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package hanglog.global.config.datasource;
+
+import static org.springframework.http.HttpHeaders.SET_COOKIE;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.http.ResponseCookie;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * 회원이 마지막으로 쓰기를 커밋한 시각을 쿠키로 클라이언트에 실어 보낸다.
+ * 다음 요청이 다른 서버로 가더라도 쿠키의 시각으로 window 안의 읽기 전용 트랜잭션을 Source 로 보낼 수 있다.
+ */
+public class ReadYourWritesTracker {
+
+    public static final String MEMBER_ID_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".MEMBER_ID";
+    public static final String LAST_WRITE_COOKIE = "last-write-at";
+
+    private static final String LAST_WRITE_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".LAST_WRITE_AT";
+    private static final String EXECUTE_METHOD_PREFIX = "execute";
+    private static final String EXECUTE_QUERY_METHOD_NAME = "executeQuery";
+
+    private final Duration window;
+
+    public ReadYourWritesTracker(final Duration window) {
+        this.window = window;
+    }
+
+    public boolean isPinnedToSource() {
+        return getCurrentRequest()
+                .filter(request -> request.getAttribute(MEMBER_ID_ATTRIBUTE) != null)
+                .flatMap(this::findLastWriteAt)
+                .map(this::isWithinWindow)
+                .orElse(false);
+    }
+
+    // 쿠키는 클라이언트가 바꿀 수 있으므로 미래 시각이나 window 밖의 시각은 고정 근거로 쓰지 않는다.
+    private boolean isWithinWindow(final long lastWriteAt) {
+        final long now = System.currentTimeMillis();
+        return lastWriteAt <= now && now - lastWriteAt < window.toMillis();
+    }
+
+    private Optional<Long> findLastWriteAt(final HttpServletRequest request) {
+        final Object lastWriteAt = request.getAttribute(LAST_WRITE_ATTRIBUTE);
+        if (lastWriteAt != null) {
+            return Optional.of((Long) lastWriteAt);
+        }
+        if (request.getCookies() == null) {
+            return Optional.empty();
+        }
+        return Arrays.stream(request.getCookies())
+                .filter(cookie -> LAST_WRITE_COOKIE.equals(cookie.getName()))
+                .findFirst()
+                .map(Cookie::getValue)
+                .flatMap(this::parseMillis);
+    }
+
+    private Optional<Long> parseMillis(final String value) {
+        try {
+            return Optional.of(Long.parseLong(value));
+        } catch (final NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 현재 회원의 쓰기 트랜잭션이 실제로 쓰기 쿼리를 실행하고 커밋되면 그 시각을 응답 쿠키에 남긴다.
+     */
+    public void recordWriteOnCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        getCurrentRequestAttributes()
+                .filter(attributes -> attributes.getRequest().getAttribute(MEMBER_ID_ATTRIBUTE) != null)
+                .ifPresent(attributes -> TransactionSynchronizationManager.registerSynchronization(
+                        new WriteSynchronization(this, attributes)
+                ));
+    }
+
+    public void markWritten() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.getSynchronizations().stream()
+                .filter(WriteSynchronization.class::isInstance)
+                .map(WriteSynchronization.class::cast)
+                .filter(synchronization -> synchronization.tracker == this)
+                .forEach(synchronization -> synchronization.written = true);
+    }
+
+    /**
+     * 쓰기 트랜잭션의 커넥션에서 조회가 아닌 쿼리가 실행되면 쓰기가 있었다고 표시한다.
+     */
+    public Connection trackWrites(final Connection connection) {
+        if (!hasWriteSynchronization()) {
+            return connection;
+        }
+        return proxy(connection, invocation -> {
+            final Object result = invocation.proceed();
+            if (result instanceof Statement statement) {
+                return proxy(statement, statementInvocation -> {
+                    final Object executed = statementInvocation.proceed();
+                    final String methodName = statementInvocation.getMethod().getName();
+                    if (methodName.startsWith(EXECUTE_METHOD_PREFIX) && !EXECUTE_QUERY_METHOD_NAME.equals(methodName)) {
+                        markWritten();
+                    }
+                    return executed;
+                });
+            }
+            return result;
+        });
+    }
+
+    private boolean hasWriteSynchronization() {
+        return TransactionSynchronizationManager.isSynchronizationActive()
+                && TransactionSynchronizationManager.getSynchronizations().stream()
+                .anyMatch(synchronization -> synchronization instanceof WriteSynchronization write
+                        && write.tracker == this);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(final T target, final MethodInterceptor interceptor) {
+        final ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.addAdvice(interceptor);
+        return (T) proxyFactory.getProxy();
+    }
+
+    private void writeLastWriteAt(final ServletRequestAttributes attributes) {
+        final long lastWriteAt = System.currentTimeMillis();
+        attributes.getRequest().setAttribute(LAST_WRITE_ATTRIBUTE, lastWriteAt);
+        final HttpServletResponse response = attributes.getResponse();
+        if (response == null) {
+            return;
+        }
+        final ResponseCookie cookie = ResponseCookie.from(LAST_WRITE_COOKIE, String.valueOf(lastWriteAt))
+                .maxAge(window)
+                .sameSite("None")
+                .secure(true)
+                .httpOnly(true)
+                .path("/")
+                .build();
+        response.addHeader(SET_COOKIE, cookie.toString());
+    }
+
+    private Optional<HttpServletRequest> getCurrentRequest() {
+        return getCurrentRequestAttributes().map(ServletRequestAttributes::getRequest);
+    }
+
+    private Optional<ServletRequestAttributes> getCurrentRequestAttributes() {
+        final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletRequestAttributes) {
+            return Optional.of(servletRequestAttributes);
+        }
+        return Optional.empty();
+    }
+
+    private static class WriteSynchronization implements TransactionSynchronization {
+
+        private final ReadYourWritesTracker tracker;
+        private final ServletRequestAttributes attributes;
+        private boolean written;
+
+        private WriteSynchronization(final ReadYourWritesTracker tracker, final ServletRequestAttributes attributes) {
+            this.tracker = tracker;
+            this.attributes = attributes;
+        }
+
+        @Override
+        public void afterCommit() {
+            if (written) {
+                tracker.writeLastWriteAt(attributes);
+            }
+        }
+    }
+}
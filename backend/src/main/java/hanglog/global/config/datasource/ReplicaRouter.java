@@ -0,0 +1,135 @@
+package hanglog.global.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Slf4j
+public class ReplicaRouter implements AutoCloseable {
+
+    public static final String ROUTING_METRIC = "datasource.routing";
+    public static final String PINNED_METRIC = "datasource.routing.pinned";
+    public static final String REPLICA_LAG_METRIC = "datasource.replica.lag";
+    public static final String REPLICA_HEALTHY_METRIC = "datasource.replica.healthy";
+
+    private final List<ReplicaTarget> replicas;
+    private final ReplicaSelector replicaSelector;
+    private final ReplicationLagProbe replicationLagProbe;
+    private final long maxLagSeconds;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> routingCounters = new ConcurrentHashMap<>();
+    private final Counter pinnedCounter;
+    private volatile List<ReplicaTarget> healthyReplicas;
+
+    public ReplicaRouter(
+            final List<ReplicaTarget> replicas,
+            final ReplicaSelector replicaSelector,
+            final ReplicationLagProbe replicationLagProbe,
+            final long maxLagSeconds,
+            final MeterRegistry meterRegistry
+    ) {
+        this.replicas = List.copyOf(replicas);
+        this.replicaSelector = replicaSelector;
+        this.replicationLagProbe = replicationLagProbe;
+        this.maxLagSeconds = maxLagSeconds;
+        this.meterRegistry = meterRegistry;
+        this.healthyReplicas = this.replicas;
+        this.pinnedCounter = Counter.builder(PINNED_METRIC)
+                .description("Number of read-only connections pinned to the source after a recent write")
+                .register(meterRegistry);
+        this.replicas.forEach(this::registerGauges);
+    }
+
+    private void registerGauges(final ReplicaTarget replica) {
+        Gauge.builder(REPLICA_LAG_METRIC, replica, ReplicaTarget::getLagSeconds)
+                .description("Replication lag of the replica")
+                .baseUnit("seconds")
+                .tag("replica", replica.getName())
+                .register(meterRegistry);
+        Gauge.builder(REPLICA_HEALTHY_METRIC, replica, target -> target.isHealthy() ? 1 : 0)
+                .description("Whether the replica currently receives read-only transactions")
+                .tag("replica", replica.getName())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 읽기 전용 트랜잭션을 보낼 레플리카의 이름을 반환한다. 사용할 수 있는 레플리카가 없으면 Source 로 보낸다.
+     */
+    public Object routeReadOnly() {
+        final List<ReplicaTarget> candidates = healthyReplicas;
+        if (candidates.isEmpty()) {
+            return route(DataSourceType.SOURCE);
+        }
+        return route(replicaSelector.select(candidates).getName());
+    }
+
+    public Object routePinnedReadOnly() {
+        pinnedCounter.increment();
+        return route(DataSourceType.SOURCE);
+    }
+
+    public Object routeReadWrite() {
+        return route(DataSourceType.SOURCE);
+    }
+
+    private Object route(final Object lookupKey) {
+        routingCounters.computeIfAbsent(String.valueOf(lookupKey), createRoutingCounter()).increment();
+        return lookupKey;
+    }
+
+    private Function<String, Counter> createRoutingCounter() {
+        return target -> Counter.builder(ROUTING_METRIC)
+                .description("Number of connections routed to each datasource")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${spring.datasource.routing.probe-interval-ms:5000}",
+            fixedDelayString = "${spring.datasource.routing.probe-interval-ms:5000}"
+    )
+    public void probe() {
+        replicas.forEach(this::probe);
+        healthyReplicas = replicas.stream()
+                .filter(ReplicaTarget::isHealthy)
+                .toList();
+    }
+
+    private void probe(final ReplicaTarget replica) {
+        final boolean wasHealthy = replica.isHealthy();
+        try {
+            final OptionalLong lagSeconds = replicationLagProbe.probe(replica.getDataSource());
+            if (lagSeconds.isPresent() && lagSeconds.getAsLong() <= maxLagSeconds) {
+                replica.markHealthy(lagSeconds.getAsLong());
+            } else {
+                replica.markUnhealthy(lagSeconds.orElse(-1));
+            }
+        } catch (final SQLException | RuntimeException e) {
+            replica.markUnhealthy(-1);
+            if (wasHealthy) {
+                log.warn("레플리카 {} 상태 확인에 실패했습니다.", replica.getName(), e);
+            }
+        }
+        if (wasHealthy != replica.isHealthy()) {
+            log.warn("레플리카 {} 를 {} 합니다. lag: {}s",
+                    replica.getName(), replica.isHealthy() ? "복구" : "제외", replica.getLagSeconds());
+        }
+    }
+
+    public List<ReplicaTarget> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(ReplicaTarget::close);
+    }
+}
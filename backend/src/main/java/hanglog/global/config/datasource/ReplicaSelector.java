@@ -0,0 +1,8 @@
+package hanglog.global.config.datasource;
+
+import java.util.List;
+
+public interface ReplicaSelector {
+
+    ReplicaTarget select(final List<ReplicaTarget> healthyReplicas);
+}
@@ -0,0 +1,46 @@
+package hanglog.global.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import javax.sql.DataSource;
+import lombok.Getter;
+
+@Getter
+public class ReplicaTarget {
+
+    private final String name;
+    private final int weight;
+    private final DataSource dataSource;
+    private volatile boolean healthy = true;
+    private volatile long lagSeconds;
+
+    public ReplicaTarget(final String name, final int weight, final DataSource dataSource) {
+        this.name = name;
+        this.weight = Math.max(weight, 1);
+        this.dataSource = dataSource;
+    }
+
+    public int getActiveConnections() {
+        if (dataSource instanceof HikariDataSource hikariDataSource) {
+            final HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+            return pool == null ? 0 : pool.getActiveConnections();
+        }
+        return 0;
+    }
+
+    public void markHealthy(final long lagSeconds) {
+        this.lagSeconds = lagSeconds;
+        this.healthy = true;
+    }
+
+    public void markUnhealthy(final long lagSeconds) {
+        this.lagSeconds = lagSeconds;
+        this.healthy = false;
+    }
+
+    public void close() {
+        if (dataSource instanceof HikariDataSource hikariDataSource) {
+            hikariDataSource.close();
+        }
+    }
+}
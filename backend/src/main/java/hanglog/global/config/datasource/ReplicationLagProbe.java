@@ -0,0 +1,13 @@
+package hanglog.global.config.datasource;
+
+import java.sql.SQLException;
+import java.util.OptionalLong;
+import javax.sql.DataSource;
+
+public interface ReplicationLagProbe {
+
+    /**
+     * 복제 지연(초)을 반환한다. 복제가 멈춰 지연을 알 수 없으면 빈 값을 반환한다.
+     */
+    OptionalLong probe(final DataSource dataSource) throws SQLException;
+}
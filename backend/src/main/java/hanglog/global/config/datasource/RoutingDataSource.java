@@ -1,8 +1,7 @@
 package hanglog.global.config.datasource;
 
-import static hanglog.global.config.datasource.DataSourceType.REPLICA;
-import static hanglog.global.config.datasource.DataSourceType.SOURCE;
-
+import java.sql.Connection;
+import java.sql.SQLException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
@@ -10,16 +9,40 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 @Slf4j
 public class RoutingDataSource extends AbstractRoutingDataSource {
 
+    private final ReplicaRouter replicaRouter;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public RoutingDataSource(final ReplicaRouter replicaRouter, final ReadYourWritesTracker readYourWritesTracker) {
+        this.replicaRouter = replicaRouter;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return readYourWritesTracker.trackWrites(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return readYourWritesTracker.trackWrites(super.getConnection(username, password));
+    }
+
     @Override
     protected Object determineCurrentLookupKey() {
         final String currentTransactionName = TransactionSynchronizationManager.getCurrentTransactionName();
         final boolean isReadOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        if (isReadOnly && readYourWritesTracker.isPinnedToSource()) {
+            log.info(currentTransactionName + " Transaction:" + "최근 쓰기가 있어 Source 서버로 요청합니다.");
+            return replicaRouter.routePinnedReadOnly();
+        }
         if (isReadOnly) {
-            log.info(currentTransactionName + " Transaction:" + "Replica 서버로 요청합니다.");
-            return REPLICA;
+            final Object lookupKey = replicaRouter.routeReadOnly();
+            log.info(currentTransactionName + " Transaction:" + lookupKey + " 서버로 요청합니다.");
+            return lookupKey;
         }
 
         log.info(currentTransactionName + " Transaction:" + "Source 서버로 요청합니다.");
-        return SOURCE;
+        readYourWritesTracker.recordWriteOnCommit();
+        return replicaRouter.routeReadWrite();
     }
 }
@@ -0,0 +1,24 @@
+package hanglog.global.config.datasource;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class WeightedRoundRobinReplicaSelector implements ReplicaSelector {
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    public ReplicaTarget select(final List<ReplicaTarget> healthyReplicas) {
+        final int totalWeight = healthyReplicas.stream()
+                .mapToInt(ReplicaTarget::getWeight)
+                .sum();
+        long position = Math.floorMod(sequence.getAndIncrement(), totalWeight);
+        for (final ReplicaTarget replica : healthyReplicas) {
+            position -= replica.getWeight();
+            if (position < 0) {
+                return replica;
+            }
+        }
+        return healthyReplicas.get(healthyReplicas.size() - 1);
+    }
+}
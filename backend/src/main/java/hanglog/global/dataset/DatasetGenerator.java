@@ -0,0 +1,369 @@
+package hanglog.global.dataset;
+
+import hanglog.trip.domain.ItemOrdinals;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@Profile("dataset")
+public class DatasetGenerator implements ApplicationRunner {
+
+    private static final String USABLE = "USABLE";
+    private static final String DEFAULT_IMAGE_NAME = "default-image.png";
+    private static final List<String> CURRENCIES = List.of(
+            "KRW", "KRW", "KRW", "USD", "JPY", "EUR", "GBP", "CNY", "CHF", "SGD", "THB", "HKD"
+    );
+    private static final int MAX_TRIP_DAYS = 5;
+    private static final int MAX_CITIES_PER_TRIP = 3;
+    private static final int MAX_ITEMS_PER_DAY_LOG = 3;
+    private static final int MAX_IMAGES_PER_ITEM = 3;
+    private static final int LIKE_PERIOD_DAYS = 60;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ConfigurableApplicationContext context;
+    private final long seed;
+    private final int memberCount;
+    private final double averageTripsPerMember;
+    private final double averageLikesPerMember;
+    private final double publishedRatio;
+    private final double sharedRatio;
+    private final double popularitySkew;
+    private final int chunkSize;
+    private final int batchSize;
+    private final LocalDate anchorDate;
+    private final boolean exitOnComplete;
+
+    private final DatasetTable members = new DatasetTable("member",
+            "id", "social_login_id", "nickname", "last_login_date", "image_url", "status", "created_at", "modified_at");
+    private final DatasetTable trips = new DatasetTable("trip",
+            "id", "member_id", "title", "image_name", "start_date", "end_date", "description",
+            "published_status", "shared_status", "status", "created_at", "modified_at");
+    private final DatasetTable tripCities = new DatasetTable("trip_city",
+            "id", "trip_id", "city_id", "status", "created_at", "modified_at");
+    private final DatasetTable dayLogs = new DatasetTable("day_log",
+            "id", "trip_id", "ordinal", "title", "status", "created_at", "modified_at");
+    private final DatasetTable places = new DatasetTable("place",
+            "id", "name", "latitude", "longitude", "category_id", "status", "created_at", "modified_at");
+    private final DatasetTable expenses = new DatasetTable("expense",
+            "id", "currency", "amount", "category_id", "status", "created_at", "modified_at");
+    private final DatasetTable items = new DatasetTable("item",
+            "id", "item_type", "title", "ordinal", "rating", "memo", "place_id", "day_log_id", "expense_id",
+            "status", "created_at", "modified_at");
+    private final DatasetTable images = new DatasetTable("image",
+            "id", "name", "item_id", "status", "created_at", "modified_at");
+    private final DatasetTable ledgerSummaries = new DatasetTable("ledger_summary",
+            "id", "trip_id", "day_log_id", "category_id", "currency", "amount");
+    private final DatasetTable sharedTrips = new DatasetTable("shared_trip",
+            "id", "trip_id", "shared_code", "status", "created_at", "modified_at");
+    private final DatasetTable publishedTrips = new DatasetTable("published_trip",
+            "id", "trip_id", "status", "created_at", "modified_at");
+    private final DatasetTable likes = new DatasetTable("likes",
+            "id", "trip_id", "member_id", "created_at");
+    private final DatasetTable tripLikeCounts = new DatasetTable("trip_like_count",
+            "trip_id", "like_count");
+
+    private SplittableRandom random;
+    private Map<String, Long> nextIds;
+    private List<Long> cityIds;
+    private List<Long> expenseCategoryIds;
+    private List<Long> placeCategoryIds;
+    private long[] publishedTripIds;
+    private int publishedTripCount;
+
+    public DatasetGenerator(
+            final NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            final ConfigurableApplicationContext context,
+            @Value("${dataset.seed:20230801}") final long seed,
+            @Value("${dataset.member-count:200000}") final int memberCount,
+            @Value("${dataset.average-trips-per-member:5}") final double averageTripsPerMember,
+            @Value("${dataset.average-likes-per-member:10}") final double averageLikesPerMember,
+            @Value("${dataset.published-ratio:0.2}") final double publishedRatio,
+            @Value("${dataset.shared-ratio:0.1}") final double sharedRatio,
+            @Value("${dataset.popularity-skew:3}") final double popularitySkew,
+            @Value("${dataset.chunk-size:1000}") final int chunkSize,
+            @Value("${dataset.batch-size:1000}") final int batchSize,
+            @Value("${dataset.anchor-date:#{T(java.time.LocalDate).now()}}") final LocalDate anchorDate,
+            @Value("${dataset.exit-on-complete:true}") final boolean exitOnComplete
+    ) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.context = context;
+        this.seed = seed;
+        this.memberCount = memberCount;
+        this.averageTripsPerMember = averageTripsPerMember;
+        this.averageLikesPerMember = averageLikesPerMember;
+        this.publishedRatio = publishedRatio;
+        this.sharedRatio = sharedRatio;
+        this.popularitySkew = popularitySkew;
+        this.chunkSize = chunkSize;
+        this.batchSize = batchSize;
+        this.anchorDate = anchorDate;
+        this.exitOnComplete = exitOnComplete;
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        generate();
+        if (exitOnComplete) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+
+    public void generate() {
+        final long startTime = System.currentTimeMillis();
+        random = new SplittableRandom(seed);
+        nextIds = new HashMap<>();
+        cityIds = findIds("SELECT id FROM city ORDER BY id");
+        expenseCategoryIds = findIds("SELECT id FROM category WHERE MOD(id, 100) = 0 ORDER BY id");
+        placeCategoryIds = findIds("SELECT id FROM category WHERE MOD(id, 100) <> 0 ORDER BY id");
+        validateReferenceData();
+        publishedTripIds = new long[1024];
+        publishedTripCount = 0;
+
+        final long firstMemberId = nextId("member");
+        for (int from = 0; from < memberCount; from += chunkSize) {
+            final int to = Math.min(from + chunkSize, memberCount);
+            for (int i = from; i < to; i++) {
+                generateMember();
+            }
+            flush(members, trips, tripCities, sharedTrips, publishedTrips, dayLogs, places, expenses, items, images,
+                    ledgerSummaries);
+            log.info("[dataset] members {}/{}", to, memberCount);
+        }
+
+        generateLikes(firstMemberId);
+        restartIdentities();
+        log.info("[dataset] seed {} finished in {}ms: {}", seed, System.currentTimeMillis() - startTime, getInsertedCounts());
+    }
+
+    private void generateMember() {
+        final long memberId = nextId("member");
+        final LocalDateTime joinedAt = randomTimeBefore(365);
+        members.add(memberId, "dataset-" + memberId, "user" + memberId, joinedAt, "https://hanglog.com/img/"
+                + DEFAULT_IMAGE_NAME, "ACTIVE", joinedAt, joinedAt);
+
+        final int tripCount = exponential(averageTripsPerMember);
+        for (int i = 0; i < tripCount; i++) {
+            generateTrip(memberId);
+        }
+    }
+
+    private void generateTrip(final Long memberId) {
+        final long tripId = nextId("trip");
+        final LocalDateTime createdAt = randomTimeBefore(365);
+        final LocalDate startDate = createdAt.toLocalDate().plusDays(random.nextInt(60));
+        final int days = 1 + random.nextInt(MAX_TRIP_DAYS);
+        final boolean published = random.nextDouble() < publishedRatio;
+        final boolean shared = random.nextDouble() < sharedRatio;
+
+        trips.add(tripId, memberId, "여행 " + tripId, DEFAULT_IMAGE_NAME, startDate, startDate.plusDays(days - 1),
+                "", published ? "PUBLISHED" : "UNPUBLISHED", shared ? "SHARED" : "UNSHARED", USABLE,
+                createdAt, createdAt);
+        for (final Long cityId : pickCities()) {
+            tripCities.add(nextId("trip_city"), tripId, cityId, USABLE, createdAt, createdAt);
+        }
+        if (shared) {
+            sharedTrips.add(nextId("shared_trip"), tripId, Long.toHexString(seed) + "-" + tripId, USABLE,
+                    createdAt, createdAt);
+        }
+        if (published) {
+            publishedTrips.add(nextId("published_trip"), tripId, USABLE, createdAt, createdAt);
+            addPublishedTrip(tripId);
+        }
+        for (int ordinal = 1; ordinal <= days + 1; ordinal++) {
+            generateDayLog(tripId, ordinal, createdAt);
+        }
+    }
+
+    private void generateDayLog(final long tripId, final int ordinal, final LocalDateTime createdAt) {
+        final long dayLogId = nextId("day_log");
+        dayLogs.add(dayLogId, tripId, ordinal, "", USABLE, createdAt, createdAt);
+
+        final Map<String, BigDecimal> ledgerAmounts = new HashMap<>();
+        final int itemCount = random.nextInt(MAX_ITEMS_PER_DAY_LOG + 1);
+        for (int itemIndex = 0; itemIndex < itemCount; itemIndex++) {
+            generateItem(dayLogId, ItemOrdinals.ofPosition(itemIndex), createdAt, ledgerAmounts);
+        }
+        ledgerAmounts.forEach((key, amount) -> {
+            final String[] categoryAndCurrency = key.split(":");
+            ledgerSummaries.add(nextId("ledger_summary"), tripId, dayLogId, Long.valueOf(categoryAndCurrency[0]),
+                    categoryAndCurrency[1], amount);
+        });
+    }
+
+    private void generateItem(
+            final long dayLogId,
+            final int ordinal,
+            final LocalDateTime createdAt,
+            final Map<String, BigDecimal> ledgerAmounts
+    ) {
+        final long itemId = nextId("item");
+        final boolean spot = random.nextBoolean();
+        Long placeId = null;
+        if (spot) {
+            placeId = nextId("place");
+            places.add(placeId, "장소 " + placeId, randomCoordinate(90), randomCoordinate(180),
+                    pick(placeCategoryIds), USABLE, createdAt, createdAt);
+        }
+        Long expenseId = null;
+        if (random.nextBoolean()) {
+            expenseId = nextId("expense");
+            final Long categoryId = pick(expenseCategoryIds);
+            final String currency = CURRENCIES.get(random.nextInt(CURRENCIES.size()));
+            final BigDecimal amount = BigDecimal.valueOf(random.nextLong(1, 100_000_000L), 2);
+            expenses.add(expenseId, currency, amount, categoryId, USABLE, createdAt, createdAt);
+            ledgerAmounts.merge(categoryId + ":" + currency, amount, BigDecimal::add);
+        }
+        final Double rating = spot ? random.nextInt(11) / 2.0 : null;
+        items.add(itemId, spot ? "SPOT" : "NON_SPOT", "아이템 " + itemId, ordinal, rating, "", placeId, dayLogId,
+                expenseId, USABLE, createdAt, createdAt);
+
+        final int imageCount = random.nextInt(MAX_IMAGES_PER_ITEM + 1);
+        for (int i = 0; i < imageCount; i++) {
+            final long imageId = nextId("image");
+            images.add(imageId, "dataset-" + seed + "-" + imageId + ".png", itemId, USABLE, createdAt, createdAt);
+        }
+    }
+
+    private void generateLikes(final long firstMemberId) {
+        final long[] likeCounts = new long[publishedTripCount];
+        final LocalDateTime anchorTime = anchorDate.atStartOfDay();
+        final Set<Integer> likedTripIndexes = new HashSet<>();
+        for (long memberId = firstMemberId; memberId < firstMemberId + memberCount; memberId++) {
+            likedTripIndexes.clear();
+            final int likeCount = Math.min(exponential(averageLikesPerMember), publishedTripCount);
+            while (likedTripIndexes.size() < likeCount) {
+                final int tripIndex = skewedIndex(publishedTripCount);
+                if (likedTripIndexes.add(tripIndex)) {
+                    likeCounts[tripIndex]++;
+                    final LocalDateTime likedAt = anchorTime.minusMinutes(
+                            random.nextLong((long) LIKE_PERIOD_DAYS * 24 * 60)
+                    );
+                    likes.add(nextId("likes"), publishedTripIds[tripIndex], memberId, likedAt);
+                }
+            }
+            if ((memberId - firstMemberId + 1) % chunkSize == 0) {
+                flush(likes);
+            }
+        }
+        flush(likes);
+
+        for (int i = 0; i < publishedTripCount; i++) {
+            tripLikeCounts.add(publishedTripIds[i], likeCounts[i]);
+            if ((i + 1) % chunkSize == 0) {
+                flush(tripLikeCounts);
+            }
+        }
+        flush(tripLikeCounts);
+    }
+
+    private List<Long> pickCities() {
+        final int cityCount = 1 + random.nextInt(Math.min(MAX_CITIES_PER_TRIP, cityIds.size()));
+        final Set<Long> picked = new HashSet<>();
+        while (picked.size() < cityCount) {
+            picked.add(pick(cityIds));
+        }
+        final List<Long> sortedCityIds = new ArrayList<>(picked);
+        sortedCityIds.sort(Long::compare);
+        return sortedCityIds;
+    }
+
+    private void addPublishedTrip(final long tripId) {
+        if (publishedTripCount == publishedTripIds.length) {
+            publishedTripIds = Arrays.copyOf(publishedTripIds, publishedTripCount * 2);
+        }
+        publishedTripIds[publishedTripCount++] = tripId;
+    }
+
+    private int skewedIndex(final int size) {
+        return (int) (size * Math.pow(random.nextDouble(), popularitySkew));
+    }
+
+    private int exponential(final double average) {
+        return (int) (-average * Math.log(1 - random.nextDouble()));
+    }
+
+    private LocalDateTime randomTimeBefore(final int days) {
+        return anchorDate.atStartOfDay().minusMinutes(random.nextLong((long) days * 24 * 60));
+    }
+
+    private BigDecimal randomCoordinate(final int bound) {
+        return BigDecimal.valueOf(random.nextLong(-bound * 10_000_000_000_000L, bound * 10_000_000_000_000L), 13);
+    }
+
+    private Long pick(final List<Long> ids) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    private long nextId(final String table) {
+        final Long id = nextIds.computeIfAbsent(table, this::findNextId);
+        nextIds.put(table, id + 1);
+        return id;
+    }
+
+    private Long findNextId(final String table) {
+        final String column = table.equals("trip_like_count") ? "trip_id" : "id";
+        final Long maxId = namedParameterJdbcTemplate.getJdbcTemplate()
+                .queryForObject("SELECT COALESCE(MAX(" + column + "), 0) FROM " + table, Long.class);
+        return maxId + 1;
+    }
+
+    private List<Long> findIds(final String sql) {
+        return namedParameterJdbcTemplate.getJdbcTemplate().queryForList(sql, Long.class);
+    }
+
+    private void validateReferenceData() {
+        if (cityIds.isEmpty() || expenseCategoryIds.isEmpty() || placeCategoryIds.isEmpty()) {
+            throw new IllegalStateException("city와 category 기본 데이터가 먼저 있어야 합니다.");
+        }
+    }
+
+    private void flush(final DatasetTable... tables) {
+        for (final DatasetTable table : tables) {
+            table.flush(namedParameterJdbcTemplate, batchSize);
+        }
+    }
+
+    private void restartIdentities() {
+        final String databaseName = namedParameterJdbcTemplate.getJdbcTemplate().execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()
+        );
+        if (!"H2".equals(databaseName)) {
+            return;
+        }
+        nextIds.forEach((table, nextId) -> {
+            if (!table.equals("trip_like_count")) {
+                namedParameterJdbcTemplate.getJdbcTemplate()
+                        .execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + nextId);
+            }
+        });
+    }
+
+    public Map<String, Long> getInsertedCounts() {
+        final Map<String, Long> counts = new HashMap<>();
+        for (final DatasetTable table : List.of(members, trips, tripCities, sharedTrips, publishedTrips, dayLogs,
+                places, expenses, items, images, ledgerSummaries, likes, tripLikeCounts)) {
+            counts.put(table.getName(), table.getInsertedCount());
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,46 @@
+package hanglog.global.dataset;
+
+import static java.util.stream.Collectors.joining;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import lombok.Getter;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+public class DatasetTable {
+
+    @Getter
+    private final String name;
+    private final String sql;
+    private final List<String> columns;
+    private final List<SqlParameterSource> rows = new ArrayList<>();
+    @Getter
+    private long insertedCount;
+
+    public DatasetTable(final String name, final String... columns) {
+        this.name = name;
+        this.columns = Arrays.asList(columns);
+        this.sql = "INSERT INTO " + name + " (" + String.join(", ", columns) + ") VALUES ("
+                + this.columns.stream().map(column -> ":" + column).collect(joining(", ")) + ")";
+    }
+
+    public void add(final Object... values) {
+        final MapSqlParameterSource row = new MapSqlParameterSource();
+        for (int i = 0; i < columns.size(); i++) {
+            row.addValue(columns.get(i), values[i]);
+        }
+        rows.add(row);
+    }
+
+    public void flush(final NamedParameterJdbcTemplate namedParameterJdbcTemplate, final int batchSize) {
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            final List<SqlParameterSource> batch = rows.subList(from, Math.min(from + batchSize, rows.size()));
+            namedParameterJdbcTemplate.batchUpdate(sql, batch.toArray(SqlParameterSource[]::new));
+        }
+        insertedCount += rows.size();
+        rows.clear();
+    }
+}
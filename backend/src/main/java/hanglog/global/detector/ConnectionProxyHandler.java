@@ -14,6 +14,8 @@ public class ConnectionProxyHandler implements MethodInterceptor {
 
     private final Object connection;
     private final LoggingForm loggingForm;
+    private final SqlStatistics sqlStatistics;
+    private final NPlusOneDetector nPlusOneDetector;
 
     @Nullable
     @Override
@@ -22,7 +24,13 @@ public class ConnectionProxyHandler implements MethodInterceptor {
 
         if (hasConnection(result) && hasPreparedStatementInvoked(invocation)) {
             final ProxyFactory proxyFactory = new ProxyFactory(result);
-            proxyFactory.addAdvice(new PreparedStatementProxyHandler(loggingForm));
+            final String sql = (String) invocation.getArguments()[0];
+            proxyFactory.addAdvice(new PreparedStatementProxyHandler(
+                    loggingForm,
+                    sqlStatistics,
+                    nPlusOneDetector,
+                    sql
+            ));
             return proxyFactory.getProxy();
         }
 
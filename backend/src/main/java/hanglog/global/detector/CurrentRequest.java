@@ -0,0 +1,23 @@
+package hanglog.global.detector;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Optional;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+final class CurrentRequest {
+
+    private CurrentRequest() {
+    }
+
+    static Optional<HttpServletRequest> get() {
+        final ServletRequestAttributes attributes =
+                (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+        return Optional.ofNullable(attributes).map(ServletRequestAttributes::getRequest);
+    }
+
+    static String getUriTemplate(final HttpServletRequest request) {
+        return (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    }
+}
@@ -10,14 +10,14 @@ public class LoggingForm {
     private String apiUrl;
     private String apiMethod;
     private Long queryCounts = 0L;
-    private Long queryTime = 0L;
+    private Long queryTimeNanos = 0L;
 
     public void queryCountUp() {
         queryCounts++;
     }
 
-    public void addQueryTime(final Long queryTime) {
-        this.queryTime += queryTime;
+    public void addQueryTimeNanos(final Long queryTimeNanos) {
+        this.queryTimeNanos += queryTimeNanos;
     }
 
     public void setApiUrl(final String apiUrl) {
@@ -0,0 +1,8 @@
+package hanglog.global.detector;
+
+public class NPlusOneDetectedException extends IllegalStateException {
+
+    public NPlusOneDetectedException(final String message) {
+        super(message);
+    }
+}
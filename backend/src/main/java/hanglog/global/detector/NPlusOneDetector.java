@@ -0,0 +1,82 @@
+package hanglog.global.detector;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class NPlusOneDetector {
+
+    public static final String N_PLUS_ONE_METRIC = "api.query.n-plus-one";
+
+    private static final String NO_REQUEST = "NONE";
+    private static final RepeatedQueryCounter UNCHECKED_COUNTER = new RepeatedQueryCounter();
+
+    private final int threshold;
+    private final boolean failOnDetection;
+    private final MeterRegistry meterRegistry;
+    private final ThreadLocal<RepeatedQueryCounter> currentCounter = new ThreadLocal<>();
+
+    public NPlusOneDetector(
+            @Value("${detector.n-plus-one.threshold:10}") final int threshold,
+            @Value("${detector.n-plus-one.fail-on-detection:false}") final boolean failOnDetection,
+            final MeterRegistry meterRegistry
+    ) {
+        this.threshold = threshold;
+        this.failOnDetection = failOnDetection;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean openScope() {
+        if (currentCounter.get() != null) {
+            return false;
+        }
+        currentCounter.set(new RepeatedQueryCounter());
+        return true;
+    }
+
+    public boolean openUncheckedScope() {
+        if (currentCounter.get() != null) {
+            return false;
+        }
+        currentCounter.set(UNCHECKED_COUNTER);
+        return true;
+    }
+
+    public void closeScope() {
+        currentCounter.remove();
+    }
+
+    /**
+     * 열린 범위 안에서 같은 SELECT 지문이 threshold 를 넘겨 실행되는 순간 한 번만 보고한다.
+     */
+    public void inspect(final String fingerprint) {
+        final RepeatedQueryCounter counter = currentCounter.get();
+        if (counter == null || counter == UNCHECKED_COUNTER || !isSelect(fingerprint)
+                || counter.increment(fingerprint) != threshold + 1) {
+            return;
+        }
+
+        final Optional<HttpServletRequest> request = CurrentRequest.get();
+        final String method = request.map(HttpServletRequest::getMethod).orElse(NO_REQUEST);
+        final String uri = request.map(CurrentRequest::getUriTemplate).orElse(QueryMetrics.UNKNOWN_URI);
+        meterRegistry.counter(N_PLUS_ONE_METRIC, "method", method, "uri", uri).increment();
+
+        final String message = String.format(
+                "N+1 쿼리가 의심됩니다. %s %s 에서 같은 쿼리가 %d회를 초과해 실행되었습니다: %s",
+                method, uri, threshold, fingerprint
+        );
+        if (failOnDetection) {
+            throw new NPlusOneDetectedException(message);
+        }
+        log.warn(message);
+    }
+
+    private boolean isSelect(final String fingerprint) {
+        return fingerprint.startsWith("select") || fingerprint.startsWith("with");
+    }
+}
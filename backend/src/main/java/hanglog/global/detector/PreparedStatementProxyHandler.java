@@ -2,7 +2,12 @@ package hanglog.global.detector;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.util.Arrays;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.aopalliance.intercept.MethodInterceptor;
@@ -11,9 +16,18 @@ import org.aopalliance.intercept.MethodInvocation;
 @RequiredArgsConstructor
 public class PreparedStatementProxyHandler implements MethodInterceptor {
 
-    private static final List<String> JDBC_QUERY_METHOD = List.of("executeQuery", "execute", "executeUpdate");
+    private static final List<String> JDBC_QUERY_METHOD = List.of(
+            "executeQuery",
+            "execute",
+            "executeUpdate",
+            "executeBatch"
+    );
+    private static final String JDBC_RESULT_SET_NEXT_METHOD_NAME = "next";
 
     private final LoggingForm loggingForm;
+    private final SqlStatistics sqlStatistics;
+    private final NPlusOneDetector nPlusOneDetector;
+    private final String sql;
 
     @Nullable
     @Override
@@ -22,16 +36,59 @@ public class PreparedStatementProxyHandler implements MethodInterceptor {
         final Method method = invocation.getMethod();
 
         if (JDBC_QUERY_METHOD.contains(method.getName())) {
-            final long startTime = System.currentTimeMillis();
+            final long startTime = System.nanoTime();
             final Object result = invocation.proceed();
-            final long endTime = System.currentTimeMillis();
+            final long endTime = System.nanoTime();
 
-            loggingForm.addQueryTime(endTime - startTime);
+            loggingForm.addQueryTimeNanos(endTime - startTime);
             loggingForm.queryCountUp();
+            final SqlFingerprintStats stats = sqlStatistics.record(sql, endTime - startTime);
+            nPlusOneDetector.inspect(stats.getFingerprint());
 
+            if (result instanceof Integer updatedRows) {
+                stats.addRows(updatedRows);
+            }
+            if (result instanceof int[] batchUpdatedRows) {
+                stats.addRows(countBatchUpdatedRows(batchUpdatedRows));
+            }
+            if (result instanceof ResultSet resultSet) {
+                return countingRows(resultSet, stats);
+            }
             return result;
         }
 
         return invocation.proceed();
     }
+
+    // 드라이버가 SUCCESS_NO_INFO(-2)를 돌려준 행은 수를 알 수 없으므로 더하지 않는다.
+    private long countBatchUpdatedRows(final int[] batchUpdatedRows) {
+        return Arrays.stream(batchUpdatedRows)
+                .filter(updatedRows -> updatedRows > 0)
+                .sum();
+    }
+
+    // 모든 호출을 가로채는 AOP 프록시 대신 next() 결과만 세는 JDK 동적 프록시를 씌운다.
+    private ResultSet countingRows(final ResultSet resultSet, final SqlFingerprintStats stats) {
+        final InvocationHandler rowCounter = (proxy, method, args) -> {
+            final Object result = invokeResultSet(resultSet, method, args);
+            if (JDBC_RESULT_SET_NEXT_METHOD_NAME.equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                stats.addRows(1);
+            }
+            return result;
+        };
+        return (ResultSet) Proxy.newProxyInstance(
+                ResultSet.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class},
+                rowCounter
+        );
+    }
+
+    private Object invokeResultSet(final ResultSet resultSet, final Method method, final Object[] args)
+            throws Throwable {
+        try {
+            return method.invoke(resultSet, args);
+        } catch (final InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
 }
@@ -6,9 +6,11 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.After;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
 
 @Aspect
 @Slf4j
@@ -16,19 +18,65 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 public class QueryCounterAop {
 
     private final ThreadLocal<LoggingForm> currentLoggingForm;
+    private final QueryMetrics queryMetrics;
+    private final SqlStatistics sqlStatistics;
+    private final NPlusOneDetector nPlusOneDetector;
 
-    public QueryCounterAop() {
+    public QueryCounterAop(
+            final QueryMetrics queryMetrics,
+            final SqlStatistics sqlStatistics,
+            final NPlusOneDetector nPlusOneDetector
+    ) {
         this.currentLoggingForm = new ThreadLocal<>();
+        this.queryMetrics = queryMetrics;
+        this.sqlStatistics = sqlStatistics;
+        this.nPlusOneDetector = nPlusOneDetector;
     }
 
     @Around("execution( * javax.sql.DataSource.getConnection())")
     public Object captureConnection(final ProceedingJoinPoint joinPoint) throws Throwable {
         final Object connection = joinPoint.proceed();
 
-        return new ConnectionProxyHandler(connection, getCurrentLoggingForm()).getProxy();
+        return new ConnectionProxyHandler(
+                connection,
+                getCurrentLoggingForm(),
+                sqlStatistics,
+                nPlusOneDetector
+        ).getProxy();
     }
 
-    private LoggingForm getCurrentLoggingForm() {
+    @Pointcut("@annotation(org.springframework.scheduling.annotation.Scheduled) "
+            + "|| execution(* org.springframework.boot.ApplicationRunner+.run(..))")
+    public void batchJob() {
+    }
+
+    @Around("(within(@org.springframework.web.bind.annotation.RestController *) "
+            + "|| within(@org.springframework.stereotype.Service *)) && !batchJob()")
+    public Object scopeRepeatedQueries(final ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!nPlusOneDetector.openScope()) {
+            return joinPoint.proceed();
+        }
+        try {
+            return joinPoint.proceed();
+        } finally {
+            nPlusOneDetector.closeScope();
+        }
+    }
+
+    // 스케줄러와 배치 작업은 요청 단위의 N+1 판정 대상이 아니므로 안에서 호출되는 서비스도 검사하지 않는다.
+    @Around("batchJob()")
+    public Object excludeBatchJob(final ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!nPlusOneDetector.openUncheckedScope()) {
+            return joinPoint.proceed();
+        }
+        try {
+            return joinPoint.proceed();
+        } finally {
+            nPlusOneDetector.closeScope();
+        }
+    }
+
+    public LoggingForm getCurrentLoggingForm() {
         if (currentLoggingForm.get() == null) {
             currentLoggingForm.set(new LoggingForm());
         }
@@ -48,6 +96,12 @@ public class QueryCounterAop {
 
             loggingForm.setApiMethod(request.getMethod());
             loggingForm.setApiUrl(request.getRequestURI());
+            queryMetrics.record(
+                    request.getMethod(),
+                    (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE),
+                    loggingForm.getQueryCounts(),
+                    loggingForm.getQueryTimeNanos()
+            );
         }
 
         log.info("{}", getCurrentLoggingForm());
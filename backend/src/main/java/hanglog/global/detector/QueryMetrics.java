@@ -0,0 +1,66 @@
+package hanglog.global.detector;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class QueryMetrics {
+
+    public static final String QUERY_COUNT_METRIC = "api.query.count";
+    public static final String QUERY_TIME_METRIC = "api.query.time";
+    public static final String UNKNOWN_URI = "UNKNOWN";
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+    private static final double[] QUERY_COUNT_SLOS = {1, 3, 5, 10, 20, 50};
+    private static final Duration[] QUERY_TIME_SLOS = {
+            Duration.ofMillis(1),
+            Duration.ofMillis(5),
+            Duration.ofMillis(10),
+            Duration.ofMillis(50),
+            Duration.ofMillis(100),
+            Duration.ofMillis(500)
+    };
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ApiMeters> apiMeters = new ConcurrentHashMap<>();
+
+    public void record(final String method, final String uri, final long queryCounts, final long queryTimeNanos) {
+        final String uriTag = uri == null ? UNKNOWN_URI : uri;
+        final ApiMeters meters = apiMeters.computeIfAbsent(
+                method + " " + uriTag,
+                ignored -> createMeters(method, uriTag)
+        );
+        meters.queryCount().record(queryCounts);
+        meters.queryTime().record(queryTimeNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private ApiMeters createMeters(final String method, final String uri) {
+        final DistributionSummary queryCount = DistributionSummary.builder(QUERY_COUNT_METRIC)
+                .description("Number of JDBC queries executed per API request")
+                .baseUnit("queries")
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentiles(PERCENTILES)
+                .serviceLevelObjectives(QUERY_COUNT_SLOS)
+                .register(meterRegistry);
+        final Timer queryTime = Timer.builder(QUERY_TIME_METRIC)
+                .description("Total JDBC query time per API request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentiles(PERCENTILES)
+                .serviceLevelObjectives(QUERY_TIME_SLOS)
+                .register(meterRegistry);
+        return new ApiMeters(queryCount, queryTime);
+    }
+
+    private record ApiMeters(DistributionSummary queryCount, Timer queryTime) {
+    }
+}
@@ -0,0 +1,13 @@
+package hanglog.global.detector;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class RepeatedQueryCounter {
+
+    private final Map<String, Integer> counts = new HashMap<>();
+
+    public int increment(final String fingerprint) {
+        return counts.merge(fingerprint, 1, Integer::sum);
+    }
+}
@@ -0,0 +1,49 @@
+package hanglog.global.detector;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+public class SlowQueryLog {
+
+    private final AtomicReferenceArray<SlowQuery> buffer;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public SlowQueryLog(final int capacity) {
+        this.buffer = new AtomicReferenceArray<>(capacity);
+    }
+
+    public void add(final SlowQuery slowQuery) {
+        final int index = (int) (sequence.getAndIncrement() % buffer.length());
+        buffer.set(index, slowQuery);
+    }
+
+    public List<SlowQuery> getSlowestFirst() {
+        final List<SlowQuery> slowQueries = new ArrayList<>(buffer.length());
+        for (int i = 0; i < buffer.length(); i++) {
+            final SlowQuery slowQuery = buffer.get(i);
+            if (slowQuery != null) {
+                slowQueries.add(slowQuery);
+            }
+        }
+        slowQueries.sort(Comparator.comparingDouble(SlowQuery::elapsedMillis).reversed());
+        return slowQueries;
+    }
+
+    public void clear() {
+        for (int i = 0; i < buffer.length(); i++) {
+            buffer.set(i, null);
+        }
+    }
+
+    public record SlowQuery(
+            String fingerprint,
+            String endpoint,
+            double elapsedMillis,
+            LocalDateTime executedAt
+    ) {
+    }
+}
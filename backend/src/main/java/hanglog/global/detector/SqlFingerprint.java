@@ -0,0 +1,27 @@
+package hanglog.global.detector;
+
+import java.util.regex.Pattern;
+
+public final class SqlFingerprint {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern VALUES_LIST = Pattern.compile("(\\(\\?\\.\\.\\.\\))(?:\\s*,\\s*\\(\\?\\.\\.\\.\\))+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlFingerprint() {
+    }
+
+    /**
+     * 리터럴을 ? 로 바꾸고, 길이가 달라지는 IN 절과 다중 VALUES 를 하나로 접어 같은 모양의 쿼리를 같은 지문으로 묶는다.
+     */
+    public static String of(final String sql) {
+        String fingerprint = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        fingerprint = STRING_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = NUMERIC_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = PLACEHOLDER_LIST.matcher(fingerprint).replaceAll("(?...)");
+        fingerprint = VALUES_LIST.matcher(fingerprint).replaceAll("$1");
+        return fingerprint.toLowerCase();
+    }
+}
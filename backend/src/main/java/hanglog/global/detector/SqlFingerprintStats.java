@@ -0,0 +1,62 @@
+package hanglog.global.detector;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class SqlFingerprintStats {
+
+    private final String fingerprint;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder rows = new LongAdder();
+
+    public SqlFingerprintStats(final String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    public void record(final long elapsedNanos) {
+        count.increment();
+        totalNanos.add(elapsedNanos);
+        maxNanos.accumulate(elapsedNanos);
+    }
+
+    public void addRows(final long rowCount) {
+        rows.add(rowCount);
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public Snapshot toSnapshot() {
+        final long executions = count.sum();
+        final long total = totalNanos.sum();
+        return new Snapshot(
+                fingerprint,
+                executions,
+                toMillis(total),
+                executions == 0 ? 0 : toMillis(total) / executions,
+                toMillis(maxNanos.get()),
+                rows.sum()
+        );
+    }
+
+    private static double toMillis(final long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    public record Snapshot(
+            String fingerprint,
+            long count,
+            double totalMillis,
+            double meanMillis,
+            double maxMillis,
+            long rows
+    ) {
+    }
+}
@@ -0,0 +1,97 @@
+package hanglog.global.detector;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import hanglog.global.detector.SlowQueryLog.SlowQuery;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SqlStatistics {
+
+    private static final String OVERFLOW_FINGERPRINT = "(other)";
+    private static final String NO_ENDPOINT = "(none)";
+
+    private final Cache<String, String> fingerprints;
+    private final Map<String, SqlFingerprintStats> statsByFingerprint = new ConcurrentHashMap<>();
+    private volatile SqlFingerprintStats overflowStats = new SqlFingerprintStats(OVERFLOW_FINGERPRINT);
+    private final SlowQueryLog slowQueryLog;
+    private final int maxFingerprints;
+    private final long slowQueryThresholdNanos;
+
+    public SqlStatistics(
+            @Value("${detector.sql.max-fingerprints:1000}") final int maxFingerprints,
+            @Value("${detector.sql.slow-query-threshold-ms:100}") final long slowQueryThresholdMillis,
+            @Value("${detector.sql.slow-query-capacity:100}") final int slowQueryCapacity
+    ) {
+        this.fingerprints = Caffeine.newBuilder()
+                .maximumSize(maxFingerprints * 4L)
+                .build();
+        this.slowQueryLog = new SlowQueryLog(slowQueryCapacity);
+        this.maxFingerprints = maxFingerprints;
+        this.slowQueryThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowQueryThresholdMillis);
+    }
+
+    public SqlFingerprintStats record(final String sql, final long elapsedNanos) {
+        final String fingerprint = fingerprints.get(sql, SqlFingerprint::of);
+        final SqlFingerprintStats stats = getStats(fingerprint);
+        stats.record(elapsedNanos);
+        if (elapsedNanos >= slowQueryThresholdNanos) {
+            slowQueryLog.add(new SlowQuery(
+                    fingerprint,
+                    getCurrentEndpoint(),
+                    elapsedNanos / 1_000_000.0,
+                    LocalDateTime.now()
+            ));
+        }
+        return stats;
+    }
+
+    private SqlFingerprintStats getStats(final String fingerprint) {
+        final SqlFingerprintStats stats = statsByFingerprint.get(fingerprint);
+        if (stats != null) {
+            return stats;
+        }
+        if (statsByFingerprint.size() >= maxFingerprints) {
+            return overflowStats;
+        }
+        return statsByFingerprint.computeIfAbsent(fingerprint, SqlFingerprintStats::new);
+    }
+
+    private String getCurrentEndpoint() {
+        return CurrentRequest.get()
+                .map(request -> {
+                    final String uriTemplate = CurrentRequest.getUriTemplate(request);
+                    return request.getMethod() + " " + (uriTemplate == null ? request.getRequestURI() : uriTemplate);
+                })
+                .orElse(NO_ENDPOINT);
+    }
+
+    public List<SqlFingerprintStats.Snapshot> getTopByTotalTime(final int limit) {
+        return statsByFingerprint.values().stream()
+                .sorted(Comparator.comparingLong(SqlFingerprintStats::getTotalNanos).reversed())
+                .limit(limit)
+                .map(SqlFingerprintStats::toSnapshot)
+                .toList();
+    }
+
+    public SqlFingerprintStats.Snapshot getOverflow() {
+        return overflowStats.toSnapshot();
+    }
+
+    public List<SlowQuery> getSlowQueries() {
+        return slowQueryLog.getSlowestFirst();
+    }
+
+    public void reset() {
+        statsByFingerprint.clear();
+        overflowStats = new SqlFingerprintStats(OVERFLOW_FINGERPRINT);
+        slowQueryLog.clear();
+    }
+}
@@ -0,0 +1,45 @@
+package hanglog.global.detector;
+
+import hanglog.global.detector.SlowQueryLog.SlowQuery;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "sqlstats")
+@RequiredArgsConstructor
+public class SqlStatisticsEndpoint {
+
+    private static final int DEFAULT_LIMIT = 50;
+
+    private final SqlStatistics sqlStatistics;
+
+    @ReadOperation
+    public SqlStatisticsResponse sqlStatistics(@Nullable final Integer limit) {
+        if (limit != null && limit < 1) {
+            throw new InvalidEndpointRequestException("limit must be positive: " + limit, "limit 은 1 이상이어야 합니다.");
+        }
+        return new SqlStatisticsResponse(
+                sqlStatistics.getTopByTotalTime(limit == null ? DEFAULT_LIMIT : limit),
+                sqlStatistics.getOverflow(),
+                sqlStatistics.getSlowQueries()
+        );
+    }
+
+    @DeleteOperation
+    public void reset() {
+        sqlStatistics.reset();
+    }
+
+    public record SqlStatisticsResponse(
+            List<SqlFingerprintStats.Snapshot> fingerprints,
+            SqlFingerprintStats.Snapshot others,
+            List<SlowQuery> slowQueries
+    ) {
+    }
+}
@@ -25,6 +25,8 @@ public enum ExceptionCode {
     DUPLICATED_MEMBER_NICKNAME(1013, "중복된 닉네임입니다."),
     NOT_FOUND_PUBLISHED_TRIP_WITH_TRIP(1014, "요청한 여행에 해당하는 공개 여행이 존재하지 않습니다."),
     NOT_FOUND_RECOMMEND_TRIP_STRATEGY(1015, "요청에 해당하는 여행 추천 전략이 존재하지 않습니다."),
+    INVALID_COMMUNITY_CURSOR(1016, "올바르지 않은 커뮤니티 커서입니다."),
+    INVALID_COMMUNITY_PAGE_SIZE(1017, "커뮤니티 페이지 크기는 1 이상 100 이하이어야 합니다."),
 
     ALREADY_DELETED_TRIP_ITEM(2001, "이미 삭제된 여행 아이템입니다."),
     ALREADY_DELETED_DATE(2002, "이미 삭제된 날짜입니다."),
@@ -40,6 +42,8 @@ public enum ExceptionCode {
     INVALID_EXPENSE_UNDER_MIN(3009, "금액이 0원보다 작을 수 없습니다."),
 
     INVALID_ORDERED_ITEM_IDS(4001, "날짜에 속한 모든 여행 아이템들의 ID가 필요합니다."),
+    INVALID_PREVIOUS_ITEM_ID(4002, "이동할 아이템을 자기 자신의 뒤로 옮길 수 없습니다."),
+    EXCEED_ITEM_COUNT_OF_DAY_LOG(4003, "날짜에 저장할 수 있는 아이템 수를 초과했습니다."),
 
     EXCEED_IMAGE_CAPACITY(5001, "업로드 가능한 이미지 용량을 초과했습니다."),
     NULL_IMAGE(5002, "업로드한 이미지 파일이 NULL입니다."),
@@ -59,6 +63,9 @@ public enum ExceptionCode {
     INVALID_AUTHORIZATION_CODE(9001, "유효하지 않은 인증 코드입니다."),
     NOT_SUPPORTED_OAUTH_SERVICE(9002, "해당 OAuth 서비스는 제공하지 않습니다."),
     FAIL_TO_CONVERT_URL_PARAMETER(9003, "Url Parameter 변환 중 오류가 발생했습니다."),
+    OAUTH_SERVICE_BUSY(9004, "OAuth 서비스 요청이 많습니다. 잠시 후 다시 시도해 주세요."),
+    FAIL_TO_REQUEST_OAUTH_SERVICE(9005, "OAuth 서비스와 통신하는 데 실패했습니다."),
+    INVALID_ID_TOKEN(9006, "유효하지 않은 ID 토큰입니다."),
     INVALID_REFRESH_TOKEN(9101, "올바르지 않은 형식의 RefreshToken입니다."),
     INVALID_ACCESS_TOKEN(9102, "올바르지 않은 형식의 AccessToken입니다."),
     EXPIRED_PERIOD_REFRESH_TOKEN(9103, "기한이 만료된 RefreshToken입니다."),
@@ -0,0 +1,13 @@
+package hanglog.like.domain;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class CanceledLike {
+
+    private final Long tripId;
+    private final LocalDateTime likedAt;
+}
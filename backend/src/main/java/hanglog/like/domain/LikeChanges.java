@@ -0,0 +1,13 @@
+package hanglog.like.domain;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class LikeChanges {
+
+    private final List<Long> likedTripIds;
+    private final List<CanceledLike> canceledLikes;
+}
@@ -0,0 +1,16 @@
+package hanglog.like.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class LikeFlushEvent {
+
+    private final int likeCount;
+    private final List<Long> likedTripIds;
+    private final List<CanceledLike> canceledLikes;
+    private final LocalDateTime likedAt;
+}
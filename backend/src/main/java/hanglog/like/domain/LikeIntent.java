@@ -0,0 +1,32 @@
+package hanglog.like.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LikeIntent {
+
+    private final Long memberId;
+    private final Long tripId;
+    private final boolean persistedStatus;
+    private final boolean requestStatus;
+
+    public LikeIntent merge(final LikeIntent next) {
+        return new LikeIntent(memberId, tripId, persistedStatus, next.requestStatus);
+    }
+
+    public boolean isChanged() {
+        return persistedStatus != requestStatus;
+    }
+
+    public long getDelta() {
+        if (!isChanged()) {
+            return 0;
+        }
+        if (requestStatus) {
+            return 1;
+        }
+        return -1;
+    }
+}
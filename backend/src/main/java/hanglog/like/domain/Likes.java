@@ -7,11 +7,15 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "unique_trip_member", columnNames = {"tripId", "memberId"}))
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor(access = PROTECTED)
@@ -27,8 +31,10 @@ public class Likes {
     @Column(nullable = false)
     private Long memberId;
 
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
     public Likes(final Long tripId, final Long memberId) {
-        this.tripId = tripId;
-        this.memberId = memberId;
+        this(null, tripId, memberId, LocalDateTime.now());
     }
 }
@@ -0,0 +1,26 @@
+package hanglog.like.domain;
+
+import static lombok.AccessLevel.PROTECTED;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = PROTECTED)
+@Table(indexes = @Index(name = "idx_trip_like_count_like_count", columnList = "likeCount"))
+public class TripLikeCount {
+
+    @Id
+    private Long tripId;
+
+    @Column(nullable = false)
+    private long likeCount;
+}
@@ -0,0 +1,197 @@
+package hanglog.like.infrastructure;
+
+import static java.sql.ResultSet.CONCUR_READ_ONLY;
+import static java.sql.ResultSet.TYPE_FORWARD_ONLY;
+import static org.springframework.transaction.annotation.Propagation.REQUIRES_NEW;
+
+import hanglog.like.domain.CanceledLike;
+import hanglog.like.domain.LikeChanges;
+import hanglog.like.domain.LikeIntent;
+import hanglog.like.repository.CustomLikeRepository;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+@Repository
+public class CustomLikeRepositoryImpl implements CustomLikeRepository {
+
+    private static final String MYSQL = "MySQL";
+    private static final int SELECT_CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(propagation = REQUIRES_NEW)
+    public LikeChanges saveIntents(final List<LikeIntent> likeIntents, final LocalDateTime likedAt) {
+        final List<LikeIntent> likes = likeIntents.stream()
+                .filter(LikeIntent::isRequestStatus)
+                .toList();
+        final List<LikeIntent> unlikes = likeIntents.stream()
+                .filter(likeIntent -> !likeIntent.isRequestStatus())
+                .toList();
+
+        final List<Long> likedTripIds = saveLikes(likes, likedAt);
+        final List<CanceledLike> canceledLikes = deleteLikes(unlikes);
+        // 배치 결과의 영향받은 행 수는 드라이버 설정에 따라 믿을 수 없으므로 likes 에서 다시 센다.
+        final List<Long> tripIds = likeIntents.stream()
+                .map(LikeIntent::getTripId)
+                .distinct()
+                .toList();
+        updateLikeCounts(tripIds);
+        return new LikeChanges(likedTripIds, canceledLikes);
+    }
+
+    @Override
+    public void findPublishedTripLikesBetween(
+            final LocalDateTime since,
+            final LocalDateTime until,
+            final BiConsumer<Long, LocalDateTime> likeConsumer
+    ) {
+        final String sql = """
+                SELECT l.trip_id, l.created_at
+                FROM likes l
+                JOIN trip t ON t.id = l.trip_id
+                WHERE l.created_at >= ?
+                AND l.created_at < ?
+                AND t.published_status = 'PUBLISHED'
+                AND t.status = 'USABLE'
+                """;
+        final RowCallbackHandler rowCallbackHandler = rs -> likeConsumer.accept(
+                rs.getLong(1),
+                rs.getTimestamp(2).toLocalDateTime()
+        );
+        jdbcTemplate.query(connection -> {
+            final PreparedStatement ps = connection.prepareStatement(sql, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY);
+            setStreamingFetchSize(connection, ps);
+            ps.setTimestamp(1, Timestamp.valueOf(since));
+            ps.setTimestamp(2, Timestamp.valueOf(until));
+            return ps;
+        }, rowCallbackHandler);
+    }
+
+    // MySQL 드라이버는 fetch size 가 Integer.MIN_VALUE 일 때만 결과 전체를 메모리에 올리지 않고 한 행씩 읽는다.
+    private void setStreamingFetchSize(final Connection connection, final PreparedStatement ps) throws SQLException {
+        if (MYSQL.equals(connection.getMetaData().getDatabaseProductName())) {
+            ps.setFetchSize(Integer.MIN_VALUE);
+        }
+    }
+
+    // 이미 있는 좋아요와 없는 좋아요의 취소는 영향받은 행이 없으므로 실제로 바뀐 행만 돌려준다.
+    // 드라이버가 행 수를 알려주지 않으면(SUCCESS_NO_INFO) 바뀌지 않은 것으로 보고, 다음 재계산에서 바로잡는다.
+    private List<Long> saveLikes(final List<LikeIntent> likes, final LocalDateTime likedAt) {
+        final String sql = """
+                INSERT INTO likes (trip_id, member_id, created_at)
+                SELECT ?, ?, ? FROM DUAL
+                WHERE NOT EXISTS (SELECT 1 FROM likes WHERE trip_id = ? AND member_id = ?)
+                """;
+        final Timestamp createdAt = Timestamp.valueOf(likedAt);
+        final int[] updateCounts = batchUpdate(sql, likes, (PreparedStatement ps, LikeIntent likeIntent) -> {
+            ps.setLong(1, likeIntent.getTripId());
+            ps.setLong(2, likeIntent.getMemberId());
+            ps.setTimestamp(3, createdAt);
+            ps.setLong(4, likeIntent.getTripId());
+            ps.setLong(5, likeIntent.getMemberId());
+        });
+        final List<Long> likedTripIds = new ArrayList<>();
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] > 0) {
+                likedTripIds.add(likes.get(i).getTripId());
+            }
+        }
+        return likedTripIds;
+    }
+
+    private List<CanceledLike> deleteLikes(final List<LikeIntent> unlikes) {
+        final Map<LikeKey, LocalDateTime> likedAts = findLikedAts(unlikes);
+        final String sql = "DELETE FROM likes WHERE trip_id = ? AND member_id = ?";
+        final int[] updateCounts = batchUpdate(sql, unlikes, (PreparedStatement ps, LikeIntent likeIntent) -> {
+            ps.setLong(1, likeIntent.getTripId());
+            ps.setLong(2, likeIntent.getMemberId());
+        });
+        final List<CanceledLike> canceledLikes = new ArrayList<>();
+        for (int i = 0; i < updateCounts.length; i++) {
+            final LikeIntent unlike = unlikes.get(i);
+            final LocalDateTime likedAt = likedAts.get(new LikeKey(unlike.getTripId(), unlike.getMemberId()));
+            if (updateCounts[i] > 0 && likedAt != null) {
+                canceledLikes.add(new CanceledLike(unlike.getTripId(), likedAt));
+            }
+        }
+        return canceledLikes;
+    }
+
+    private Map<LikeKey, LocalDateTime> findLikedAts(final List<LikeIntent> unlikes) {
+        final Map<LikeKey, LocalDateTime> likedAts = new HashMap<>();
+        for (int from = 0; from < unlikes.size(); from += SELECT_CHUNK_SIZE) {
+            final List<LikeIntent> chunk = unlikes.subList(from, Math.min(from + SELECT_CHUNK_SIZE, unlikes.size()));
+            final String conditions = String.join(" OR ", chunk.stream()
+                    .map(unlike -> "(trip_id = ? AND member_id = ?)")
+                    .toList());
+            final Object[] args = chunk.stream()
+                    .flatMap(unlike -> Stream.of(unlike.getTripId(), unlike.getMemberId()))
+                    .toArray();
+            jdbcTemplate.query(
+                    "SELECT trip_id, member_id, created_at FROM likes WHERE " + conditions,
+                    (RowCallbackHandler) rs -> likedAts.put(
+                            new LikeKey(rs.getLong(1), rs.getLong(2)),
+                            rs.getTimestamp(3).toLocalDateTime()
+                    ),
+                    args
+            );
+        }
+        return likedAts;
+    }
+
+    private int[] batchUpdate(
+            final String sql,
+            final List<LikeIntent> likeIntents,
+            final ParameterizedPreparedStatementSetter<LikeIntent> setter
+    ) {
+        if (likeIntents.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.batchUpdate(sql, likeIntents, likeIntents.size(), setter)[0];
+    }
+
+    private void updateLikeCounts(final List<Long> tripIds) {
+        if (tripIds.isEmpty()) {
+            return;
+        }
+        final String insertSql = """
+                INSERT INTO trip_like_count (trip_id, like_count)
+                SELECT ?, 0 FROM DUAL
+                WHERE NOT EXISTS (SELECT 1 FROM trip_like_count WHERE trip_id = ?)
+                """;
+        jdbcTemplate.batchUpdate(insertSql, tripIds, tripIds.size(), (PreparedStatement ps, Long tripId) -> {
+            ps.setLong(1, tripId);
+            ps.setLong(2, tripId);
+        });
+
+        final String updateSql = """
+                UPDATE trip_like_count
+                SET like_count = (SELECT COUNT(l.id) FROM likes l WHERE l.trip_id = ?)
+                WHERE trip_id = ?
+                """;
+        jdbcTemplate.batchUpdate(updateSql, tripIds, tripIds.size(), (PreparedStatement ps, Long tripId) -> {
+            ps.setLong(1, tripId);
+            ps.setLong(2, tripId);
+        });
+    }
+
+    private record LikeKey(Long tripId, Long memberId) {
+    }
+}
@@ -0,0 +1,198 @@
+package hanglog.like.infrastructure;
+
+import hanglog.like.domain.LikeIntent;
+import hanglog.like.dto.LikeElement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LikeBuffer {
+
+    private static final int STRIPE_COUNT = 16;
+    private static final int FLUSH_THRESHOLD = 500;
+    private static final int MAX_PENDING_COUNT = 10_000;
+
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+    private final Map<Long, Long> pendingDeltaByTrip = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    public LikeBuffer() {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    public Optional<Boolean> findPendingStatus(final Long memberId, final Long tripId) {
+        final LikeKey likeKey = new LikeKey(memberId, tripId);
+        final Stripe stripe = getStripe(likeKey);
+        synchronized (stripe) {
+            return stripe.findLatest(likeKey).map(LikeIntent::isRequestStatus);
+        }
+    }
+
+    public boolean put(final LikeIntent likeIntent) {
+        final LikeKey likeKey = LikeKey.from(likeIntent);
+        final Stripe stripe = getStripe(likeKey);
+        synchronized (stripe) {
+            final LikeIntent pending = stripe.pending.get(likeKey);
+            final LikeIntent merged = stripe.findLatest(likeKey)
+                    .map(latest -> new LikeIntent(
+                            likeIntent.getMemberId(),
+                            likeIntent.getTripId(),
+                            latest.isRequestStatus(),
+                            likeIntent.isRequestStatus()
+                    ))
+                    .orElse(likeIntent);
+            final LikeIntent next = pending == null ? merged : pending.merge(merged);
+
+            addPendingDelta(likeIntent.getTripId(), next.getDelta() - getDelta(pending));
+            replacePending(stripe, likeKey, pending, next);
+        }
+        return pendingCount.get() >= FLUSH_THRESHOLD;
+    }
+
+    public boolean isFull() {
+        return pendingCount.get() >= MAX_PENDING_COUNT;
+    }
+
+    public List<LikeIntent> drain() {
+        final List<LikeIntent> likeIntents = new ArrayList<>();
+        for (final Stripe stripe : stripes) {
+            synchronized (stripe) {
+                for (final Map.Entry<LikeKey, LikeIntent> entry : stripe.pending.entrySet()) {
+                    stripe.flushing.put(entry.getKey(), entry.getValue());
+                    likeIntents.add(entry.getValue());
+                }
+                pendingCount.addAndGet(-stripe.pending.size());
+                stripe.pending.clear();
+            }
+        }
+        return likeIntents;
+    }
+
+    public void complete(final List<LikeIntent> likeIntents) {
+        for (final LikeIntent likeIntent : likeIntents) {
+            final LikeKey likeKey = LikeKey.from(likeIntent);
+            final Stripe stripe = getStripe(likeKey);
+            synchronized (stripe) {
+                stripe.flushing.remove(likeKey, likeIntent);
+                addPendingDelta(likeIntent.getTripId(), -likeIntent.getDelta());
+            }
+        }
+    }
+
+    public void restore(final List<LikeIntent> likeIntents) {
+        for (final LikeIntent likeIntent : likeIntents) {
+            final LikeKey likeKey = LikeKey.from(likeIntent);
+            final Stripe stripe = getStripe(likeKey);
+            synchronized (stripe) {
+                stripe.flushing.remove(likeKey, likeIntent);
+                final LikeIntent pending = stripe.pending.get(likeKey);
+                final LikeIntent next = pending == null ? likeIntent : likeIntent.merge(pending);
+                replacePending(stripe, likeKey, pending, next);
+            }
+        }
+    }
+
+    public List<LikeElement> overlay(
+            final Long memberId,
+            final List<Long> tripIds,
+            final List<LikeElement> likeElements
+    ) {
+        final Map<Long, LikeElement> likeElementByTrip = likeElements.stream()
+                .collect(Collectors.toMap(LikeElement::getTripId, Function.identity()));
+        final List<LikeElement> overlaid = new ArrayList<>();
+        for (final Long tripId : tripIds) {
+            final LikeElement likeElement = likeElementByTrip.get(tripId);
+            final long pendingDelta = pendingDeltaByTrip.getOrDefault(tripId, 0L);
+            final Optional<Boolean> pendingStatus = findPendingStatus(memberId, tripId);
+            if (likeElement == null && pendingDelta == 0 && pendingStatus.isEmpty()) {
+                continue;
+            }
+            final long likeCount = likeElement == null ? 0 : likeElement.getLikeCount();
+            final boolean isLike = likeElement != null && likeElement.isLike();
+            overlaid.add(new LikeElement(
+                    tripId,
+                    Math.max(likeCount + pendingDelta, 0),
+                    pendingStatus.orElse(isLike)
+            ));
+        }
+        return overlaid;
+    }
+
+    private void replacePending(
+            final Stripe stripe,
+            final LikeKey likeKey,
+            final LikeIntent pending,
+            final LikeIntent next
+    ) {
+        if (next.isChanged()) {
+            stripe.pending.put(likeKey, next);
+            if (pending == null) {
+                pendingCount.incrementAndGet();
+            }
+            return;
+        }
+        if (pending != null) {
+            stripe.pending.remove(likeKey);
+            pendingCount.decrementAndGet();
+        }
+    }
+
+    private void addPendingDelta(final Long tripId, final long delta) {
+        if (delta == 0) {
+            return;
+        }
+        pendingDeltaByTrip.compute(tripId, (id, pendingDelta) -> {
+            final long nextDelta = Objects.requireNonNullElse(pendingDelta, 0L) + delta;
+            return nextDelta == 0 ? null : nextDelta;
+        });
+    }
+
+    private long getDelta(final LikeIntent likeIntent) {
+        if (likeIntent == null) {
+            return 0;
+        }
+        return likeIntent.getDelta();
+    }
+
+    private Stripe getStripe(final LikeKey likeKey) {
+        return stripes[Math.floorMod(likeKey.hashCode(), STRIPE_COUNT)];
+    }
+
+    private static class Stripe {
+
+        private final Map<LikeKey, LikeIntent> pending = new HashMap<>();
+        private final Map<LikeKey, LikeIntent> flushing = new HashMap<>();
+
+        private Optional<LikeIntent> findLatest(final LikeKey likeKey) {
+            if (pending.containsKey(likeKey)) {
+                return Optional.of(pending.get(likeKey));
+            }
+            return Optional.ofNullable(flushing.get(likeKey));
+        }
+    }
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class LikeKey {
+
+        private final Long memberId;
+        private final Long tripId;
+
+        private static LikeKey from(final LikeIntent likeIntent) {
+            return new LikeKey(likeIntent.getMemberId(), likeIntent.getTripId());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package hanglog.like.repository;
+
+import hanglog.like.domain.LikeChanges;
+import hanglog.like.domain.LikeIntent;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+public interface CustomLikeRepository {
+
+    LikeChanges saveIntents(final List<LikeIntent> likeIntents, final LocalDateTime likedAt);
+
+    void findPublishedTripLikesBetween(
+            final LocalDateTime since,
+            final LocalDateTime until,
+            final BiConsumer<Long, LocalDateTime> likeConsumer
+    );
+}
@@ -15,10 +15,9 @@ public interface LikeRepository extends JpaRepository<Likes, Long> {
 
     @Query("""
             SELECT new hanglog.like.dto.LikeElement
-            (l.tripId, COUNT(l.memberId), EXISTS(SELECT 1 FROM Likes l_1 WHERE l_1.memberId = :memberId AND l_1.tripId = l.tripId))
-            FROM Likes l
-            WHERE l.tripId in :tripIds
-            GROUP BY l.tripId
+            (c.tripId, c.likeCount, EXISTS(SELECT 1 FROM Likes l WHERE l.memberId = :memberId AND l.tripId = c.tripId))
+            FROM TripLikeCount c
+            WHERE c.tripId in :tripIds
              """)
     List<LikeElement> findLikeCountAndIsLikeByTripIds(@Param("memberId") final Long memberId,
                                                       @Param("tripIds") final List<Long> tripIds);
@@ -0,0 +1,29 @@
+package hanglog.like.repository;
+
+import hanglog.like.domain.TripLikeCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface TripLikeCountRepository extends JpaRepository<TripLikeCount, Long> {
+
+    @Modifying
+    @Query(value = """
+            UPDATE trip_like_count c
+            SET c.like_count = (SELECT COUNT(l.id) FROM likes l WHERE l.trip_id = c.trip_id)
+            WHERE c.like_count <> (SELECT COUNT(l.id) FROM likes l WHERE l.trip_id = c.trip_id)
+            """, nativeQuery = true)
+    int reconcileLikeCounts();
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO trip_like_count (trip_id, like_count)
+            SELECT t.id, COUNT(l.id)
+            FROM trip t
+            LEFT JOIN likes l ON l.trip_id = t.id
+            WHERE (t.published_status = 'PUBLISHED' OR l.id IS NOT NULL)
+            AND NOT EXISTS (SELECT 1 FROM trip_like_count c WHERE c.trip_id = t.id)
+            GROUP BY t.id
+            """, nativeQuery = true)
+    int insertMissingLikeCounts();
+}
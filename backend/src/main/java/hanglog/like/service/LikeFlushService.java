@@ -0,0 +1,104 @@
+package hanglog.like.service;
+
+import hanglog.like.domain.LikeChanges;
+import hanglog.like.domain.LikeFlushEvent;
+import hanglog.like.domain.LikeIntent;
+import hanglog.like.infrastructure.LikeBuffer;
+import hanglog.like.repository.CustomLikeRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LikeFlushService {
+
+    private final LikeBuffer likeBuffer;
+    private final CustomLikeRepository customLikeRepository;
+    private final ApplicationEventPublisher publisher;
+    private final Lock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    @Scheduled(fixedDelay = 1000)
+    public void flush() {
+        final LikeFlushEvent likeFlushEvent;
+        flushLock.lock();
+        try {
+            likeFlushEvent = drainAndSave();
+        } finally {
+            flushLock.unlock();
+        }
+        if (likeFlushEvent != null) {
+            publisher.publishEvent(likeFlushEvent);
+        }
+    }
+
+    public void writeThrough(final LikeIntent likeIntent) {
+        final LikeFlushEvent likeFlushEvent;
+        flushLock.lock();
+        try {
+            // 버퍼에 같은 좋아요가 남아 있으면 순서를 지키기 위해 버퍼에 합친다.
+            if (likeBuffer.findPendingStatus(likeIntent.getMemberId(), likeIntent.getTripId()).isPresent()) {
+                likeBuffer.put(likeIntent);
+                return;
+            }
+            likeFlushEvent = save(List.of(likeIntent));
+        } finally {
+            flushLock.unlock();
+        }
+        publisher.publishEvent(likeFlushEvent);
+    }
+
+    public void requestFlush() {
+        flushRequested.set(true);
+    }
+
+    @Scheduled(fixedDelay = 100)
+    public void flushIfRequested() {
+        if (flushRequested.compareAndSet(true, false)) {
+            flush();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private LikeFlushEvent drainAndSave() {
+        final List<LikeIntent> likeIntents = likeBuffer.drain();
+        if (likeIntents.isEmpty()) {
+            return null;
+        }
+        final LikeFlushEvent likeFlushEvent;
+        try {
+            likeFlushEvent = save(likeIntents);
+        } catch (final RuntimeException e) {
+            likeBuffer.restore(likeIntents);
+            log.warn("like flush failed, {} intents restored", likeIntents.size(), e);
+            return null;
+        }
+        likeBuffer.complete(likeIntents);
+        return likeFlushEvent;
+    }
+
+    private LikeFlushEvent save(final List<LikeIntent> likeIntents) {
+        final LocalDateTime likedAt = LocalDateTime.now();
+        final LikeChanges likeChanges = customLikeRepository.saveIntents(likeIntents, likedAt);
+        return new LikeFlushEvent(
+                likeIntents.size(),
+                likeChanges.getLikedTripIds(),
+                likeChanges.getCanceledLikes(),
+                likedAt
+        );
+    }
+}
@@ -1,7 +1,8 @@
 package hanglog.like.service;
 
-import hanglog.like.domain.Likes;
+import hanglog.like.domain.LikeIntent;
 import hanglog.like.dto.request.LikeRequest;
+import hanglog.like.infrastructure.LikeBuffer;
 import hanglog.like.repository.LikeRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -13,15 +14,21 @@ import org.springframework.transaction.annotation.Transactional;
 public class LikeService {
 
     private final LikeRepository likeRepository;
+    private final LikeBuffer likeBuffer;
+    private final LikeFlushService likeFlushService;
 
     public void update(final Long memberId, final Long tripId, final LikeRequest likeRequest) {
-        final boolean requestStatus = likeRequest.getIsLike();
+        final boolean persistedStatus = likeBuffer.findPendingStatus(memberId, tripId)
+                .orElseGet(() -> likeRepository.existsByMemberIdAndTripId(memberId, tripId));
+        final LikeIntent likeIntent = new LikeIntent(memberId, tripId, persistedStatus, likeRequest.getIsLike());
 
-        if (requestStatus && !likeRepository.existsByMemberIdAndTripId(memberId, tripId)) {
-            likeRepository.save(new Likes(tripId, memberId));
+        // 반영이 밀려 버퍼가 가득 차면 더 쌓지 않고 요청 스레드에서 바로 저장한다.
+        if (likeBuffer.isFull()) {
+            likeFlushService.writeThrough(likeIntent);
+            return;
         }
-        if (!requestStatus) {
-            likeRepository.deleteByMemberIdAndTripId(memberId, tripId);
+        if (likeBuffer.put(likeIntent)) {
+            likeFlushService.requestFlush();
         }
     }
 }
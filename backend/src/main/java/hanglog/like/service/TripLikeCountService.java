@@ -0,0 +1,24 @@
+package hanglog.like.service;
+
+import hanglog.like.repository.TripLikeCountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TripLikeCountService {
+
+    private final TripLikeCountRepository tripLikeCountRepository;
+
+    @Scheduled(cron = "0 30 4 * * *")
+    public void reconcile() {
+        final int insertedCount = tripLikeCountRepository.insertMissingLikeCounts();
+        final int repairedCount = tripLikeCountRepository.reconcileLikeCounts();
+        log.info("trip like count reconciled: {} inserted, {} repaired", insertedCount, repairedCount);
+    }
+}
@@ -0,0 +1,19 @@
+package hanglog.listener;
+
+import hanglog.currency.domain.CurrencySaveEvent;
+import hanglog.currency.infrastructure.CurrencyRateStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class CurrencySaveEventListener {
+
+    private final CurrencyRateStore currencyRateStore;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void reloadCurrencyRates(final CurrencySaveEvent event) {
+        currencyRateStore.reload();
+    }
+}
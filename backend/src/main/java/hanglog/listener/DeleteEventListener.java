@@ -11,6 +11,7 @@ import hanglog.trip.domain.repository.CustomItemRepository;
 import hanglog.trip.domain.repository.DayLogRepository;
 import hanglog.trip.domain.repository.ImageRepository;
 import hanglog.trip.domain.repository.ItemRepository;
+import hanglog.trip.domain.repository.LedgerSummaryRepository;
 import hanglog.trip.domain.repository.PlaceRepository;
 import hanglog.trip.domain.repository.TripCityRepository;
 import hanglog.trip.domain.repository.TripRepository;
@@ -35,6 +36,7 @@ public class DeleteEventListener {
     private final DayLogRepository dayLogRepository;
     private final TripCityRepository tripCityRepository;
     private final TripRepository tripRepository;
+    private final LedgerSummaryRepository ledgerSummaryRepository;
     private final RefreshTokenRepository refreshTokenRepository;
 
     @Async
@@ -49,6 +51,7 @@ public class DeleteEventListener {
         deleteImageAndItems(itemElements);
 
         dayLogRepository.deleteByIds(dayLogIds);
+        ledgerSummaryRepository.deleteByTripIds(event.getTripIds());
         tripRepository.deleteByMemberId(event.getMemberId());
         refreshTokenRepository.deleteByMemberId(event.getMemberId());
     }
@@ -65,6 +68,7 @@ public class DeleteEventListener {
         deleteImageAndItems(itemElements);
 
         dayLogRepository.deleteByIds(dayLogIds);
+        ledgerSummaryRepository.deleteByTripIds(List.of(event.getTripId()));
         tripCityRepository.deleteAllByTripId(event.getTripId());
     }
 
@@ -2,6 +2,9 @@ package hanglog.listener;
 
 import hanglog.community.domain.PublishedTrip;
 import hanglog.community.domain.repository.PublishedTripRepository;
+import hanglog.community.infrastructure.PublishedTripCounter;
+import hanglog.like.domain.TripLikeCount;
+import hanglog.like.repository.TripLikeCountRepository;
 import hanglog.trip.domain.PublishDeleteEvent;
 import hanglog.trip.domain.PublishEvent;
 import lombok.RequiredArgsConstructor;
@@ -13,19 +16,33 @@ import org.springframework.stereotype.Component;
 public class PublishEventListener {
 
     private final PublishedTripRepository publishedTripRepository;
+    private final TripLikeCountRepository tripLikeCountRepository;
+    private final PublishedTripCounter publishedTripCounter;
 
     @EventListener
     public void publishTrip(final PublishEvent publishEvent) {
         final Long tripId = publishEvent.getTripId();
 
         if (!publishedTripRepository.existsByTripId(tripId)) {
-            final PublishedTrip publishedTrip = new PublishedTrip(tripId);
-            publishedTripRepository.save(publishedTrip);
+            restoreOrSavePublishedTrip(tripId);
+        }
+        if (!tripLikeCountRepository.existsById(tripId)) {
+            tripLikeCountRepository.save(new TripLikeCount(tripId, 0));
         }
     }
 
     @EventListener
     public void deletePublishedTrip(final PublishDeleteEvent publishDeleteEvent) {
-        publishedTripRepository.deleteByTripId(publishDeleteEvent.getTripId());
+        if (publishedTripRepository.deleteByTripId(publishDeleteEvent.getTripId()) > 0) {
+            publishedTripCounter.decreaseOnCommit();
+        }
+    }
+
+    private void restoreOrSavePublishedTrip(final Long tripId) {
+        if (publishedTripRepository.restoreByTripId(tripId) > 0) {
+            return;
+        }
+        final PublishedTrip publishedTrip = new PublishedTrip(tripId);
+        publishedTripRepository.save(publishedTrip);
     }
 }
@@ -0,0 +1,25 @@
+package hanglog.listener;
+
+import hanglog.community.infrastructure.PublishedTripCounter;
+import hanglog.member.domain.MemberDeleteEvent;
+import hanglog.trip.domain.PublishEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class PublishedTripCountEventListener {
+
+    private final PublishedTripCounter publishedTripCounter;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void increasePublishedTrip(final PublishEvent event) {
+        publishedTripCounter.increase();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void invalidateDeletedMemberTrips(final MemberDeleteEvent event) {
+        publishedTripCounter.invalidate();
+    }
+}
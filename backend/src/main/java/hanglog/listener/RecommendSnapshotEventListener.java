@@ -0,0 +1,41 @@
+package hanglog.listener;
+
+import hanglog.community.domain.recommendstrategy.RecommendStrategies;
+import hanglog.community.service.RecommendSnapshotService;
+import hanglog.like.domain.LikeFlushEvent;
+import hanglog.member.domain.MemberDeleteEvent;
+import hanglog.trip.domain.PublishDeleteEvent;
+import hanglog.trip.domain.TripDeleteEvent;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class RecommendSnapshotEventListener {
+
+    private final RecommendSnapshotService recommendSnapshotService;
+    private final RecommendStrategies recommendStrategies;
+
+    @EventListener
+    public void addLikeChanges(final LikeFlushEvent event) {
+        recommendSnapshotService.addLikeChanges(event.getLikeCount());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void removeUnpublishedTrip(final PublishDeleteEvent event) {
+        recommendStrategies.removeFromSnapshots(List.of(event.getTripId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void removeDeletedTrip(final TripDeleteEvent event) {
+        recommendStrategies.removeFromSnapshots(List.of(event.getTripId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void removeDeletedMemberTrips(final MemberDeleteEvent event) {
+        recommendStrategies.removeFromSnapshots(event.getTripIds());
+    }
+}
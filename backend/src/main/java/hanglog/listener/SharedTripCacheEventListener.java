@@ -0,0 +1,40 @@
+package hanglog.listener;
+
+import hanglog.member.domain.MemberDeleteEvent;
+import hanglog.member.domain.MemberUpdateEvent;
+import hanglog.trip.domain.TripDeleteEvent;
+import hanglog.trip.domain.TripUpdateEvent;
+import hanglog.trip.domain.repository.CustomTripRepository;
+import hanglog.trip.infrastructure.SharedTripCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class SharedTripCacheEventListener {
+
+    private final SharedTripCache sharedTripCache;
+    private final CustomTripRepository customTripRepository;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evictUpdatedTrip(final TripUpdateEvent event) {
+        sharedTripCache.evict(event.getTripId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evictDeletedTrip(final TripDeleteEvent event) {
+        sharedTripCache.evict(event.getTripId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evictDeletedMemberTrips(final MemberDeleteEvent event) {
+        sharedTripCache.evictAll(event.getTripIds());
+    }
+
+    // 공유 여행 응답에 작성자 닉네임과 프로필 사진이 포함되어 있다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evictUpdatedMemberTrips(final MemberUpdateEvent event) {
+        sharedTripCache.evictAll(customTripRepository.findTripIdsByMemberId(event.getMemberId()));
+    }
+}
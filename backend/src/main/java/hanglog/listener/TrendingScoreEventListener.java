@@ -0,0 +1,36 @@
+package hanglog.listener;
+
+import hanglog.community.infrastructure.TrendingScoreIndex;
+import hanglog.like.domain.LikeFlushEvent;
+import hanglog.member.domain.MemberDeleteEvent;
+import hanglog.trip.domain.PublishDeleteEvent;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class TrendingScoreEventListener {
+
+    private final TrendingScoreIndex trendingScoreIndex;
+
+    @EventListener
+    public void applyLikeChanges(final LikeFlushEvent event) {
+        trendingScoreIndex.addLikes(event.getLikedTripIds(), event.getLikedAt());
+        event.getCanceledLikes().forEach(canceledLike ->
+                trendingScoreIndex.removeLike(canceledLike.getTripId(), canceledLike.getLikedAt())
+        );
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void removeDeletedPublishedTrip(final PublishDeleteEvent event) {
+        trendingScoreIndex.removeAll(List.of(event.getTripId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void removeDeletedMemberTrips(final MemberDeleteEvent event) {
+        trendingScoreIndex.removeAll(event.getTripIds());
+    }
+}
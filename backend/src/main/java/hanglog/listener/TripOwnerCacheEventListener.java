@@ -0,0 +1,25 @@
+package hanglog.listener;
+
+import hanglog.member.domain.MemberDeleteEvent;
+import hanglog.trip.domain.TripDeleteEvent;
+import hanglog.trip.infrastructure.TripOwnerCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class TripOwnerCacheEventListener {
+
+    private final TripOwnerCache tripOwnerCache;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evictDeletedTrip(final TripDeleteEvent event) {
+        tripOwnerCache.evict(event.getTripId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evictDeletedMemberTrips(final MemberDeleteEvent event) {
+        tripOwnerCache.evictAll(event.getTripIds());
+    }
+}
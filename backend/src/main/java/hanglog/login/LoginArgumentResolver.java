@@ -2,6 +2,7 @@ package hanglog.login;
 
 import static hanglog.global.exception.ExceptionCode.INVALID_REQUEST;
 import static hanglog.global.exception.ExceptionCode.NOT_FOUND_REFRESH_TOKEN;
+import static hanglog.global.config.datasource.ReadYourWritesTracker.MEMBER_ID_ATTRIBUTE;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 
 import hanglog.auth.Auth;
@@ -12,9 +13,12 @@ import hanglog.login.domain.MemberTokens;
 import hanglog.login.domain.repository.RefreshTokenRepository;
 import hanglog.login.infrastructure.BearerAuthorizationExtractor;
 import hanglog.login.infrastructure.JwtProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.MethodParameter;
 import org.springframework.stereotype.Component;
@@ -28,6 +32,7 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 public class LoginArgumentResolver implements HandlerMethodArgumentResolver {
 
     private static final String REFRESH_TOKEN = "refresh-token";
+    private static final String AUTH_RESOLVE_METRIC = "auth.resolve";
 
     private final JwtProvider jwtProvider;
 
@@ -35,6 +40,8 @@ public class LoginArgumentResolver implements HandlerMethodArgumentResolver {
 
     private final RefreshTokenRepository refreshTokenRepository;
 
+    private final MeterRegistry meterRegistry;
+
     @Override
     public boolean supportsParameter(final MethodParameter parameter) {
         return parameter.withContainingClass(Long.class)
@@ -53,12 +60,28 @@ public class LoginArgumentResolver implements HandlerMethodArgumentResolver {
             throw new BadRequestException(INVALID_REQUEST);
         }
 
+        final long start = System.nanoTime();
+        String result = "rejected";
+        try {
+            final Accessor accessor = resolveAccessor(request, webRequest.getHeader(AUTHORIZATION));
+            result = accessor.isMember() ? "member" : "guest";
+            return accessor;
+        } finally {
+            Timer.builder(AUTH_RESOLVE_METRIC)
+                    .tag("result", result)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Accessor resolveAccessor(final HttpServletRequest request, final String authorizationHeader) {
         try {
             final String refreshToken = extractRefreshToken(request.getCookies());
-            final String accessToken = extractor.extractAccessToken(webRequest.getHeader(AUTHORIZATION));
+            final String accessToken = extractor.extractAccessToken(authorizationHeader);
             jwtProvider.validateTokens(new MemberTokens(refreshToken, accessToken));
 
             final Long memberId = Long.valueOf(jwtProvider.getSubject(accessToken));
+            request.setAttribute(MEMBER_ID_ATTRIBUTE, memberId);
             return Accessor.member(memberId);
         } catch (final RefreshTokenException e) {
             return Accessor.guest();
@@ -77,7 +100,7 @@ public class LoginArgumentResolver implements HandlerMethodArgumentResolver {
     }
 
     private boolean isValidRefreshToken(final Cookie cookie) {
-        // TODO: refreshToken 만료 기한 검사 필요
+        // 만료된 refreshToken 은 JwtProvider.validateTokens 에서 걸러지고, 저장소에서는 RefreshTokenSweepService 가 정리한다.
         return REFRESH_TOKEN.equals(cookie.getName()) &&
                 refreshTokenRepository.existsByToken(cookie.getValue());
     }
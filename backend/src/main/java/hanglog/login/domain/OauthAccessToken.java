@@ -24,4 +24,7 @@ public class OauthAccessToken {
 
     @JsonProperty("refresh_token")
     private String refreshToken;
+
+    @JsonProperty("id_token")
+    private String idToken;
 }
@@ -5,6 +5,7 @@ import static lombok.AccessLevel.PROTECTED;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import java.time.LocalDateTime;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -19,8 +20,12 @@ public class RefreshToken {
     @Column(nullable = false)
     private Long memberId;
 
-    public RefreshToken(final String token, final Long memberId) {
+    @Column(nullable = false)
+    private LocalDateTime expiredAt;
+
+    public RefreshToken(final String token, final Long memberId, final LocalDateTime expiredAt) {
         this.token = token;
         this.memberId = memberId;
+        this.expiredAt = expiredAt;
     }
 }
@@ -1,12 +1,18 @@
 package hanglog.login.domain.repository;
 
 import hanglog.login.domain.RefreshToken;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 로그아웃과 회원 탈퇴가 모든 서버에 바로 반영되어야 하므로 서버별 메모리 저장소를 두지 않고 DB 를 유일한 저장소로 쓴다.
+ * 인증 요청마다 호출되는 existsByToken 은 기본 키 단건 조회이고, 테이블 크기는 만료 토큰 정리로 제한한다.
+ */
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
 
     Optional<RefreshToken> findByToken(final String token);
@@ -19,4 +25,13 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Stri
             WHERE refreshToken.memberId = :memberId
             """)
     void deleteByMemberId(@Param("memberId") final Long memberId);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM refresh_token
+            WHERE expired_at < :now
+            LIMIT :limit
+            """, nativeQuery = true)
+    int deleteExpired(@Param("now") final LocalDateTime now, @Param("limit") final int limit);
 }
@@ -5,18 +5,24 @@ import static hanglog.global.exception.ExceptionCode.EXPIRED_PERIOD_REFRESH_TOKE
 import static hanglog.global.exception.ExceptionCode.INVALID_ACCESS_TOKEN;
 import static hanglog.global.exception.ExceptionCode.INVALID_REFRESH_TOKEN;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import hanglog.global.exception.ExpiredPeriodJwtException;
 import hanglog.global.exception.InvalidJwtException;
 import hanglog.login.domain.MemberTokens;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Header;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Date;
 import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
@@ -27,9 +33,14 @@ public class JwtProvider {
 
     public static final String EMPTY_SUBJECT = "";
 
+    private static final long VERIFIED_CLAIMS_MAXIMUM_SIZE = 10_000;
+    private static final Duration VERIFIED_CLAIMS_MAX_TTL = Duration.ofMinutes(10);
+
     private final SecretKey secretKey;
     private final Long accessExpirationTime;
     private final Long refreshExpirationTime;
+    private final JwtParser jwtParser;
+    private final Cache<String, Claims> verifiedClaims;
 
     public JwtProvider(
             @Value("${security.jwt.secret-key}") final String secretKey,
@@ -39,6 +50,13 @@ public class JwtProvider {
         this.secretKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
         this.accessExpirationTime = accessExpirationTime;
         this.refreshExpirationTime = refreshExpirationTime;
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(this.secretKey)
+                .build();
+        this.verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(VERIFIED_CLAIMS_MAXIMUM_SIZE)
+                .expireAfter(new ClaimsExpiry())
+                .build();
     }
 
     public MemberTokens generateLoginToken(final String subject) {
@@ -86,16 +104,25 @@ public class JwtProvider {
     }
 
     public String getSubject(final String token) {
-        return parseToken(token)
-                .getBody()
-                .getSubject();
+        return parseToken(token).getSubject();
+    }
+
+    public LocalDateTime getExpiredAt(final String token) {
+        final Date expiration = parseToken(token).getExpiration();
+        return LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault());
     }
 
-    private Jws<Claims> parseToken(final String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token);
+    /**
+     * 서명을 검증한 토큰의 Claims 는 만료 시각까지(최대 VERIFIED_CLAIMS_MAX_TTL) 캐싱해 같은 토큰을 다시 파싱하지 않는다.
+     */
+    private Claims parseToken(final String token) {
+        final Claims cachedClaims = verifiedClaims.getIfPresent(token);
+        if (cachedClaims != null) {
+            return cachedClaims;
+        }
+        final Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        verifiedClaims.put(token, claims);
+        return claims;
     }
 
     public boolean isValidRefreshAndInvalidAccess(final String refreshToken, final String accessToken) {
@@ -121,4 +148,38 @@ public class JwtProvider {
             return false;
         }
     }
+
+    private static class ClaimsExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(final String token, final Claims claims, final long currentTime) {
+            final Date expiration = claims.getExpiration();
+            final long maxTtlNanos = VERIFIED_CLAIMS_MAX_TTL.toNanos();
+            if (expiration == null) {
+                return maxTtlNanos;
+            }
+            final long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return Math.max(0, Math.min(maxTtlNanos, Duration.ofMillis(remainingMillis).toNanos()));
+        }
+
+        @Override
+        public long expireAfterUpdate(
+                final String token,
+                final Claims claims,
+                final long currentTime,
+                final long currentDuration
+        ) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(
+                final String token,
+                final Claims claims,
+                final long currentTime,
+                final long currentDuration
+        ) {
+            return currentDuration;
+        }
+    }
 }
@@ -0,0 +1,124 @@
+package hanglog.login.infrastructure.oauthprovider;
+
+import static hanglog.global.exception.ExceptionCode.INVALID_ID_TOKEN;
+
+import hanglog.global.exception.AuthException;
+import hanglog.login.infrastructure.oauthuserinfo.GoogleUserInfo;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import java.security.Key;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+/**
+ * 토큰 응답의 id_token 을 캐싱된 JWKS 공개키로 직접 검증해 userinfo 요청을 생략한다.
+ * 처음 보는 kid 가 오면 키 교체로 보고 JWKS 를 다시 받아오되, 최소 간격을 두어 요청이 몰리지 않게 한다.
+ */
+@Component
+public class GoogleIdTokenVerifier {
+
+    private static final String PROVIDER_NAME = "google";
+    private static final Set<String> ISSUERS = Set.of("accounts.google.com", "https://accounts.google.com");
+    private static final Duration KEYS_MAX_AGE = Duration.ofHours(1);
+    private static final Duration MIN_REFRESH_INTERVAL = Duration.ofMinutes(1);
+    private static final long ALLOWED_CLOCK_SKEW_SECONDS = 60;
+
+    private final OauthApiClient oauthApiClient;
+    private final String jwksUri;
+    private final JwtParser jwtParser;
+
+    private volatile Map<String, PublicKey> publicKeys = Map.of();
+    private volatile Instant fetchedAt = Instant.EPOCH;
+
+    public GoogleIdTokenVerifier(
+            final OauthApiClient oauthApiClient,
+            @Value("${oauth2.provider.google.client-id}") final String clientId,
+            @Value("${oauth2.provider.google.jwks-uri:https://www.googleapis.com/oauth2/v3/certs}") final String jwksUri
+    ) {
+        this.oauthApiClient = oauthApiClient;
+        this.jwksUri = jwksUri;
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(final JwsHeader header, final Claims claims) {
+                        return findPublicKey(header.getKeyId());
+                    }
+                })
+                .requireAudience(clientId)
+                .setAllowedClockSkewSeconds(ALLOWED_CLOCK_SKEW_SECONDS)
+                .build();
+    }
+
+    /**
+     * id_token 이 없거나 프로필 정보가 담겨 있지 않으면 빈 값을 돌려주어 userinfo 요청으로 대신하게 한다.
+     */
+    public Optional<GoogleUserInfo> verify(final String idToken) {
+        if (idToken == null || idToken.isBlank()) {
+            return Optional.empty();
+        }
+        final Claims claims = parseClaims(idToken);
+        if (!ISSUERS.contains(claims.getIssuer())) {
+            throw new AuthException(INVALID_ID_TOKEN);
+        }
+        final String name = claims.get("name", String.class);
+        if (name == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new GoogleUserInfo(claims.getSubject(), name, claims.get("picture", String.class)));
+    }
+
+    private Claims parseClaims(final String idToken) {
+        try {
+            return jwtParser.parseClaimsJws(idToken).getBody();
+        } catch (final JwtException | IllegalArgumentException e) {
+            throw new AuthException(INVALID_ID_TOKEN);
+        }
+    }
+
+    private PublicKey findPublicKey(final String keyId) {
+        final Instant now = Instant.now();
+        if (now.isAfter(fetchedAt.plus(KEYS_MAX_AGE))) {
+            refreshPublicKeys(now);
+        }
+        PublicKey publicKey = publicKeys.get(keyId);
+        if (publicKey == null && now.isAfter(fetchedAt.plus(MIN_REFRESH_INTERVAL))) {
+            refreshPublicKeys(now);
+            publicKey = publicKeys.get(keyId);
+        }
+        if (publicKey == null) {
+            throw new AuthException(INVALID_ID_TOKEN);
+        }
+        return publicKey;
+    }
+
+    private synchronized void refreshPublicKeys(final Instant requestedAt) {
+        if (fetchedAt.isAfter(requestedAt)) {
+            return;
+        }
+        final GoogleJwks jwks = oauthApiClient.exchange(
+                PROVIDER_NAME,
+                "jwks",
+                jwksUri,
+                HttpMethod.GET,
+                HttpEntity.EMPTY,
+                GoogleJwks.class
+        ).getBody();
+        if (jwks == null) {
+            throw new AuthException(INVALID_ID_TOKEN);
+        }
+        publicKeys = jwks.toPublicKeys();
+        fetchedAt = Instant.now();
+    }
+}
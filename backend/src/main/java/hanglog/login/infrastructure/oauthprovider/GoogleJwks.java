@@ -0,0 +1,64 @@
+package hanglog.login.infrastructure.oauthprovider;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = PRIVATE)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GoogleJwks {
+
+    private static final String RSA = "RSA";
+
+    @JsonProperty("keys")
+    private List<Jwk> keys = List.of();
+
+    public Map<String, PublicKey> toPublicKeys() {
+        return keys.stream()
+                .filter(jwk -> RSA.equals(jwk.keyType))
+                .collect(Collectors.toUnmodifiableMap(jwk -> jwk.keyId, Jwk::toPublicKey));
+    }
+
+    @NoArgsConstructor(access = PRIVATE)
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class Jwk {
+
+        @JsonProperty("kid")
+        private String keyId;
+
+        @JsonProperty("kty")
+        private String keyType;
+
+        @JsonProperty("n")
+        private String modulus;
+
+        @JsonProperty("e")
+        private String exponent;
+
+        private PublicKey toPublicKey() {
+            final Base64.Decoder decoder = Base64.getUrlDecoder();
+            final RSAPublicKeySpec keySpec = new RSAPublicKeySpec(
+                    new BigInteger(1, decoder.decode(modulus)),
+                    new BigInteger(1, decoder.decode(exponent))
+            );
+            try {
+                return KeyFactory.getInstance(RSA).generatePublic(keySpec);
+            } catch (final GeneralSecurityException e) {
+                throw new IllegalStateException("JWK 를 RSA 공개키로 변환할 수 없습니다.", e);
+            }
+        }
+    }
+}
@@ -30,19 +30,25 @@ public class GoogleOauthProvider implements OauthProvider {
     protected final String redirectUri;
     protected final String tokenUri;
     protected final String userUri;
+    private final OauthApiClient oauthApiClient;
+    private final GoogleIdTokenVerifier googleIdTokenVerifier;
 
     public GoogleOauthProvider(
             @Value(PROPERTIES_PATH + "client-id}") final String clientId,
             @Value(PROPERTIES_PATH + "client-secret}") final String clientSecret,
             @Value(PROPERTIES_PATH + "redirect-uri}") final String redirectUri,
             @Value(PROPERTIES_PATH + "token-uri}") final String tokenUri,
-            @Value(PROPERTIES_PATH + "user-info}") final String userUri
+            @Value(PROPERTIES_PATH + "user-info}") final String userUri,
+            final OauthApiClient oauthApiClient,
+            final GoogleIdTokenVerifier googleIdTokenVerifier
     ) {
         this.clientId = clientId;
         this.clientSecret = clientSecret;
         this.redirectUri = redirectUri;
         this.tokenUri = tokenUri;
         this.userUri = userUri;
+        this.oauthApiClient = oauthApiClient;
+        this.googleIdTokenVerifier = googleIdTokenVerifier;
     }
 
     @Override
@@ -52,12 +58,20 @@ public class GoogleOauthProvider implements OauthProvider {
 
     @Override
     public OauthUserInfo getUserInfo(final String code) {
-        final String accessToken = requestAccessToken(code);
+        final OauthAccessToken oauthAccessToken = requestAccessToken(code);
+        return googleIdTokenVerifier.verify(oauthAccessToken.getIdToken())
+                .map(OauthUserInfo.class::cast)
+                .orElseGet(() -> requestUserInfo(oauthAccessToken.getAccessToken()));
+    }
+
+    private OauthUserInfo requestUserInfo(final String accessToken) {
         final HttpHeaders headers = new HttpHeaders();
         headers.setBearerAuth(accessToken);
         final HttpEntity<MultiValueMap<String, String>> userInfoRequestEntity = new HttpEntity<>(headers);
 
-        final ResponseEntity<GoogleUserInfo> response = restTemplate.exchange(
+        final ResponseEntity<GoogleUserInfo> response = oauthApiClient.exchange(
+                PROVIDER_NAME,
+                "userinfo",
                 userUri,
                 HttpMethod.GET,
                 userInfoRequestEntity,
@@ -70,7 +84,7 @@ public class GoogleOauthProvider implements OauthProvider {
         throw new AuthException(NOT_SUPPORTED_OAUTH_SERVICE);
     }
 
-    private String requestAccessToken(final String code) {
+    private OauthAccessToken requestAccessToken(final String code) {
         final MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
         final HttpHeaders httpHeaders = new HttpHeaders();
         httpHeaders.setBasicAuth(clientId, clientSecret);
@@ -83,7 +97,9 @@ public class GoogleOauthProvider implements OauthProvider {
         params.add("grant_type", "authorization_code");
 
         final HttpEntity<MultiValueMap<String, String>> accessTokenRequestEntity = new HttpEntity<>(params, httpHeaders);
-        final ResponseEntity<OauthAccessToken> accessTokenResponse = restTemplate.exchange(
+        final ResponseEntity<OauthAccessToken> accessTokenResponse = oauthApiClient.exchange(
+                PROVIDER_NAME,
+                "token",
                 tokenUri,
                 HttpMethod.POST,
                 accessTokenRequestEntity,
@@ -91,7 +107,6 @@ public class GoogleOauthProvider implements OauthProvider {
         );
 
         return Optional.ofNullable(accessTokenResponse.getBody())
-                .orElseThrow(() -> new AuthException(INVALID_AUTHORIZATION_CODE))
-                .getAccessToken();
+                .orElseThrow(() -> new AuthException(INVALID_AUTHORIZATION_CODE));
     }
 }
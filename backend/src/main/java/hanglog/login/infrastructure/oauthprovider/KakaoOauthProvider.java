@@ -30,19 +30,22 @@ public class KakaoOauthProvider implements OauthProvider {
     protected final String redirectUri;
     protected final String tokenUri;
     protected final String userUri;
+    private final OauthApiClient oauthApiClient;
 
     public KakaoOauthProvider(
             @Value(PROPERTIES_PATH + "client-id}") final String clientId,
             @Value(PROPERTIES_PATH + "client-secret}") final String clientSecret,
             @Value(PROPERTIES_PATH + "redirect-uri}") final String redirectUri,
             @Value(PROPERTIES_PATH + "token-uri}") final String tokenUri,
-            @Value(PROPERTIES_PATH + "user-info}") final String userUri
+            @Value(PROPERTIES_PATH + "user-info}") final String userUri,
+            final OauthApiClient oauthApiClient
     ) {
         this.clientId = clientId;
         this.clientSecret = clientSecret;
         this.redirectUri = redirectUri;
         this.tokenUri = tokenUri;
         this.userUri = userUri;
+        this.oauthApiClient = oauthApiClient;
     }
 
     @Override
@@ -57,7 +60,9 @@ public class KakaoOauthProvider implements OauthProvider {
         headers.setBearerAuth(accessToken);
         final HttpEntity<MultiValueMap<String, String>> userInfoRequestEntity = new HttpEntity<>(headers);
 
-        final ResponseEntity<KakaoUserInfo> response = restTemplate.exchange(
+        final ResponseEntity<KakaoUserInfo> response = oauthApiClient.exchange(
+                PROVIDER_NAME,
+                "userinfo",
                 userUri,
                 HttpMethod.GET,
                 userInfoRequestEntity,
@@ -81,7 +86,9 @@ public class KakaoOauthProvider implements OauthProvider {
         params.add("grant_type", "authorization_code");
         final HttpEntity<MultiValueMap<String, String>> accessTokenRequestEntity = new HttpEntity<>(params, headers);
 
-        final ResponseEntity<OauthAccessToken> accessTokenResponse = restTemplate.exchange(
+        final ResponseEntity<OauthAccessToken> accessTokenResponse = oauthApiClient.exchange(
+                PROVIDER_NAME,
+                "token",
                 tokenUri,
                 HttpMethod.POST,
                 accessTokenRequestEntity,
@@ -0,0 +1,99 @@
+package hanglog.login.infrastructure.oauthprovider;
+
+import static hanglog.global.exception.ExceptionCode.FAIL_TO_REQUEST_OAUTH_SERVICE;
+import static hanglog.global.exception.ExceptionCode.OAUTH_SERVICE_BUSY;
+
+import hanglog.global.exception.AuthException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * OAuth 제공자 호출을 제공자별 동시 호출 수(bulkhead)로 제한해, 느린 제공자가 톰캣 스레드를 모두 점유하지 않도록 한다.
+ */
+@Component
+public class OauthApiClient {
+
+    private static final String REQUEST_METRIC = "oauth.client.requests";
+    private static final String REJECTED_METRIC = "oauth.client.rejected";
+    private static final String AVAILABLE_METRIC = "oauth.client.bulkhead.available";
+
+    private final RestTemplate restTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int maxConcurrentCalls;
+    private final long maxWaitMillis;
+    private final Map<String, Semaphore> bulkheads = new ConcurrentHashMap<>();
+
+    public OauthApiClient(
+            @Qualifier("oauthRestTemplate") final RestTemplate restTemplate,
+            final MeterRegistry meterRegistry,
+            @Value("${oauth2.client.max-concurrent-calls:20}") final int maxConcurrentCalls,
+            @Value("${oauth2.client.max-wait-ms:200}") final long maxWaitMillis
+    ) {
+        this.restTemplate = restTemplate;
+        this.meterRegistry = meterRegistry;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    public <T> ResponseEntity<T> exchange(
+            final String provider,
+            final String operation,
+            final String url,
+            final HttpMethod method,
+            final HttpEntity<?> requestEntity,
+            final Class<T> responseType
+    ) {
+        final Semaphore bulkhead = bulkheads.computeIfAbsent(provider, this::createBulkhead);
+        if (!tryAcquire(bulkhead)) {
+            meterRegistry.counter(REJECTED_METRIC, "provider", provider).increment();
+            throw new AuthException(OAUTH_SERVICE_BUSY);
+        }
+
+        final long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            final ResponseEntity<T> response = restTemplate.exchange(url, method, requestEntity, responseType);
+            outcome = "success";
+            return response;
+        } catch (final RestClientException e) {
+            throw new AuthException(FAIL_TO_REQUEST_OAUTH_SERVICE);
+        } finally {
+            bulkhead.release();
+            Timer.builder(REQUEST_METRIC)
+                    .tag("provider", provider)
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Semaphore createBulkhead(final String provider) {
+        final Semaphore bulkhead = new Semaphore(maxConcurrentCalls);
+        meterRegistry.gauge(AVAILABLE_METRIC, Tags.of("provider", provider), bulkhead, Semaphore::availablePermits);
+        return bulkhead;
+    }
+
+    private boolean tryAcquire(final Semaphore bulkhead) {
+        try {
+            return bulkhead.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
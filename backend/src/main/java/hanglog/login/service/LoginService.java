@@ -52,7 +52,11 @@ public class LoginService {
                 oauthUserInfo.getImageUrl()
         );
         final MemberTokens memberTokens = jwtProvider.generateLoginToken(member.getId().toString());
-        final RefreshToken savedRefreshToken = new RefreshToken(memberTokens.getRefreshToken(), member.getId());
+        final RefreshToken savedRefreshToken = new RefreshToken(
+                memberTokens.getRefreshToken(),
+                member.getId(),
+                jwtProvider.getExpiredAt(memberTokens.getRefreshToken())
+        );
         refreshTokenRepository.save(savedRefreshToken);
         return memberTokens;
     }
@@ -101,6 +105,8 @@ public class LoginService {
         publishedTripRepository.deleteByTripIds(tripIds);
         sharedTripRepository.deleteByTripIds(tripIds);
         memberRepository.deleteByMemberId(memberId);
+        // 비동기 삭제가 끝나기 전에도 탈퇴한 회원의 토큰으로 인증되지 않도록 탈퇴와 같은 트랜잭션에서 삭제한다.
+        refreshTokenRepository.deleteByMemberId(memberId);
         publisher.publishEvent(new MemberDeleteEvent(tripIds, memberId));
     }
 }
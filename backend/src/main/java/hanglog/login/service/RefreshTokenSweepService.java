@@ -0,0 +1,71 @@
+package hanglog.login.service;
+
+import hanglog.login.domain.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class RefreshTokenSweepService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final int chunkSize;
+    private final int maxChunks;
+    private final Timer sweepTimer;
+    private final Counter sweptCounter;
+    private final AtomicLong tokenCount = new AtomicLong();
+
+    public RefreshTokenSweepService(
+            final RefreshTokenRepository refreshTokenRepository,
+            final MeterRegistry meterRegistry,
+            @Value("${security.refresh-token.sweep-chunk-size:1000}") final int chunkSize,
+            @Value("${security.refresh-token.sweep-max-chunks:100}") final int maxChunks
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+        this.sweepTimer = meterRegistry.timer("refresh_token.sweep");
+        this.sweptCounter = meterRegistry.counter("refresh_token.swept");
+        meterRegistry.gauge("refresh_token.size", tokenCount);
+    }
+
+    /**
+     * 만료된 refreshToken 을 chunkSize 단위로 나누어 지워 한 번에 긴 락을 잡지 않도록 한다.
+     * 한 번의 실행에서 maxChunks 를 넘기면 나머지는 다음 실행으로 미룬다.
+     */
+    @Scheduled(cron = "${security.refresh-token.sweep-cron:0 15 * * * *}")
+    public int sweep() {
+        final int sweptCount = sweepTimer.record(this::sweepExpiredTokens);
+        sweptCounter.increment(sweptCount);
+        countTokens();
+        log.info("expired refresh tokens swept: {} deleted, {} remaining", sweptCount, tokenCount.get());
+        return sweptCount;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void countTokens() {
+        tokenCount.set(refreshTokenRepository.count());
+    }
+
+    private int sweepExpiredTokens() {
+        final LocalDateTime now = LocalDateTime.now();
+        int sweptCount = 0;
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            final int deletedCount = refreshTokenRepository.deleteExpired(now, chunkSize);
+            sweptCount += deletedCount;
+            if (deletedCount < chunkSize) {
+                break;
+            }
+        }
+        return sweptCount;
+    }
+}
@@ -0,0 +1,11 @@
+package hanglog.member.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class MemberUpdateEvent {
+
+    private final Long memberId;
+}
@@ -7,6 +7,7 @@ import static hanglog.global.exception.ExceptionCode.NOT_FOUND_MEMBER_ID;
 import hanglog.global.exception.BadRequestException;
 import hanglog.image.domain.S3ImageEvent;
 import hanglog.member.domain.Member;
+import hanglog.member.domain.MemberUpdateEvent;
 import hanglog.member.domain.repository.MemberRepository;
 import hanglog.member.dto.request.MyPageRequest;
 import hanglog.member.dto.response.MyPageResponse;
@@ -49,6 +50,7 @@ public class MemberService {
         );
         deleteOriginalImage(member.getImageUrl(), updateMember.getImageUrl());
         memberRepository.save(updateMember);
+        publisher.publishEvent(new MemberUpdateEvent(memberId));
     }
 
     private void checkDuplicatedNickname(final String nickname) {
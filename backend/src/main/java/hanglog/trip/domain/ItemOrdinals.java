@@ -0,0 +1,40 @@
+package hanglog.trip.domain;
+
+import static hanglog.global.exception.ExceptionCode.EXCEED_ITEM_COUNT_OF_DAY_LOG;
+
+import hanglog.global.exception.InvalidDomainException;
+import java.util.OptionalInt;
+
+/**
+ * 아이템 순서는 GAP 간격으로 띄워 저장해, 아이템 하나를 옮길 때 앞뒤 아이템 사이의 값만 골라 한 행만 수정한다.
+ * 사이에 넣을 값이 없으면 날짜의 아이템 전체를 다시 GAP 간격으로 재배치한다.
+ */
+public final class ItemOrdinals {
+
+    public static final int GAP = 1 << 16;
+
+    private ItemOrdinals() {
+    }
+
+    public static int ofPosition(final int index) {
+        final long ordinal = ((long) index + 1) * GAP;
+        if (ordinal > Integer.MAX_VALUE) {
+            throw new InvalidDomainException(EXCEED_ITEM_COUNT_OF_DAY_LOG);
+        }
+        return (int) ordinal;
+    }
+
+    public static OptionalInt after(final int previousOrdinal) {
+        if (previousOrdinal > Integer.MAX_VALUE - GAP) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(previousOrdinal + GAP);
+    }
+
+    public static OptionalInt between(final int previousOrdinal, final int nextOrdinal) {
+        if ((long) nextOrdinal - previousOrdinal <= 1) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of((int) (((long) previousOrdinal + nextOrdinal) / 2));
+    }
+}
@@ -0,0 +1,60 @@
+package hanglog.trip.domain;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+import static lombok.AccessLevel.PROTECTED;
+
+import hanglog.expense.domain.Amount;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = PROTECTED)
+@Table(
+        uniqueConstraints = @UniqueConstraint(
+                name = "unique_day_log_category_currency",
+                columnNames = {"dayLogId", "categoryId", "currency"}
+        ),
+        indexes = @Index(name = "idx_ledger_summary_trip_id", columnList = "tripId")
+)
+public class LedgerSummary {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long tripId;
+
+    @Column(nullable = false)
+    private Long dayLogId;
+
+    @Column(nullable = false)
+    private Long categoryId;
+
+    @Column(nullable = false)
+    private String currency;
+
+    @Embedded
+    private Amount amount;
+
+    public LedgerSummary(
+            final Long tripId,
+            final Long dayLogId,
+            final Long categoryId,
+            final String currency,
+            final Amount amount
+    ) {
+        this(null, tripId, dayLogId, categoryId, currency, amount);
+    }
+}
@@ -0,0 +1,11 @@
+package hanglog.trip.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class TripUpdateEvent {
+
+    private final Long tripId;
+}
@@ -2,10 +2,17 @@ package hanglog.trip.domain.repository;
 
 import hanglog.trip.dto.ItemElement;
 import java.util.List;
+import java.util.Optional;
 
 public interface CustomItemRepository {
 
     List<ItemElement> findItemIdsByDayLogIds(final List<Long> dayLogIds);
 
     void updateOrdinals(final List<Long> orderedItemIds);
+
+    Optional<Integer> findOrdinal(final Long dayLogId, final Long itemId);
+
+    Optional<Integer> findNextOrdinal(final Long dayLogId, final Long excludedItemId, final int previousOrdinal);
+
+    void updateOrdinal(final Long itemId, final int ordinal);
 }
@@ -0,0 +1,19 @@
+package hanglog.trip.domain.repository;
+
+import hanglog.expense.domain.Amount;
+import java.util.List;
+
+public interface CustomLedgerSummaryRepository {
+
+    void addAmount(
+            final Long tripId,
+            final Long dayLogId,
+            final Long categoryId,
+            final String currency,
+            final Amount amount
+    );
+
+    List<Long> findTripIdsAfter(final Long lastTripId, final int size);
+
+    void rebuildByTripIds(final List<Long> tripIds);
+}
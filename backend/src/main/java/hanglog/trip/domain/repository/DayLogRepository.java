@@ -31,6 +31,23 @@ public interface DayLogRepository extends JpaRepository<DayLog, Long> {
             """)
     Optional<DayLog> findWithItemDetailsById(@Param("dayLogId") final Long dayLogId);
 
+    @Query("""
+            SELECT dayLog
+            FROM DayLog dayLog
+            LEFT JOIN FETCH dayLog.items items
+            WHERE dayLog.id IN :dayLogIds
+            """)
+    List<DayLog> findWithItemsByIds(@Param("dayLogIds") final List<Long> dayLogIds);
+
+    @Query("""
+            SELECT DISTINCT dayLog
+            FROM DayLog dayLog
+            LEFT JOIN FETCH dayLog.items items
+            WHERE dayLog.trip.id = :tripId
+            ORDER BY dayLog.ordinal
+            """)
+    List<DayLog> findWithItemsByTripId(@Param("tripId") final Long tripId);
+
     @Modifying
     @Query("""
                 UPDATE DayLog dayLog
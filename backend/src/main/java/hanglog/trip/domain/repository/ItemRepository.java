@@ -22,6 +22,34 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
             """)
     Optional<Item> findById(@Param("itemId") final Long itemId);
 
+    @Query("""
+            SELECT item
+            FROM Item item
+            LEFT JOIN FETCH item.expense expense
+            LEFT JOIN FETCH item.place place
+            LEFT JOIN FETCH expense.category expense_category
+            LEFT JOIN FETCH place.category place_category
+            WHERE item.id IN :itemIds
+            """)
+    List<Item> findWithExpenseAndPlaceByIds(@Param("itemIds") final List<Long> itemIds);
+
+    @Query("""
+            SELECT item
+            FROM Item item
+            LEFT JOIN FETCH item.expense expense
+            LEFT JOIN FETCH expense.category expense_category
+            WHERE item.id IN :itemIds
+            """)
+    List<Item> findWithExpenseByIds(@Param("itemIds") final List<Long> itemIds);
+
+    @Query("""
+            SELECT item
+            FROM Item item
+            LEFT JOIN FETCH item.images images
+            WHERE item.id IN :itemIds
+            """)
+    List<Item> findWithImagesByIds(@Param("itemIds") final List<Long> itemIds);
+
     @Modifying
     @Query("""
             UPDATE Item item
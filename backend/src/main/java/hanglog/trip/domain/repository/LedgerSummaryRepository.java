@@ -0,0 +1,27 @@
+package hanglog.trip.domain.repository;
+
+import hanglog.trip.domain.LedgerSummary;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface LedgerSummaryRepository extends JpaRepository<LedgerSummary, Long> {
+
+    List<LedgerSummary> findByTripId(final Long tripId);
+
+    @Modifying
+    @Query("""
+            DELETE FROM LedgerSummary ledgerSummary
+            WHERE ledgerSummary.tripId IN :tripIds
+            """)
+    void deleteByTripIds(@Param("tripIds") final List<Long> tripIds);
+
+    @Modifying
+    @Query("""
+            DELETE FROM LedgerSummary ledgerSummary
+            WHERE ledgerSummary.dayLogId IN :dayLogIds
+            """)
+    void deleteByDayLogIds(@Param("dayLogIds") final List<Long> dayLogIds);
+}
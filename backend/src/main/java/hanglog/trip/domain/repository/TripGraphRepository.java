@@ -0,0 +1,13 @@
+package hanglog.trip.domain.repository;
+
+import hanglog.trip.domain.DayLog;
+import hanglog.trip.domain.Trip;
+import java.util.List;
+import java.util.Optional;
+
+public interface TripGraphRepository {
+
+    Optional<Trip> findById(final Long tripId);
+
+    List<DayLog> findDayLogsWithItemExpensesByTripId(final Long tripId);
+}
@@ -31,11 +31,19 @@ public interface TripRepository extends JpaRepository<Trip, Long> {
 
     @Query("""
             SELECT trip FROM Trip trip
-            LEFT JOIN Likes likes ON likes.tripId = trip.id
             LEFT JOIN FETCH trip.sharedTrip sharedTrip
+            LEFT JOIN FETCH trip.member member
             WHERE trip.publishedStatus = 'PUBLISHED'
-            GROUP BY trip.id
-            ORDER BY COUNT(likes.tripId) DESC
+            AND trip.id IN :tripIds
+            """)
+    List<Trip> findPublishedTripsByIds(@Param("tripIds") final List<Long> tripIds);
+
+    @Query("""
+            SELECT trip FROM TripLikeCount tripLikeCount
+            JOIN Trip trip ON trip.id = tripLikeCount.tripId
+            LEFT JOIN FETCH trip.sharedTrip sharedTrip
+            WHERE trip.publishedStatus = 'PUBLISHED'
+            ORDER BY tripLikeCount.likeCount DESC, trip.id DESC
             """)
     List<Trip> findTripsOrderByLikesCount(final Pageable pageable);
 
@@ -47,15 +55,9 @@ public interface TripRepository extends JpaRepository<Trip, Long> {
             LEFT JOIN FETCH trip.member member
             LEFT JOIN FETCH trip.sharedTrip sharedTrip
             LEFT JOIN FETCH trip.dayLogs dayLogs
-            LEFT JOIN FETCH dayLogs.items items
-            LEFT JOIN FETCH items.images images
-            LEFT JOIN FETCH items.expense expense
-            LEFT JOIN FETCH items.place place
-            LEFT JOIN FETCH expense.category expense_category
-            LEFT JOIN FETCH place.category place_category
-            WHERE dayLogs.trip.id = :tripId
+            WHERE trip.id = :tripId
             """)
-    Optional<Trip> findById(@Param("tripId") final Long tripId);
+    Optional<Trip> findWithDayLogsById(@Param("tripId") final Long tripId);
 
     @Modifying
     @Query("""
@@ -0,0 +1,14 @@
+package hanglog.trip.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ItemMoveRequest {
+
+    // null 이면 날짜의 맨 앞으로 옮긴다.
+    private Long previousItemId;
+}
@@ -1,9 +1,11 @@
 package hanglog.trip.dto.response;
 
 import hanglog.trip.domain.DayLogExpense;
+import hanglog.trip.domain.Item;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.IntStream;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -18,9 +20,10 @@ public class DayLogLedgerResponse {
     private final List<ItemDetailResponse> items;
 
     public static DayLogLedgerResponse of(final DayLogExpense dayLogExpense) {
-        final List<ItemDetailResponse> itemResponses = dayLogExpense.getDayLog().getItems().stream()
-                .filter(dayLog -> dayLog.getExpense() != null)
-                .map(ItemDetailResponse::of)
+        final List<Item> items = dayLogExpense.getDayLog().getItems();
+        final List<ItemDetailResponse> itemResponses = IntStream.range(0, items.size())
+                .filter(index -> items.get(index).getExpense() != null)
+                .mapToObj(index -> ItemDetailResponse.of(items.get(index), index + 1))
                 .toList();
 
         return new DayLogLedgerResponse(
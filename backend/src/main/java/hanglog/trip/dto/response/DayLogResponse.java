@@ -1,8 +1,10 @@
 package hanglog.trip.dto.response;
 
 import hanglog.trip.domain.DayLog;
+import hanglog.trip.domain.Item;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.IntStream;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -17,8 +19,9 @@ public class DayLogResponse {
     private final List<ItemResponse> items;
 
     public static DayLogResponse of(final DayLog dayLog) {
-        final List<ItemResponse> itemResponses = dayLog.getItems().stream()
-                .map(ItemResponse::of)
+        final List<Item> items = dayLog.getItems();
+        final List<ItemResponse> itemResponses = IntStream.range(0, items.size())
+                .mapToObj(index -> ItemResponse.of(items.get(index), index + 1))
                 .toList();
 
         return new DayLogResponse(
@@ -14,11 +14,11 @@ public class ItemDetailResponse {
     private final int ordinal;
     private final ItemExpenseResponse expense;
 
-    public static ItemDetailResponse of(final Item item) {
+    public static ItemDetailResponse of(final Item item, final int position) {
         return new ItemDetailResponse(
                 item.getId(),
                 item.getTitle(),
-                item.getOrdinal(),
+                position,
                 ItemExpenseResponse.of(item.getExpense())
         );
     }
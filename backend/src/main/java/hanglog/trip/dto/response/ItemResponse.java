@@ -23,12 +23,13 @@ public class ItemResponse {
     private final PlaceResponse place;
     private final ItemExpenseResponse expense;
 
-    public static ItemResponse of(final Item item) {
+    // 저장된 ordinal 은 간격을 둔 값이므로 날짜 안에서의 응답에는 위치를 내려준다.
+    public static ItemResponse of(final Item item, final int position) {
         return new ItemResponse(
                 item.getId(),
                 item.getItemType().isSpot(),
                 item.getTitle(),
-                item.getOrdinal(),
+                position,
                 item.getRating(),
                 item.getMemo(),
                 getImageNames(item.getImages()),
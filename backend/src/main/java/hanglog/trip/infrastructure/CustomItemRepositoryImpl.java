@@ -1,10 +1,12 @@
 package hanglog.trip.infrastructure;
 
+import hanglog.trip.domain.ItemOrdinals;
 import hanglog.trip.domain.repository.CustomItemRepository;
 import hanglog.trip.dto.ItemElement;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
@@ -49,7 +51,7 @@ public class CustomItemRepositoryImpl implements CustomItemRepository {
         final SqlParameterSource[] sqlParameterSources = new MapSqlParameterSource[orderedItemIds.size()];
         for (int i = 0; i < orderedItemIds.size(); i++) {
             final Long itemId = orderedItemIds.get(i);
-            final int newOrdinal = i + 1;
+            final int newOrdinal = ItemOrdinals.ofPosition(i);
             final Map<String, Object> sqlParameterSource = new HashMap<>();
             sqlParameterSource.put("newOrdinal", newOrdinal);
             sqlParameterSource.put("itemId", itemId);
@@ -57,4 +59,46 @@ public class CustomItemRepositoryImpl implements CustomItemRepository {
         }
         return sqlParameterSources;
     }
+
+    @Override
+    public Optional<Integer> findOrdinal(final Long dayLogId, final Long itemId) {
+        final String sql = """
+                SELECT i.ordinal
+                FROM item i
+                WHERE i.id = :itemId AND i.day_log_id = :dayLogId AND i.status = 'USABLE'
+                """;
+        final MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("itemId", itemId)
+                .addValue("dayLogId", dayLogId);
+        return namedParameterJdbcTemplate.queryForList(sql, parameters, Integer.class).stream()
+                .findFirst();
+    }
+
+    @Override
+    public Optional<Integer> findNextOrdinal(
+            final Long dayLogId,
+            final Long excludedItemId,
+            final int previousOrdinal
+    ) {
+        final String sql = """
+                SELECT MIN(i.ordinal)
+                FROM item i
+                WHERE i.day_log_id = :dayLogId AND i.status = 'USABLE'
+                AND i.id <> :excludedItemId AND i.ordinal > :previousOrdinal
+                """;
+        final MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("dayLogId", dayLogId)
+                .addValue("excludedItemId", excludedItemId)
+                .addValue("previousOrdinal", previousOrdinal);
+        return Optional.ofNullable(namedParameterJdbcTemplate.queryForObject(sql, parameters, Integer.class));
+    }
+
+    @Override
+    public void updateOrdinal(final Long itemId, final int ordinal) {
+        final String sql = "UPDATE item SET ordinal = :ordinal WHERE id = :itemId";
+        final MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("ordinal", ordinal)
+                .addValue("itemId", itemId);
+        namedParameterJdbcTemplate.update(sql, parameters);
+    }
 }
@@ -0,0 +1,94 @@
+package hanglog.trip.infrastructure;
+
+import hanglog.expense.domain.Amount;
+import hanglog.trip.domain.repository.CustomLedgerSummaryRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@RequiredArgsConstructor
+@Repository
+public class CustomLedgerSummaryRepositoryImpl implements CustomLedgerSummaryRepository {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public void addAmount(
+            final Long tripId,
+            final Long dayLogId,
+            final Long categoryId,
+            final String currency,
+            final Amount amount
+    ) {
+        final MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("tripId", tripId)
+                .addValue("dayLogId", dayLogId)
+                .addValue("categoryId", categoryId)
+                .addValue("currency", currency)
+                .addValue("amount", amount.getValue());
+
+        if (updateAmount(parameters) > 0) {
+            return;
+        }
+
+        final String insertSql = """
+                INSERT INTO ledger_summary (trip_id, day_log_id, category_id, currency, amount)
+                VALUES (:tripId, :dayLogId, :categoryId, :currency, :amount)
+                """;
+        try {
+            namedParameterJdbcTemplate.update(insertSql, parameters);
+        } catch (final DuplicateKeyException e) {
+            // 같은 키의 첫 경비가 동시에 저장되면 먼저 생긴 요약 행에 더한다.
+            updateAmount(parameters);
+        }
+    }
+
+    private int updateAmount(final MapSqlParameterSource parameters) {
+        final String updateSql = """
+                UPDATE ledger_summary
+                SET amount = amount + :amount
+                WHERE day_log_id = :dayLogId AND category_id = :categoryId AND currency = :currency
+                """;
+        return namedParameterJdbcTemplate.update(updateSql, parameters);
+    }
+
+    @Override
+    public List<Long> findTripIdsAfter(final Long lastTripId, final int size) {
+        final String sql = """
+                SELECT t.id
+                FROM trip t
+                WHERE t.id > :lastTripId AND t.status = 'USABLE'
+                ORDER BY t.id
+                LIMIT :size
+                """;
+        final MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("lastTripId", lastTripId)
+                .addValue("size", size);
+        return namedParameterJdbcTemplate.queryForList(sql, parameters, Long.class);
+    }
+
+    @Override
+    public void rebuildByTripIds(final List<Long> tripIds) {
+        if (tripIds.isEmpty()) {
+            return;
+        }
+        final MapSqlParameterSource parameters = new MapSqlParameterSource("tripIds", tripIds);
+
+        final String deleteSql = "DELETE FROM ledger_summary WHERE trip_id IN (:tripIds)";
+        namedParameterJdbcTemplate.update(deleteSql, parameters);
+
+        final String insertSql = """
+                INSERT INTO ledger_summary (trip_id, day_log_id, category_id, currency, amount)
+                SELECT d.trip_id, d.id, e.category_id, e.currency, SUM(e.amount)
+                FROM day_log d
+                INNER JOIN item i ON i.day_log_id = d.id AND i.status = 'USABLE'
+                INNER JOIN expense e ON e.id = i.expense_id AND e.status = 'USABLE'
+                WHERE d.trip_id IN (:tripIds) AND d.status = 'USABLE'
+                GROUP BY d.trip_id, d.id, e.category_id, e.currency
+                """;
+        namedParameterJdbcTemplate.update(insertSql, parameters);
+    }
+}
@@ -0,0 +1,76 @@
+package hanglog.trip.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import hanglog.trip.dto.response.LedgerResponse;
+import hanglog.trip.dto.response.TripDetailResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공유 여행의 상세와 가계부 응답을 여행 id 별로 캐시한다. 공유 여부는 캐시와 상관없이 매 요청 DB 에서 확인한다.
+ * 수정으로 인한 무효화는 수정 요청을 처리한 서버에만 반영되므로, 다른 서버는 최대 EXPIRE_AFTER_WRITE(1분) 동안 이전 내용을 보여줄 수 있다.
+ */
+@Component
+public class SharedTripCache {
+
+    private static final long MAXIMUM_SIZE = 10_000;
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(1);
+
+    private final Cache<Long, TripDetailResponse> tripDetails;
+    private final Cache<Long, LedgerResponse> ledgers;
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public SharedTripCache(final MeterRegistry meterRegistry) {
+        this.tripDetails = createCache();
+        this.ledgers = createCache();
+        CaffeineCacheMetrics.monitor(meterRegistry, tripDetails, "sharedTripDetail");
+        CaffeineCacheMetrics.monitor(meterRegistry, ledgers, "sharedTripLedger");
+    }
+
+    private static <K, V> Cache<K, V> createCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(EXPIRE_AFTER_WRITE)
+                .recordStats()
+                .build();
+    }
+
+    public TripDetailResponse getTripDetail(
+            final Long tripId,
+            final Function<Long, TripDetailResponse> loader
+    ) {
+        return getCommitted(tripDetails, tripId, loader);
+    }
+
+    public LedgerResponse getLedger(final Long tripId, final Function<Long, LedgerResponse> loader) {
+        return getCommitted(ledgers, tripId, loader);
+    }
+
+    private <V> V getCommitted(final Cache<Long, V> cache, final Long tripId, final Function<Long, V> loader) {
+        final long evictionCountBeforeLoad = evictionCount.get();
+        final V value = cache.get(tripId, loader);
+        // 조회하는 동안 무효화가 일어났다면 커밋 전 데이터일 수 있으므로 캐시에 남기지 않는다.
+        if (evictionCount.get() != evictionCountBeforeLoad) {
+            cache.asMap().remove(tripId, value);
+        }
+        return value;
+    }
+
+    public void evict(final Long tripId) {
+        evictionCount.incrementAndGet();
+        tripDetails.invalidate(tripId);
+        ledgers.invalidate(tripId);
+    }
+
+    public void evictAll(final List<Long> tripIds) {
+        evictionCount.incrementAndGet();
+        tripDetails.invalidateAll(tripIds);
+        ledgers.invalidateAll(tripIds);
+    }
+}
@@ -0,0 +1,64 @@
+package hanglog.trip.infrastructure;
+
+import hanglog.trip.domain.DayLog;
+import hanglog.trip.domain.Item;
+import hanglog.trip.domain.Trip;
+import hanglog.trip.domain.repository.DayLogRepository;
+import hanglog.trip.domain.repository.ItemRepository;
+import hanglog.trip.domain.repository.TripGraphRepository;
+import hanglog.trip.domain.repository.TripRepository;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@RequiredArgsConstructor
+@Repository
+public class TripGraphRepositoryImpl implements TripGraphRepository {
+
+    private final TripRepository tripRepository;
+    private final DayLogRepository dayLogRepository;
+    private final ItemRepository itemRepository;
+
+    @Override
+    public Optional<Trip> findById(final Long tripId) {
+        final Optional<Trip> trip = tripRepository.findWithDayLogsById(tripId);
+        trip.ifPresent(this::loadItems);
+        return trip;
+    }
+
+    @Override
+    public List<DayLog> findDayLogsWithItemExpensesByTripId(final Long tripId) {
+        final List<DayLog> dayLogs = dayLogRepository.findWithItemsByTripId(tripId);
+        final List<Long> itemIds = getItemIds(dayLogs);
+        if (!itemIds.isEmpty()) {
+            itemRepository.findWithExpenseByIds(itemIds);
+        }
+        return dayLogs;
+    }
+
+    private void loadItems(final Trip trip) {
+        final List<Long> dayLogIds = trip.getDayLogs().stream()
+                .map(DayLog::getId)
+                .toList();
+        if (dayLogIds.isEmpty()) {
+            return;
+        }
+
+        final List<Long> itemIds = getItemIds(dayLogRepository.findWithItemsByIds(dayLogIds));
+        if (itemIds.isEmpty()) {
+            return;
+        }
+
+        itemRepository.findWithExpenseAndPlaceByIds(itemIds);
+        itemRepository.findWithImagesByIds(itemIds);
+    }
+
+    private List<Long> getItemIds(final List<DayLog> dayLogs) {
+        return dayLogs.stream()
+                .flatMap(dayLog -> dayLog.getItems().stream())
+                .map(Item::getId)
+                .distinct()
+                .toList();
+    }
+}
@@ -0,0 +1,60 @@
+package hanglog.trip.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 여행 id 에서 작성자 id 로의 인덱스. 여행의 작성자는 바뀌지 않으므로 만료 없이 크기로만 제한하고,
+ * 여행 삭제와 회원 탈퇴 시 제거한다.
+ */
+@Component
+public class TripOwnerCache {
+
+    private static final long MAXIMUM_SIZE = 100_000;
+
+    private final Cache<Long, Long> ownerIds;
+
+    public TripOwnerCache(final MeterRegistry meterRegistry) {
+        this.ownerIds = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, ownerIds, "tripOwner");
+    }
+
+    public Optional<Long> findOwnerId(final Long tripId) {
+        return Optional.ofNullable(ownerIds.getIfPresent(tripId));
+    }
+
+    public void put(final Long tripId, final Long memberId) {
+        ownerIds.put(tripId, memberId);
+    }
+
+    public void putOnCommit(final Long tripId, final Long memberId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(tripId, memberId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(tripId, memberId);
+            }
+        });
+    }
+
+    public void evict(final Long tripId) {
+        ownerIds.invalidate(tripId);
+    }
+
+    public void evictAll(final List<Long> tripIds) {
+        ownerIds.invalidateAll(tripIds);
+    }
+}
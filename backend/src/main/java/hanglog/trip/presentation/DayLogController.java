@@ -5,6 +5,7 @@ import hanglog.auth.Auth;
 import hanglog.auth.MemberOnly;
 import hanglog.auth.domain.Accessor;
 import hanglog.trip.dto.request.DayLogUpdateTitleRequest;
+import hanglog.trip.dto.request.ItemMoveRequest;
 import hanglog.trip.dto.request.ItemsOrdinalUpdateRequest;
 import hanglog.trip.dto.response.DayLogResponse;
 import hanglog.trip.service.DayLogService;
@@ -64,4 +65,18 @@ public class DayLogController {
         dayLogService.updateOrdinalOfItems(dayLogId, itemsOrdinalUpdateRequest);
         return ResponseEntity.noContent().build();
     }
+
+    @PatchMapping("/items/{itemId}/order")
+    @MemberOnly
+    public ResponseEntity<Void> moveItem(
+            @Auth final Accessor accessor,
+            @PathVariable final Long tripId,
+            @PathVariable final Long dayLogId,
+            @PathVariable final Long itemId,
+            @RequestBody final ItemMoveRequest itemMoveRequest
+    ) {
+        tripService.validateTripByMember(accessor.getMemberId(), tripId);
+        dayLogService.moveItem(tripId, dayLogId, itemId, itemMoveRequest);
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -2,7 +2,6 @@ package hanglog.trip.presentation;
 
 import hanglog.trip.dto.response.LedgerResponse;
 import hanglog.trip.dto.response.TripDetailResponse;
-import hanglog.trip.service.LedgerService;
 import hanglog.trip.service.SharedTripService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -16,19 +15,16 @@ import org.springframework.web.bind.annotation.RestController;
 public class SharedTripController {
 
     private final SharedTripService sharedTripService;
-    private final LedgerService ledgerService;
 
     @GetMapping("/shared-trips/{sharedCode}")
     public ResponseEntity<TripDetailResponse> getSharedTrip(@PathVariable final String sharedCode) {
-        final Long tripId = sharedTripService.getTripId(sharedCode);
-        final TripDetailResponse tripDetailResponse = sharedTripService.getSharedTripDetail(tripId);
+        final TripDetailResponse tripDetailResponse = sharedTripService.getTripDetailBySharedCode(sharedCode);
         return ResponseEntity.ok().body(tripDetailResponse);
     }
 
     @GetMapping("/shared-trips/{sharedCode}/expense")
     public ResponseEntity<LedgerResponse> getSharedExpenses(@PathVariable final String sharedCode) {
-        final Long tripId = sharedTripService.getTripId(sharedCode);
-        final LedgerResponse ledgerResponse = ledgerService.getAllExpenses(tripId);
+        final LedgerResponse ledgerResponse = sharedTripService.getLedgerBySharedCode(sharedCode);
         return ResponseEntity.ok().body(ledgerResponse);
     }
 }
@@ -3,22 +3,30 @@ package hanglog.trip.service;
 
 import static hanglog.global.exception.ExceptionCode.ALREADY_DELETED_DATE;
 import static hanglog.global.exception.ExceptionCode.INVALID_ORDERED_ITEM_IDS;
+import static hanglog.global.exception.ExceptionCode.INVALID_PREVIOUS_ITEM_ID;
+import static hanglog.global.exception.ExceptionCode.NOT_ASSOCIATE_DAYLOG_WITH_TRIP;
 import static hanglog.global.exception.ExceptionCode.NOT_FOUND_DAY_LOG_ID;
 import static hanglog.global.exception.ExceptionCode.NOT_FOUND_TRIP_ID;
+import static hanglog.global.exception.ExceptionCode.NOT_FOUND_TRIP_ITEM_ID;
 
 import hanglog.global.exception.BadRequestException;
 import hanglog.trip.domain.DayLog;
 import hanglog.trip.domain.Item;
+import hanglog.trip.domain.ItemOrdinals;
+import hanglog.trip.domain.TripUpdateEvent;
 import hanglog.trip.domain.repository.CustomItemRepository;
 import hanglog.trip.domain.repository.DayLogRepository;
 import hanglog.trip.dto.request.DayLogUpdateTitleRequest;
+import hanglog.trip.dto.request.ItemMoveRequest;
 import hanglog.trip.dto.request.ItemsOrdinalUpdateRequest;
 import hanglog.trip.dto.response.DayLogResponse;
 import java.util.HashSet;
 import java.util.List;
+import java.util.OptionalInt;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +37,7 @@ public class DayLogService {
 
     private final DayLogRepository dayLogRepository;
     private final CustomItemRepository customItemRepository;
+    private final ApplicationEventPublisher publisher;
 
     @Transactional(readOnly = true)
     public DayLogResponse getById(final Long id) {
@@ -52,6 +61,7 @@ public class DayLogService {
                 dayLog.getItems()
         );
         dayLogRepository.save(updatedDayLog);
+        publisher.publishEvent(new TripUpdateEvent(dayLog.getTrip().getId()));
     }
 
     private void validateAlreadyDeleted(final DayLog dayLog) {
@@ -68,6 +78,7 @@ public class DayLogService {
         final List<Long> orderedItemIds = itemsOrdinalUpdateRequest.getItemIds();
         validateOrderedItemIds(items, orderedItemIds);
         customItemRepository.updateOrdinals(orderedItemIds);
+        publisher.publishEvent(new TripUpdateEvent(dayLog.getTrip().getId()));
     }
 
     private void validateOrderedItemIds(final List<Item> items, final List<Long> orderedItemIds) {
@@ -80,4 +91,58 @@ public class DayLogService {
             throw new BadRequestException(INVALID_ORDERED_ITEM_IDS);
         }
     }
+
+    public void moveItem(
+            final Long tripId,
+            final Long dayLogId,
+            final Long itemId,
+            final ItemMoveRequest itemMoveRequest
+    ) {
+        final DayLog dayLog = dayLogRepository.findById(dayLogId)
+                .orElseThrow(() -> new BadRequestException(NOT_FOUND_DAY_LOG_ID));
+        validateAlreadyDeleted(dayLog);
+        validateAssociationTripAndDayLog(tripId, dayLog);
+
+        final Long previousItemId = itemMoveRequest.getPreviousItemId();
+        if (itemId.equals(previousItemId)) {
+            throw new BadRequestException(INVALID_PREVIOUS_ITEM_ID);
+        }
+        // 다른 날짜의 아이템은 조회되지 않으므로 예외가 발생한다.
+        findOrdinal(dayLogId, itemId);
+
+        OptionalInt newOrdinal = findNewOrdinal(dayLogId, itemId, previousItemId);
+        if (newOrdinal.isEmpty()) {
+            rebalanceOrdinals(dayLogId);
+            newOrdinal = findNewOrdinal(dayLogId, itemId, previousItemId);
+        }
+        customItemRepository.updateOrdinal(itemId, newOrdinal.orElseThrow());
+        publisher.publishEvent(new TripUpdateEvent(tripId));
+    }
+
+    private void validateAssociationTripAndDayLog(final Long tripId, final DayLog dayLog) {
+        if (!dayLog.getTrip().getId().equals(tripId)) {
+            throw new BadRequestException(NOT_ASSOCIATE_DAYLOG_WITH_TRIP);
+        }
+    }
+
+    private int findOrdinal(final Long dayLogId, final Long itemId) {
+        return customItemRepository.findOrdinal(dayLogId, itemId)
+                .orElseThrow(() -> new BadRequestException(NOT_FOUND_TRIP_ITEM_ID));
+    }
+
+    private OptionalInt findNewOrdinal(final Long dayLogId, final Long itemId, final Long previousItemId) {
+        final int previousOrdinal = previousItemId == null ? 0 : findOrdinal(dayLogId, previousItemId);
+        return customItemRepository.findNextOrdinal(dayLogId, itemId, previousOrdinal)
+                .map(nextOrdinal -> ItemOrdinals.between(previousOrdinal, nextOrdinal))
+                .orElseGet(() -> ItemOrdinals.after(previousOrdinal));
+    }
+
+    private void rebalanceOrdinals(final Long dayLogId) {
+        final DayLog dayLog = dayLogRepository.findWithItemsById(dayLogId)
+                .orElseThrow(() -> new BadRequestException(NOT_FOUND_DAY_LOG_ID));
+        final List<Long> orderedItemIds = dayLog.getItems().stream()
+                .map(Item::getId)
+                .toList();
+        customItemRepository.updateOrdinals(orderedItemIds);
+    }
 }
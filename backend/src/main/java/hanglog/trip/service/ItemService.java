@@ -16,8 +16,11 @@ import hanglog.image.domain.S3ImageEvent;
 import hanglog.trip.domain.DayLog;
 import hanglog.trip.domain.Image;
 import hanglog.trip.domain.Item;
+import hanglog.trip.domain.ItemOrdinals;
 import hanglog.trip.domain.Place;
+import hanglog.trip.domain.TripUpdateEvent;
 import hanglog.trip.domain.repository.CustomImageRepository;
+import hanglog.trip.domain.repository.CustomLedgerSummaryRepository;
 import hanglog.trip.domain.repository.DayLogRepository;
 import hanglog.trip.domain.repository.ImageRepository;
 import hanglog.trip.domain.repository.ItemRepository;
@@ -29,6 +32,7 @@ import hanglog.trip.dto.request.ItemUpdateRequest;
 import hanglog.trip.dto.request.PlaceRequest;
 import hanglog.trip.dto.response.ItemResponse;
 import java.util.List;
+import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
@@ -46,6 +50,7 @@ public class ItemService {
     private final ExpenseRepository expenseRepository;
     private final ImageRepository imageRepository;
     private final CustomImageRepository customImageRepository;
+    private final CustomLedgerSummaryRepository customLedgerSummaryRepository;
     private final ApplicationEventPublisher publisher;
 
     public Long save(final Long tripId, final ItemRequest itemRequest) {
@@ -68,6 +73,8 @@ public class ItemService {
         final Item savedItem = itemRepository.save(item);
         images.forEach(image -> image.setItem(savedItem));
         customImageRepository.saveAll(images);
+        addLedgerSummary(tripId, dayLog.getId(), savedItem.getExpense());
+        publisher.publishEvent(new TripUpdateEvent(tripId));
         return savedItem.getId();
     }
 
@@ -93,6 +100,7 @@ public class ItemService {
                 .filter(target -> target.getId().equals(itemId))
                 .findFirst()
                 .orElseThrow(() -> new BadRequestException(NOT_FOUND_TRIP_ITEM_ID));
+        final Expense updatedExpense = makeUpdatedExpense(itemUpdateRequest.getExpense(), item.getExpense());
         final Item updatedItem = new Item(
                 itemId,
                 ItemType.getItemTypeByIsSpot(itemUpdateRequest.getItemType()),
@@ -102,10 +110,15 @@ public class ItemService {
                 itemUpdateRequest.getMemo(),
                 makeUpdatedPlace(itemUpdateRequest, item),
                 dayLog,
-                makeUpdatedExpense(itemUpdateRequest.getExpense(), item.getExpense()),
+                updatedExpense,
                 makeUpdatedImages(itemUpdateRequest, item)
         );
         itemRepository.save(updatedItem);
+        if (updatedExpense != item.getExpense()) {
+            subtractLedgerSummary(tripId, dayLog.getId(), item.getExpense());
+            addLedgerSummary(tripId, dayLog.getId(), updatedExpense);
+        }
+        publisher.publishEvent(new TripUpdateEvent(tripId));
     }
 
     private Place makeUpdatedPlace(final ItemUpdateRequest itemUpdateRequest, final Item item) {
@@ -255,8 +268,47 @@ public class ItemService {
         );
     }
 
+    private void addLedgerSummary(final Long tripId, final Long dayLogId, final Expense expense) {
+        if (expense == null) {
+            return;
+        }
+        customLedgerSummaryRepository.addAmount(
+                tripId,
+                dayLogId,
+                expense.getCategory().getId(),
+                expense.getCurrency(),
+                expense.getAmount()
+        );
+    }
+
+    private void subtractLedgerSummary(final Long tripId, final Long dayLogId, final Expense expense) {
+        if (expense == null) {
+            return;
+        }
+        customLedgerSummaryRepository.addAmount(
+                tripId,
+                dayLogId,
+                expense.getCategory().getId(),
+                expense.getCurrency(),
+                expense.getAmount().multiply(-1)
+        );
+    }
+
     private int getNewItemOrdinal(final DayLog dayLog) {
-        return dayLog.getItems().size() + 1;
+        final List<Item> items = dayLog.getItems();
+        if (items.isEmpty()) {
+            return ItemOrdinals.ofPosition(0);
+        }
+        final int lastOrdinal = items.get(items.size() - 1).getOrdinal();
+        return ItemOrdinals.after(lastOrdinal)
+                .orElseGet(() -> rebalanceOrdinals(items));
+    }
+
+    private int rebalanceOrdinals(final List<Item> items) {
+        for (int i = 0; i < items.size(); i++) {
+            items.get(i).changeOrdinal(ItemOrdinals.ofPosition(i));
+        }
+        return ItemOrdinals.ofPosition(items.size());
     }
 
     public void delete(final Long itemId) {
@@ -269,17 +321,22 @@ public class ItemService {
         if (item.getPlace() != null) {
             placeRepository.deleteById(item.getPlace().getId());
         }
+        final DayLog dayLog = item.getDayLog();
+        final Long tripId = dayLog.getTrip().getId();
         if (item.getExpense() != null) {
             expenseRepository.deleteById(item.getExpense().getId());
+            subtractLedgerSummary(tripId, dayLog.getId(), item.getExpense());
         }
         itemRepository.deleteById(itemId);
+        publisher.publishEvent(new TripUpdateEvent(tripId));
         item.getImages().forEach(image -> publisher.publishEvent(new S3ImageEvent(image.getName())));
     }
 
     @Transactional(readOnly = true)
     public List<ItemResponse> getItems() {
-        return itemRepository.findAll().stream()
-                .map(ItemResponse::of)
+        final List<Item> items = itemRepository.findAll();
+        return IntStream.range(0, items.size())
+                .mapToObj(index -> ItemResponse.of(items.get(index), index + 1))
                 .toList();
     }
 }
@@ -1,6 +1,5 @@
 package hanglog.trip.service;
 
-import static hanglog.global.exception.ExceptionCode.NOT_FOUND_CURRENCY_DATA;
 import static hanglog.global.exception.ExceptionCode.NOT_FOUND_TRIP_ID;
 
 import hanglog.category.domain.Category;
@@ -9,19 +8,23 @@ import hanglog.category.domain.repository.CategoryRepository;
 import hanglog.city.domain.City;
 import hanglog.city.domain.repository.CityRepository;
 import hanglog.currency.domain.Currency;
-import hanglog.currency.domain.OldestCurrency;
-import hanglog.currency.domain.repository.CurrencyRepository;
 import hanglog.currency.domain.type.CurrencyType;
+import hanglog.currency.infrastructure.CurrencyRateStore;
 import hanglog.expense.domain.Amount;
 import hanglog.expense.domain.CategoryExpense;
-import hanglog.expense.domain.Expense;
+import hanglog.expense.domain.ExchangeRate;
+import hanglog.expense.domain.Money;
+import hanglog.expense.domain.MoneySum;
 import hanglog.global.exception.BadRequestException;
 import hanglog.trip.domain.DayLog;
 import hanglog.trip.domain.DayLogExpense;
+import hanglog.trip.domain.LedgerSummary;
 import hanglog.trip.domain.Trip;
+import hanglog.trip.domain.repository.LedgerSummaryRepository;
+import hanglog.trip.domain.repository.TripGraphRepository;
 import hanglog.trip.domain.repository.TripRepository;
 import hanglog.trip.dto.response.LedgerResponse;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -35,34 +38,43 @@ import org.springframework.transaction.annotation.Transactional;
 public class LedgerService {
 
     private final TripRepository tripRepository;
-    private final CurrencyRepository currencyRepository;
+    private final TripGraphRepository tripGraphRepository;
+    private final LedgerSummaryRepository ledgerSummaryRepository;
+    private final CurrencyRateStore currencyRateStore;
     private final CityRepository cityRepository;
     private final CategoryRepository categoryRepository;
 
     @Transactional(readOnly = true)
     public LedgerResponse getAllExpenses(final Long tripId) {
-        final Trip trip = tripRepository.findById(tripId)
+        final Trip trip = tripRepository.findTripById(tripId)
                 .orElseThrow(() -> new BadRequestException(NOT_FOUND_TRIP_ID));
-        final Currency currency = currencyRepository.findTopByDateLessThanEqualOrderByDateDesc(trip.getStartDate())
-                .orElseGet(this::findOldestCurrency);
-
-        final Map<DayLog, Amount> dayLogAmounts = getDayLogAmounts(trip.getDayLogs());
-        final Map<Category, Amount> categoryAmounts = getCategoryAmounts();
+        final Currency currency = currencyRateStore.getCurrencyOnOrBefore(trip.getStartDate());
+
+        final List<DayLog> dayLogs = tripGraphRepository.findDayLogsWithItemExpensesByTripId(tripId);
+        final List<Category> categories = findCategories();
+        final Map<Long, MoneySum> dayLogAmounts = getDayLogAmounts(dayLogs);
+        final Map<Long, MoneySum> categoryAmounts = getCategoryAmounts(categories);
+        final MoneySum totalSum = new MoneySum();
+        final Map<String, ExchangeRate> exchangeRates = new HashMap<>();
         final List<City> cities = cityRepository.findCitiesByTripId(tripId);
 
-        for (final DayLog dayLog : trip.getDayLogs()) {
-            calculateAmounts(dayLog, currency, dayLogAmounts, categoryAmounts);
+        for (final LedgerSummary ledgerSummary : ledgerSummaryRepository.findByTripId(tripId)) {
+            calculateAmounts(ledgerSummary, currency, exchangeRates, dayLogAmounts, categoryAmounts, totalSum);
         }
 
-        final Amount totalAmount = calculateTotalAmount(dayLogAmounts);
+        final Amount totalAmount = totalSum.toMoney().toAmount();
 
-        final List<CategoryExpense> categoryExpenses = categoryAmounts.entrySet().stream()
-                .map(entry -> new CategoryExpense(entry.getKey(), entry.getValue(), totalAmount))
+        final List<CategoryExpense> categoryExpenses = categories.stream()
+                .map(category -> new CategoryExpense(
+                        category,
+                        categoryAmounts.get(category.getId()).toMoney().toAmount(),
+                        totalAmount
+                ))
                 .sorted((o1, o2) -> o2.getAmount().compareTo(o1.getAmount()))
                 .toList();
 
-        final List<DayLogExpense> dayLogExpenses = dayLogAmounts.entrySet().stream()
-                .map(entry -> new DayLogExpense(entry.getKey(), entry.getValue()))
+        final List<DayLogExpense> dayLogExpenses = dayLogs.stream()
+                .map(dayLog -> new DayLogExpense(dayLog, dayLogAmounts.get(dayLog.getId()).toMoney().toAmount()))
                 .toList();
 
         return LedgerResponse.of(
@@ -75,59 +87,44 @@ public class LedgerService {
         );
     }
 
-    private Currency findOldestCurrency() {
-        final Optional<Currency> oldestCurrency = OldestCurrency.get();
-        if (oldestCurrency.isPresent()) {
-            return oldestCurrency.get();
-        }
-        final Currency currency = currencyRepository.findTopByOrderByDateAsc()
-                .orElseThrow(() -> new BadRequestException(NOT_FOUND_CURRENCY_DATA));
-        OldestCurrency.init(currency);
-        return currency;
-    }
-
+    // 요약마다 반올림하면 오차가 쌓이므로 환율을 곱한 금액은 합계를 낼 때 한 번만 반올림한다.
     private void calculateAmounts(
-            final DayLog dayLog,
+            final LedgerSummary ledgerSummary,
             final Currency currency,
-            final Map<DayLog, Amount> dayLogAmounts,
-            final Map<Category, Amount> categoryAmounts
+            final Map<String, ExchangeRate> exchangeRates,
+            final Map<Long, MoneySum> dayLogAmounts,
+            final Map<Long, MoneySum> categoryAmounts,
+            final MoneySum totalSum
     ) {
-        dayLog.getItems().stream()
-                .map(item -> Optional.ofNullable(item.getExpense()))
-                .filter(Optional::isPresent)
-                .forEach(expense -> {
-                    final Amount KRWAmount = changeToKRW(expense.get(), currency);
-                    final Amount dayLogAmount = dayLogAmounts.get(dayLog);
-                    dayLogAmounts.put(dayLog, dayLogAmount.add(KRWAmount));
-                    final Category category = expense.get().getCategory();
-                    final Amount categoryAmount = categoryAmounts.get(category);
-                    categoryAmounts.put(category, categoryAmount.add(KRWAmount));
-                });
-    }
-
-    private Amount changeToKRW(final Expense expense, final Currency currency) {
-        final double rate = CurrencyType.getMappedCurrencyRate(expense.getCurrency(), currency);
-        return expense.getAmount().multiply(rate);
-    }
-
-    private Amount calculateTotalAmount(final Map<DayLog, Amount> dayLogAmounts) {
-        return dayLogAmounts.values().stream()
-                .reduce(Amount::add)
-                .orElse(Amount.ZERO);
+        final MoneySum dayLogAmount = dayLogAmounts.get(ledgerSummary.getDayLogId());
+        if (dayLogAmount == null) {
+            return;
+        }
+        final ExchangeRate exchangeRate = exchangeRates.computeIfAbsent(
+                ledgerSummary.getCurrency(),
+                currencyCode -> ExchangeRate.from(CurrencyType.getMappedCurrencyRate(currencyCode, currency))
+        );
+        final Money amount = Money.from(ledgerSummary.getAmount());
+        dayLogAmount.add(amount, exchangeRate);
+        totalSum.add(amount, exchangeRate);
+        final MoneySum categoryAmount = categoryAmounts.get(ledgerSummary.getCategoryId());
+        if (categoryAmount != null) {
+            categoryAmount.add(amount, exchangeRate);
+        }
     }
 
-    private Map<DayLog, Amount> getDayLogAmounts(final List<DayLog> dayLogs) {
-        final Map<DayLog, Amount> dayLogAmounts = new LinkedHashMap<>();
+    private Map<Long, MoneySum> getDayLogAmounts(final List<DayLog> dayLogs) {
+        final Map<Long, MoneySum> dayLogAmounts = new HashMap<>();
         for (final DayLog dayLog : dayLogs) {
-            dayLogAmounts.put(dayLog, Amount.ZERO);
+            dayLogAmounts.put(dayLog.getId(), new MoneySum());
         }
         return dayLogAmounts;
     }
 
-    private Map<Category, Amount> getCategoryAmounts() {
-        final Map<Category, Amount> categoryAmounts = new LinkedHashMap<>();
-        for (final Category category : findCategories()) {
-            categoryAmounts.put(category, Amount.ZERO);
+    private Map<Long, MoneySum> getCategoryAmounts(final List<Category> categories) {
+        final Map<Long, MoneySum> categoryAmounts = new HashMap<>();
+        for (final Category category : categories) {
+            categoryAmounts.put(category.getId(), new MoneySum());
         }
         return categoryAmounts;
     }
@@ -0,0 +1,30 @@
+package hanglog.trip.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ledger-summary.rebuild-on-startup", havingValue = "true")
+public class LedgerSummaryRebuildJob implements ApplicationRunner {
+
+    private static final long FIRST_TRIP_ID = 0L;
+
+    private final LedgerSummaryService ledgerSummaryService;
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        Long lastTripId = FIRST_TRIP_ID;
+        int chunkCount = 0;
+        while (lastTripId != null) {
+            lastTripId = ledgerSummaryService.rebuild(lastTripId);
+            chunkCount++;
+        }
+        log.info("ledger summary rebuild finished: {} chunks", chunkCount);
+    }
+}
@@ -0,0 +1,26 @@
+package hanglog.trip.service;
+
+import hanglog.trip.domain.repository.CustomLedgerSummaryRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class LedgerSummaryService {
+
+    private static final int REBUILD_CHUNK_SIZE = 500;
+
+    private final CustomLedgerSummaryRepository customLedgerSummaryRepository;
+
+    public Long rebuild(final Long lastTripId) {
+        final List<Long> tripIds = customLedgerSummaryRepository.findTripIdsAfter(lastTripId, REBUILD_CHUNK_SIZE);
+        customLedgerSummaryRepository.rebuildByTripIds(tripIds);
+        if (tripIds.size() < REBUILD_CHUNK_SIZE) {
+            return null;
+        }
+        return tripIds.get(tripIds.size() - 1);
+    }
+}
@@ -10,8 +10,10 @@ import hanglog.global.exception.BadRequestException;
 import hanglog.trip.domain.SharedTrip;
 import hanglog.trip.domain.Trip;
 import hanglog.trip.domain.repository.SharedTripRepository;
-import hanglog.trip.domain.repository.TripRepository;
+import hanglog.trip.domain.repository.TripGraphRepository;
+import hanglog.trip.dto.response.LedgerResponse;
 import hanglog.trip.dto.response.TripDetailResponse;
+import hanglog.trip.infrastructure.SharedTripCache;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -23,8 +25,21 @@ import org.springframework.transaction.annotation.Transactional;
 public class SharedTripService {
 
     private final SharedTripRepository sharedTripRepository;
-    private final TripRepository tripRepository;
+    private final TripGraphRepository tripGraphRepository;
     private final CityRepository cityRepository;
+    private final LedgerService ledgerService;
+    private final SharedTripCache sharedTripCache;
+
+    // 공유 해제는 다른 서버의 캐시에 전파되지 않으므로 공유 여부는 매 요청 DB에서 확인하고 응답만 캐시한다.
+    @Transactional(readOnly = true)
+    public TripDetailResponse getTripDetailBySharedCode(final String sharedCode) {
+        return sharedTripCache.getTripDetail(getTripId(sharedCode), this::getSharedTripDetail);
+    }
+
+    @Transactional(readOnly = true)
+    public LedgerResponse getLedgerBySharedCode(final String sharedCode) {
+        return sharedTripCache.getLedger(getTripId(sharedCode), ledgerService::getAllExpenses);
+    }
 
     @Transactional(readOnly = true)
     public Long getTripId(final String sharedCode) {
@@ -40,7 +55,7 @@ public class SharedTripService {
 
     @Transactional(readOnly = true)
     public TripDetailResponse getSharedTripDetail(final Long tripId) {
-        final Trip trip = tripRepository.findById(tripId)
+        final Trip trip = tripGraphRepository.findById(tripId)
                 .orElseThrow(() -> new BadRequestException(NOT_FOUND_TRIP_ID));
         final List<City> cities = cityRepository.findCitiesByTripId(tripId);
         return TripDetailResponse.sharedTrip(trip, cities);
@@ -18,12 +18,16 @@ import hanglog.trip.domain.PublishEvent;
 import hanglog.trip.domain.SharedTrip;
 import hanglog.trip.domain.Trip;
 import hanglog.trip.domain.TripDeleteEvent;
+import hanglog.trip.domain.TripUpdateEvent;
 import hanglog.trip.domain.repository.CustomDayLogRepository;
 import hanglog.trip.domain.repository.CustomTripCityRepository;
+import hanglog.trip.domain.repository.LedgerSummaryRepository;
 import hanglog.trip.domain.repository.SharedTripRepository;
 import hanglog.trip.domain.repository.TripCityRepository;
+import hanglog.trip.domain.repository.TripGraphRepository;
 import hanglog.trip.domain.repository.TripRepository;
 import hanglog.trip.domain.type.PublishedStatusType;
+import hanglog.trip.dto.TripCityElements;
 import hanglog.trip.dto.request.PublishedStatusRequest;
 import hanglog.trip.dto.request.SharedStatusRequest;
 import hanglog.trip.dto.request.TripCreateRequest;
@@ -31,8 +35,10 @@ import hanglog.trip.dto.request.TripUpdateRequest;
 import hanglog.trip.dto.response.SharedCodeResponse;
 import hanglog.trip.dto.response.TripDetailResponse;
 import hanglog.trip.dto.response.TripResponse;
+import hanglog.trip.infrastructure.TripOwnerCache;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.IntStream;
@@ -49,20 +55,34 @@ public class TripService {
     private static final String TITLE_POSTFIX = " 여행";
 
     private final TripRepository tripRepository;
+    private final TripGraphRepository tripGraphRepository;
     private final CityRepository cityRepository;
     private final TripCityRepository tripCityRepository;
     private final MemberRepository memberRepository;
     private final SharedTripRepository sharedTripRepository;
     private final CustomDayLogRepository customDayLogRepository;
     private final CustomTripCityRepository customTripCityRepository;
+    private final LedgerSummaryRepository ledgerSummaryRepository;
+    private final TripOwnerCache tripOwnerCache;
     private final ApplicationEventPublisher publisher;
 
     public void validateTripByMember(final Long memberId, final Long tripId) {
-        if (!tripRepository.existsByMemberIdAndId(memberId, tripId)) {
+        final boolean isOwner = tripOwnerCache.findOwnerId(tripId)
+                .map(memberId::equals)
+                .orElseGet(() -> existsTripByMember(memberId, tripId));
+        if (!isOwner) {
             throw new AuthException(INVALID_TRIP_WITH_MEMBER);
         }
     }
 
+    private boolean existsTripByMember(final Long memberId, final Long tripId) {
+        if (tripRepository.existsByMemberIdAndId(memberId, tripId)) {
+            tripOwnerCache.put(tripId, memberId);
+            return true;
+        }
+        return false;
+    }
+
     public Long save(final Long memberId, final TripCreateRequest tripCreateRequest) {
         final Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new BadRequestException(NOT_FOUND_MEMBER_ID));
@@ -81,6 +101,7 @@ public class TripService {
         final Trip trip = tripRepository.save(newTrip);
         customTripCityRepository.saveAll(cities, trip.getId());
         saveDayLogs(trip);
+        tripOwnerCache.putOnCommit(trip.getId(), memberId);
         return trip.getId();
     }
 
@@ -98,37 +119,42 @@ public class TripService {
     @Transactional(readOnly = true)
     public List<TripResponse> getAllTrips(final Long memberId) {
         final List<Trip> trips = tripRepository.findAllByMemberId(memberId);
+        if (trips.isEmpty()) {
+            return List.of();
+        }
+        final List<Long> tripIds = trips.stream().map(Trip::getId).toList();
+        final TripCityElements tripCityElements = new TripCityElements(
+                tripCityRepository.findTripIdAndCitiesByTripIds(tripIds)
+        );
+        final Map<Long, List<City>> citiesByTrip = tripCityElements.toCityMap();
+
         return trips.stream()
-                .map(this::getTripResponse)
+                .map(trip -> TripResponse.of(trip, citiesByTrip.getOrDefault(trip.getId(), List.of())))
                 .toList();
     }
-
-    private TripResponse getTripResponse(final Trip trip) {
-        final List<City> cities = cityRepository.findCitiesByTripId(trip.getId());
-        return TripResponse.of(trip, cities);
-    }
     
     @Transactional(readOnly = true)
     public TripDetailResponse getTripDetail(final Long tripId) {
-        final Trip trip = tripRepository.findById(tripId)
+        final Trip trip = tripGraphRepository.findById(tripId)
                 .orElseThrow(() -> new BadRequestException(NOT_FOUND_TRIP_ID));
         final List<City> cities = cityRepository.findCitiesByTripId(tripId);
         return TripDetailResponse.personalTrip(trip, cities);
     }
 
     public void update(final Long tripId, final TripUpdateRequest updateRequest) {
-        final Trip trip = tripRepository.findById(tripId)
+        final Trip trip = tripRepository.findWithDayLogsById(tripId)
                 .orElseThrow(() -> new BadRequestException(NOT_FOUND_TRIP_ID));
-        final List<City> cities = updateRequest.getCityIds().stream()
-                .map(cityId -> cityRepository.findById(cityId)
-                        .orElseThrow(() -> new BadRequestException(NOT_FOUND_CITY_ID)))
-                .toList();
+        final List<City> cities = cityRepository.findCitiesByIds(updateRequest.getCityIds());
+        if (cities.size() != updateRequest.getCityIds().size()) {
+            throw new BadRequestException(NOT_FOUND_CITY_ID);
+        }
 
         updateTripCities(tripId, cities);
         updateDayLog(updateRequest, trip);
         updateImage(trip.getImageName(), updateRequest.getImageName());
         trip.update(updateRequest);
         tripRepository.save(trip);
+        publisher.publishEvent(new TripUpdateEvent(tripId));
     }
 
     private void updateTripCities(final Long tripId, final List<City> cities) {
@@ -177,9 +203,11 @@ public class TripService {
     }
 
     private void removeRemainingDayLogs(final Trip trip, final int currentPeriod, final int requestPeriod) {
-        trip.getDayLogs().stream()
+        final List<DayLog> remainingDayLogs = trip.getDayLogs().stream()
                 .filter(getDayLogOutOfPeriod(currentPeriod, requestPeriod))
-                .forEach(trip::removeDayLog);
+                .toList();
+        remainingDayLogs.forEach(trip::removeDayLog);
+        ledgerSummaryRepository.deleteByDayLogIds(remainingDayLogs.stream().map(DayLog::getId).toList());
     }
 
     private Predicate<DayLog> getDayLogOutOfPeriod(final int currentPeriod, final int requestPeriod) {
@@ -213,6 +241,7 @@ public class TripService {
 
         sharedTrip.changeSharedStatus(sharedStatusRequest.getSharedStatus());
         sharedTripRepository.save(sharedTrip);
+        publisher.publishEvent(new TripUpdateEvent(tripId));
         return SharedCodeResponse.of(sharedTrip);
     }
 
@@ -242,6 +271,7 @@ public class TripService {
 
     private void unpublishTrip(final Trip trip) {
         trip.changePublishedStatus(false);
+        publisher.publishEvent(new PublishDeleteEvent(trip.getId()));
     }
 
     private void publishTrip(final Trip trip) {
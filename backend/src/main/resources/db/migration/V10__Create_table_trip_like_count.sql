@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS trip_like_count (
+    trip_id BIGINT NOT NULL,
+    like_count BIGINT NOT NULL,
+    PRIMARY KEY (trip_id)
+) engine=InnoDB;
+
+CREATE INDEX idx_trip_like_count_like_count ON trip_like_count (like_count);
+
+INSERT INTO trip_like_count (trip_id, like_count)
+SELECT t.id, COUNT(l.id)
+FROM trip t
+LEFT JOIN likes l ON l.trip_id = t.id
+WHERE t.published_status = 'PUBLISHED' OR l.id IS NOT NULL
+GROUP BY t.id;
@@ -0,0 +1 @@
+CREATE INDEX idx_published_trip_status_created_at_id ON published_trip (status, created_at, id);
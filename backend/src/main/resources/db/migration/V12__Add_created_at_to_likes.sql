@@ -0,0 +1,7 @@
+ALTER TABLE likes ADD COLUMN created_at DATETIME(6) NULL;
+
+UPDATE likes SET created_at = '2000-01-01 00:00:00';
+
+ALTER TABLE likes MODIFY COLUMN created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+
+CREATE INDEX idx_likes_created_at ON likes (created_at);
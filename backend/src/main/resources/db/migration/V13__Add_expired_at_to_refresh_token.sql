@@ -0,0 +1,20 @@
+ALTER TABLE refresh_token ADD COLUMN expired_at DATETIME(6) NULL;
+
+-- 기존 토큰은 refresh JWT 에 담긴 exp 클레임(초)을 그대로 만료 시각으로 옮긴다.
+-- payload 는 base64url 이므로 표준 base64 문자로 바꾸고 패딩을 붙여 디코딩한다.
+UPDATE refresh_token
+SET expired_at = FROM_UNIXTIME(JSON_UNQUOTE(JSON_EXTRACT(
+        CONVERT(FROM_BASE64(RPAD(
+                REPLACE(REPLACE(SUBSTRING_INDEX(SUBSTRING_INDEX(token, '.', 2), '.', -1), '-', '+'), '_', '/'),
+                CEIL(LENGTH(SUBSTRING_INDEX(SUBSTRING_INDEX(token, '.', 2), '.', -1)) / 4) * 4,
+                '='
+        )) USING utf8mb4),
+        '$.exp'
+)));
+
+-- exp 를 읽을 수 없는 토큰은 JWT 검증도 통과하지 못하므로 바로 정리 대상이 되도록 지금 만료된 것으로 둔다.
+UPDATE refresh_token SET expired_at = NOW(6) WHERE expired_at IS NULL;
+
+ALTER TABLE refresh_token MODIFY COLUMN expired_at DATETIME(6) NOT NULL;
+
+CREATE INDEX idx_refresh_token_expired_at ON refresh_token (expired_at);
@@ -0,0 +1,20 @@
+CREATE TABLE IF NOT EXISTS ledger_summary (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    trip_id BIGINT NOT NULL,
+    day_log_id BIGINT NOT NULL,
+    category_id BIGINT NOT NULL,
+    currency VARCHAR(255) NOT NULL,
+    amount DECIMAL(38,3),
+    PRIMARY KEY (id),
+    CONSTRAINT unique_day_log_category_currency UNIQUE (day_log_id, category_id, currency)
+) engine=InnoDB;
+
+CREATE INDEX idx_ledger_summary_trip_id ON ledger_summary (trip_id);
+
+INSERT INTO ledger_summary (trip_id, day_log_id, category_id, currency, amount)
+SELECT d.trip_id, d.id, e.category_id, e.currency, SUM(e.amount)
+FROM day_log d
+INNER JOIN item i ON i.day_log_id = d.id AND i.status = 'USABLE'
+INNER JOIN expense e ON e.id = i.expense_id AND e.status = 'USABLE'
+WHERE d.status = 'USABLE'
+GROUP BY d.trip_id, d.id, e.category_id, e.currency;
@@ -0,0 +1,98 @@
+package hanglog.community.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.assertj.core.data.Offset.offset;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TrendingScoresTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2023, 8, 1, 0, 0);
+
+    @DisplayName("최근에 받은 좋아요일수록 높은 점수를 가진다.")
+    @Test
+    void findTopTripIds_RecentLikes() {
+        // given
+        final TrendingScores trendingScores = new TrendingScores(BASE_TIME);
+        trendingScores.add(1L, BASE_TIME);
+        trendingScores.add(1L, BASE_TIME);
+        trendingScores.add(1L, BASE_TIME);
+        trendingScores.add(2L, BASE_TIME.plusDays(7));
+
+        // when & then
+        assertThat(trendingScores.findTopTripIds(2)).containsExactly(2L, 1L);
+    }
+
+    @DisplayName("점수는 반감기마다 절반으로 줄어든다.")
+    @Test
+    void getScore() {
+        // given
+        final TrendingScores trendingScores = new TrendingScores(BASE_TIME);
+        trendingScores.add(1L, BASE_TIME);
+
+        // when
+        final double score = trendingScores.getScore(1L, BASE_TIME.plusDays(3));
+
+        // then
+        assertThat(score).isCloseTo(0.5, offset(1e-9));
+    }
+
+    @DisplayName("기준 시각을 옮겨도 순위와 현재 점수는 유지된다.")
+    @Test
+    void rebase() {
+        // given
+        final TrendingScores trendingScores = new TrendingScores(BASE_TIME);
+        trendingScores.add(1L, BASE_TIME);
+        trendingScores.add(2L, BASE_TIME.plusDays(1));
+        final LocalDateTime now = BASE_TIME.plusDays(10);
+
+        // when
+        final TrendingScores rebased = trendingScores.rebase(now);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(rebased.findTopTripIds(2)).containsExactly(2L, 1L);
+            softly.assertThat(rebased.getScore(2L, now))
+                    .isCloseTo(trendingScores.getScore(2L, now), offset(1e-12));
+        });
+    }
+
+    @DisplayName("삭제된 여행은 순위에서 제외된다.")
+    @Test
+    void remove() {
+        // given
+        final TrendingScores trendingScores = new TrendingScores(BASE_TIME);
+        trendingScores.add(1L, BASE_TIME);
+        trendingScores.add(2L, BASE_TIME);
+
+        // when
+        trendingScores.remove(1L);
+
+        // then
+        assertThat(trendingScores.findTopTripIds(2)).containsExactly(2L);
+    }
+
+    @DisplayName("취소된 좋아요의 점수를 빼고, 남은 점수가 없으면 순위에서 제외한다.")
+    @Test
+    void subtract() {
+        // given
+        final TrendingScores trendingScores = new TrendingScores(BASE_TIME);
+        trendingScores.add(1L, BASE_TIME);
+        trendingScores.add(1L, BASE_TIME.plusDays(3));
+        trendingScores.add(2L, BASE_TIME);
+
+        // when
+        trendingScores.subtract(1L, BASE_TIME.plusDays(3));
+        trendingScores.subtract(2L, BASE_TIME);
+        trendingScores.subtract(3L, BASE_TIME);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(trendingScores.getScore(1L, BASE_TIME)).isCloseTo(1, offset(1e-9));
+            softly.assertThat(trendingScores.findTopTripIds(3)).containsExactly(1L);
+        });
+    }
+}
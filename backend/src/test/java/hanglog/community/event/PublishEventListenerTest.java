@@ -0,0 +1,74 @@
+package hanglog.community.event;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import hanglog.community.domain.PublishedTrip;
+import hanglog.community.domain.repository.PublishedTripRepository;
+import hanglog.community.infrastructure.PublishedTripCounter;
+import hanglog.like.repository.TripLikeCountRepository;
+import hanglog.listener.PublishEventListener;
+import hanglog.trip.domain.PublishDeleteEvent;
+import hanglog.trip.domain.PublishEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PublishEventListenerTest {
+
+    @Mock
+    private PublishedTripRepository publishedTripRepository;
+    @Mock
+    private TripLikeCountRepository tripLikeCountRepository;
+    @Mock
+    private PublishedTripCounter publishedTripCounter;
+    @InjectMocks
+    private PublishEventListener listener;
+
+    @DisplayName("비공개되었던 여행을 다시 공개하면 새로 저장하지 않고 기존 공개 여행을 되살린다.")
+    @Test
+    void publishTrip_Restore() {
+        // given
+        given(publishedTripRepository.existsByTripId(1L)).willReturn(false);
+        given(publishedTripRepository.restoreByTripId(1L)).willReturn(1);
+        given(tripLikeCountRepository.existsById(1L)).willReturn(true);
+
+        // when
+        listener.publishTrip(new PublishEvent(1L));
+
+        // then
+        verify(publishedTripRepository, never()).save(ArgumentMatchers.any(PublishedTrip.class));
+    }
+
+    @DisplayName("공개된 적 없는 여행을 삭제하면 공개 여행 수를 바꾸지 않는다.")
+    @Test
+    void deletePublishedTrip_NotPublished() {
+        // given
+        given(publishedTripRepository.deleteByTripId(1L)).willReturn(0);
+
+        // when
+        listener.deletePublishedTrip(new PublishDeleteEvent(1L));
+
+        // then
+        verify(publishedTripCounter, never()).decreaseOnCommit();
+    }
+
+    @DisplayName("공개된 여행을 삭제하면 커밋 후 공개 여행 수를 감소시킨다.")
+    @Test
+    void deletePublishedTrip_Published() {
+        // given
+        given(publishedTripRepository.deleteByTripId(1L)).willReturn(1);
+
+        // when
+        listener.deletePublishedTrip(new PublishDeleteEvent(1L));
+
+        // then
+        verify(publishedTripCounter).decreaseOnCommit();
+    }
+}
@@ -0,0 +1,88 @@
+package hanglog.community.infrastructure;
+
+import static hanglog.trip.domain.type.PublishedStatusType.PUBLISHED;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import hanglog.trip.domain.repository.TripRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PublishedTripCounterTest {
+
+    @InjectMocks
+    private PublishedTripCounter publishedTripCounter;
+
+    @Mock
+    private TripRepository tripRepository;
+
+    @DisplayName("공개 여행 수를 한 번만 조회하고 이후에는 캐시된 값을 반환한다.")
+    @Test
+    void getCount() {
+        // given
+        given(tripRepository.countTripByPublishedStatus(PUBLISHED)).willReturn(20L);
+
+        // when
+        final long first = publishedTripCounter.getCount();
+        final long second = publishedTripCounter.getCount();
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(first).isEqualTo(20L);
+            softly.assertThat(second).isEqualTo(20L);
+        });
+        verify(tripRepository, times(1)).countTripByPublishedStatus(PUBLISHED);
+    }
+
+    @DisplayName("여행이 공개되면 캐시된 공개 여행 수를 증가시킨다.")
+    @Test
+    void increase() {
+        // given
+        given(tripRepository.countTripByPublishedStatus(PUBLISHED)).willReturn(20L);
+        publishedTripCounter.getCount();
+
+        // when
+        publishedTripCounter.increase();
+
+        // then
+        assertSoftly(softly -> softly.assertThat(publishedTripCounter.getCount()).isEqualTo(21L));
+        verify(tripRepository, times(1)).countTripByPublishedStatus(PUBLISHED);
+    }
+
+    @DisplayName("공개 여행이 삭제되면 다음 조회 시 공개 여행 수를 다시 조회한다.")
+    @Test
+    void invalidate() {
+        // given
+        given(tripRepository.countTripByPublishedStatus(PUBLISHED)).willReturn(20L, 19L);
+        publishedTripCounter.getCount();
+
+        // when
+        publishedTripCounter.invalidate();
+
+        // then
+        assertSoftly(softly -> softly.assertThat(publishedTripCounter.getCount()).isEqualTo(19L));
+        verify(tripRepository, times(2)).countTripByPublishedStatus(PUBLISHED);
+    }
+
+    @DisplayName("공개 여행이 비공개되거나 삭제되면 캐시된 공개 여행 수를 감소시킨다.")
+    @Test
+    void decrease() {
+        // given
+        given(tripRepository.countTripByPublishedStatus(PUBLISHED)).willReturn(20L);
+        publishedTripCounter.getCount();
+
+        // when
+        publishedTripCounter.decreaseOnCommit();
+
+        // then
+        assertSoftly(softly -> softly.assertThat(publishedTripCounter.getCount()).isEqualTo(19L));
+        verify(tripRepository, times(1)).countTripByPublishedStatus(PUBLISHED);
+    }
+}
@@ -0,0 +1,64 @@
+package hanglog.community.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import hanglog.community.domain.TrendingScores;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TrendingScoreIndexTest {
+
+    private TrendingScoreIndex trendingScoreIndex;
+
+    @BeforeEach
+    void setUp() {
+        trendingScoreIndex = new TrendingScoreIndex();
+    }
+
+    @DisplayName("재계산 도중 반영된 좋아요는 재계산 결과로 교체한 뒤에도 남는다.")
+    @Test
+    void replace_LikesDuringRebuild() {
+        // given
+        final LocalDateTime rebuildTime = trendingScoreIndex.startRebuild();
+        trendingScoreIndex.addLikes(List.of(1L), rebuildTime.plusSeconds(1));
+
+        // when
+        trendingScoreIndex.replace(new TrendingScores(rebuildTime));
+
+        // then
+        assertThat(trendingScoreIndex.findTopTripIds(5)).containsExactly(1L);
+    }
+
+    @DisplayName("재계산 기준 시각 이전의 좋아요는 재계산 결과에 포함되므로 다시 더하지 않는다.")
+    @Test
+    void replace_LikesBeforeRebuildTime() {
+        // given
+        final LocalDateTime rebuildTime = trendingScoreIndex.startRebuild();
+        trendingScoreIndex.addLikes(List.of(1L), rebuildTime.minusSeconds(1));
+
+        // when
+        trendingScoreIndex.replace(new TrendingScores(rebuildTime));
+
+        // then
+        assertThat(trendingScoreIndex.findTopTripIds(5)).isEmpty();
+    }
+
+    @DisplayName("재계산 도중 제거된 여행은 재계산 결과로 교체한 뒤에도 제거된 상태다.")
+    @Test
+    void replace_RemovedDuringRebuild() {
+        // given
+        final LocalDateTime rebuildTime = trendingScoreIndex.startRebuild();
+        final TrendingScores rebuiltScores = new TrendingScores(rebuildTime);
+        rebuiltScores.add(1L, rebuildTime.minusSeconds(1));
+        trendingScoreIndex.removeAll(List.of(1L));
+
+        // when
+        trendingScoreIndex.replace(rebuiltScores);
+
+        // then
+        assertThat(trendingScoreIndex.findTopTripIds(5)).isEmpty();
+    }
+}
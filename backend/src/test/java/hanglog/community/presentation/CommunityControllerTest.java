@@ -12,6 +12,7 @@ import static hanglog.trip.fixture.TripFixture.LONDON_TO_JAPAN;
 import static hanglog.trip.fixture.TripFixture.LONDON_TRIP;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
@@ -20,12 +21,15 @@ import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.payload.PayloadDocumentation.subsectionWithPath;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import hanglog.city.domain.City;
+import hanglog.community.dto.response.CommunityTripCursorResponse;
 import hanglog.community.dto.response.CommunityTripListResponse;
 import hanglog.community.dto.response.CommunityTripResponse;
 import hanglog.community.dto.response.RecommendTripListResponse;
@@ -203,11 +207,61 @@ class CommunityControllerTest extends ControllerTest {
         ));
     }
 
+    @DisplayName("커서 이후의 공개된 여행 목록을 조회한다")
+    @Test
+    void getTripsByCursor() throws Exception {
+        // given
+        when(communityService.getCommunityTripsByCursor(any(), any(), anyInt()))
+                .thenReturn(new CommunityTripCursorResponse(
+                        List.of(CommunityTripResponse.of(LONDON_TRIP, CITIES, true, 1L)),
+                        "nextCursor"
+                ));
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(get("/community/trips")
+                .queryParam("cursor", "")
+                .queryParam("size", "1")
+                .header(AUTHORIZATION, MEMBER_TOKENS.getAccessToken())
+                .cookie(COOKIE)
+                .contentType(APPLICATION_JSON));
+
+        // then
+        final MvcResult mvcResult = resultActions.andExpect(status().isOk())
+                .andDo(restDocs.document(
+                        queryParameters(
+                                parameterWithName("cursor")
+                                        .description("이전 응답의 nextCursor (첫 페이지는 빈 값)"),
+                                parameterWithName("size")
+                                        .description("조회할 여행 수")
+                        ),
+                        responseFields(
+                                subsectionWithPath("trips")
+                                        .type(JsonFieldType.ARRAY)
+                                        .description("여행 목록"),
+                                fieldWithPath("nextCursor")
+                                        .type(JsonFieldType.STRING)
+                                        .description("다음 페이지 커서")
+                                        .attributes(field("constraint", "마지막 페이지이면 null"))
+                        )
+                ))
+                .andReturn();
+
+        final CommunityTripCursorResponse communityTripCursorResponse = objectMapper.readValue(
+                mvcResult.getResponse().getContentAsString(),
+                CommunityTripCursorResponse.class
+        );
+
+        assertThat(communityTripCursorResponse).usingRecursiveComparison().isEqualTo(new CommunityTripCursorResponse(
+                List.of(CommunityTripResponse.of(LONDON_TRIP, CITIES, true, 1L)),
+                "nextCursor"
+        ));
+    }
+
     @DisplayName("추천 여행 목록을 조회한다")
     @Test
     void getRecommendTrips() throws Exception {
         // given
-        when(communityService.getRecommendTrips(any()))
+        when(communityService.getRecommendTrips(any(), any()))
                 .thenReturn(new RecommendTripListResponse(
                         "인기 있는 여행들이에요",
                         List.of(CommunityTripResponse.of(LONDON_TRIP, CITIES, true, 1L))
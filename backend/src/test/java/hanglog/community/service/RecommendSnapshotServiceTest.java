@@ -0,0 +1,83 @@
+package hanglog.community.service;
+
+import static hanglog.community.domain.recommendstrategy.RecommendType.LIKE;
+import static hanglog.community.domain.recommendstrategy.RecommendType.TRENDING;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import hanglog.community.domain.recommendstrategy.RecommendSnapshot;
+import hanglog.community.domain.recommendstrategy.RecommendStrategies;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RecommendSnapshotServiceTest {
+
+    private CommunityService communityService;
+    private RecommendStrategies recommendStrategies;
+    private SimpleMeterRegistry meterRegistry;
+    private RecommendSnapshotService recommendSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        communityService = mock(CommunityService.class);
+        recommendStrategies = new RecommendStrategies(List.of());
+        meterRegistry = new SimpleMeterRegistry();
+        recommendSnapshotService = new RecommendSnapshotService(communityService, recommendStrategies, meterRegistry);
+    }
+
+    @DisplayName("추천 스냅샷을 다시 만들어 교체하고 소요 시간을 기록한다.")
+    @Test
+    void rebuild() {
+        // given
+        final RecommendSnapshot recommendSnapshot = new RecommendSnapshot("title", List.of(), LocalDateTime.now());
+        given(communityService.createRecommendSnapshot(any())).willReturn(recommendSnapshot);
+
+        // when
+        recommendSnapshotService.rebuild();
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(recommendStrategies.findSnapshot(LIKE)).containsSame(recommendSnapshot);
+            softly.assertThat(meterRegistry.get("community.recommend.snapshot.rebuild").timer().count())
+                    .isEqualTo(1L);
+            softly.assertThat(meterRegistry.get("community.recommend.snapshot.staleness").timeGauge().value())
+                    .isNotNaN();
+        });
+    }
+
+    @DisplayName("좋아요 변경이 기준보다 적으면 추천 스냅샷을 다시 만들지 않는다.")
+    @Test
+    void addLikeChanges_UnderThreshold() {
+        // when
+        recommendSnapshotService.addLikeChanges(99);
+        recommendSnapshotService.rebuildIfLikesChanged();
+
+        // then
+        verify(communityService, never()).createRecommendSnapshot(LIKE);
+    }
+
+    @DisplayName("좋아요 변경이 기준에 도달하면 추천 스냅샷을 다시 만든다.")
+    @Test
+    void addLikeChanges_ReachThreshold() {
+        // given
+        given(communityService.createRecommendSnapshot(any()))
+                .willReturn(new RecommendSnapshot("title", List.of(), LocalDateTime.now()));
+
+        // when
+        recommendSnapshotService.addLikeChanges(60);
+        recommendSnapshotService.addLikeChanges(40);
+        recommendSnapshotService.rebuildIfLikesChanged();
+
+        // then
+        verify(communityService).createRecommendSnapshot(LIKE);
+        verify(communityService).createRecommendSnapshot(TRENDING);
+    }
+}
@@ -0,0 +1,73 @@
+package hanglog.currency.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CurrencyRatesTest {
+
+    private static final Currency CURRENCY_0703 = createCurrency(1L, LocalDate.of(2023, 7, 3), 1300.0);
+    private static final Currency CURRENCY_0705 = createCurrency(2L, LocalDate.of(2023, 7, 5), 1310.0);
+    private static final Currency CURRENCY_0710 = createCurrency(3L, LocalDate.of(2023, 7, 10), 1320.0);
+
+    private final CurrencyRates currencyRates = CurrencyRates.from(
+            List.of(CURRENCY_0710, CURRENCY_0703, CURRENCY_0705)
+    );
+
+    @DisplayName("요청한 날짜의 환율이 있으면 해당 날짜의 환율을 반환한다.")
+    @Test
+    void findLatestOnOrBefore_ExactDate() {
+        // when
+        final Currency currency = currencyRates.findLatestOnOrBefore(LocalDate.of(2023, 7, 5)).orElseThrow();
+
+        // then
+        assertThat(currency).usingRecursiveComparison().isEqualTo(CURRENCY_0705);
+    }
+
+    @DisplayName("요청한 날짜의 환율이 없으면 가장 가까운 이전 날짜의 환율을 반환한다.")
+    @Test
+    void findLatestOnOrBefore_PreviousDate() {
+        // when
+        final Currency weekend = currencyRates.findLatestOnOrBefore(LocalDate.of(2023, 7, 8)).orElseThrow();
+        final Currency future = currencyRates.findLatestOnOrBefore(LocalDate.of(2024, 1, 1)).orElseThrow();
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(weekend.getDate()).isEqualTo(CURRENCY_0705.getDate());
+            softly.assertThat(future.getDate()).isEqualTo(CURRENCY_0710.getDate());
+        });
+    }
+
+    @DisplayName("가장 오래된 환율보다 이전 날짜를 요청하면 빈 값을 반환한다.")
+    @Test
+    void findLatestOnOrBefore_BeforeOldest() {
+        // when & then
+        assertSoftly(softly -> {
+            softly.assertThat(currencyRates.findLatestOnOrBefore(LocalDate.of(2023, 7, 2))).isEmpty();
+            softly.assertThat(currencyRates.findOldest().orElseThrow().getDate())
+                    .isEqualTo(CURRENCY_0703.getDate());
+        });
+    }
+
+    @DisplayName("환율 정보가 없으면 빈 값을 반환한다.")
+    @Test
+    void findOldest_Empty() {
+        // given
+        final CurrencyRates emptyRates = CurrencyRates.from(List.of());
+
+        // when & then
+        assertSoftly(softly -> {
+            softly.assertThat(emptyRates.isEmpty()).isTrue();
+            softly.assertThat(emptyRates.findOldest()).isEmpty();
+            softly.assertThat(emptyRates.findLatestOnOrBefore(LocalDate.of(2023, 7, 5))).isEmpty();
+        });
+    }
+
+    private static Currency createCurrency(final Long id, final LocalDate date, final double usd) {
+        return new Currency(id, date, usd, 1400.0, 1600.0, 900.0, 170.0, 1450.0, 960.0, 37.0, 165.0, 1.0);
+    }
+}
@@ -0,0 +1,122 @@
+package hanglog.expense.domain;
+
+import static java.math.RoundingMode.HALF_UP;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MoneyTest {
+
+    private static final int TRIAL_COUNT = 10_000;
+    private static final BigDecimal MAX_EXPENSE = new BigDecimal(100_000_000);
+
+    @DisplayName("환율을 곱한 결과가 Amount의 곱셈을 소수점 셋째 자리에서 반올림한 결과와 같다.")
+    @Test
+    void times_SameAsAmount() {
+        // given
+        final Random random = new Random(20230801L);
+
+        // when & then
+        assertSoftly(softly -> {
+            for (int i = 0; i < TRIAL_COUNT; i++) {
+                final BigDecimal value = randomExpense(random);
+                final double rate = randomRate(random);
+
+                final BigDecimal expected = new Amount(value).multiply(rate).getValue().setScale(Money.SCALE, HALF_UP);
+                final BigDecimal actual = Money.from(value).times(ExchangeRate.from(rate)).toBigDecimal();
+
+                softly.assertThat(actual)
+                        .as("%s * %s", value, rate)
+                        .isEqualByComparingTo(expected);
+            }
+        });
+    }
+
+    @DisplayName("여러 금액을 더한 결과가 Amount의 덧셈 결과와 같다.")
+    @Test
+    void plus_SameAsAmount() {
+        // given
+        final Random random = new Random(20230802L);
+        Amount expected = Amount.ZERO;
+        Money actual = Money.ZERO;
+
+        // when
+        for (int i = 0; i < TRIAL_COUNT; i++) {
+            final BigDecimal value = randomExpense(random);
+            expected = expected.add(value);
+            actual = actual.plus(Money.from(value));
+        }
+
+        // then
+        assertThat(actual.toBigDecimal()).isEqualByComparingTo(expected.getValue());
+    }
+
+    @DisplayName("환율을 곱한 금액들의 합은 Amount로 곱해서 더한 뒤 한 번 반올림한 결과와 같다.")
+    @Test
+    void moneySum_SameAsAmount() {
+        // given
+        final Random random = new Random(20230803L);
+        Amount expected = Amount.ZERO;
+        final MoneySum actual = new MoneySum();
+
+        // when
+        for (int i = 0; i < TRIAL_COUNT; i++) {
+            final BigDecimal value = randomExpense(random);
+            final double rate = randomRate(random);
+            expected = expected.add(new Amount(value).multiply(rate));
+            actual.add(Money.from(value), ExchangeRate.from(rate));
+        }
+
+        // then
+        assertThat(actual.toMoney().toBigDecimal())
+                .isEqualByComparingTo(expected.getValue().setScale(Money.SCALE, HALF_UP));
+    }
+
+    @DisplayName("long 범위를 넘는 곱셈은 BigDecimal로 계산한다.")
+    @Test
+    void times_Overflow() {
+        // given
+        final Money money = Money.from(new BigDecimal("100000000.5"));
+        final ExchangeRate rate = ExchangeRate.from(1234.567890123);
+
+        // when
+        final Money result = money.times(rate);
+
+        // then
+        assertThat(result.toBigDecimal()).isEqualByComparingTo(
+                new BigDecimal("100000000.5").multiply(new BigDecimal("1234.567890123")).setScale(Money.SCALE, HALF_UP)
+        );
+    }
+
+    @DisplayName("금액은 소수점 셋째 자리까지 반올림하여 저장한다.")
+    @Test
+    void from_RoundsToColumnScale() {
+        // when & then
+        assertSoftly(softly -> {
+            softly.assertThat(Money.from(new BigDecimal("1.0005")).toBigDecimal())
+                    .isEqualByComparingTo("1.001");
+            softly.assertThat(Money.from(new BigDecimal("-1.0005")).toBigDecimal())
+                    .isEqualByComparingTo("-1.001");
+            softly.assertThat(Money.from(new BigDecimal("1.0004")))
+                    .isEqualTo(Money.from(new BigDecimal("1.000")));
+        });
+    }
+
+    private BigDecimal randomExpense(final Random random) {
+        final int scale = random.nextInt(Money.SCALE + 1);
+        final long unscaled = (long) (random.nextDouble() * MAX_EXPENSE.movePointRight(scale).doubleValue());
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+
+    private double randomRate(final Random random) {
+        final double rate = Math.round(random.nextDouble() * 200_000) / 100.0;
+        if (random.nextBoolean()) {
+            return rate / 100;
+        }
+        return rate;
+    }
+}
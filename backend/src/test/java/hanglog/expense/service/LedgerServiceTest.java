@@ -15,26 +15,43 @@ import static hanglog.expense.fixture.TripExpenseFixture.TRIP_FOR_EXPENSE;
 import static hanglog.trip.fixture.CityFixture.LONDON;
 import static hanglog.trip.fixture.CityFixture.TOKYO;
 import static hanglog.trip.fixture.TripFixture.LONDON_TRIP;
+import static java.math.RoundingMode.HALF_UP;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
 import hanglog.category.domain.repository.CategoryRepository;
 import hanglog.city.domain.City;
+import hanglog.category.domain.Category;
 import hanglog.city.domain.repository.CityRepository;
-import hanglog.currency.domain.repository.CurrencyRepository;
+import hanglog.currency.domain.Currency;
+import hanglog.currency.domain.type.CurrencyType;
+import hanglog.currency.infrastructure.CurrencyRateStore;
 import hanglog.expense.domain.Amount;
 import hanglog.expense.domain.CategoryExpense;
+import hanglog.expense.dto.response.CategoryExpenseResponse;
 import hanglog.expense.fixture.ExchangeableExpenseFixture.ExchangeableExpense;
+import hanglog.trip.domain.DayLog;
 import hanglog.trip.domain.DayLogExpense;
+import hanglog.trip.domain.LedgerSummary;
+import hanglog.trip.domain.repository.LedgerSummaryRepository;
+import hanglog.trip.domain.repository.TripGraphRepository;
 import hanglog.trip.domain.repository.TripRepository;
+import hanglog.trip.dto.response.DayLogLedgerResponse;
 import hanglog.trip.dto.response.LedgerResponse;
 import hanglog.trip.service.LedgerService;
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Random;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -55,7 +72,13 @@ class LedgerServiceTest {
     private TripRepository tripRepository;
 
     @Mock
-    private CurrencyRepository currencyRepository;
+    private TripGraphRepository tripGraphRepository;
+
+    @Mock
+    private LedgerSummaryRepository ledgerSummaryRepository;
+
+    @Mock
+    private CurrencyRateStore currencyRateStore;
 
     @Mock
     private CityRepository cityRepository;
@@ -68,10 +91,18 @@ class LedgerServiceTest {
     void getAllExpenses() {
         // given
         final List<City> cities = List.of(LONDON, TOKYO);
-        when(tripRepository.findById(1L))
+        when(tripRepository.findTripById(1L))
                 .thenReturn(Optional.of(TRIP_FOR_EXPENSE));
-        lenient().when(currencyRepository.findTopByOrderByDateAsc())
-                .thenReturn(Optional.of(DEFAULT_CURRENCY));
+        when(tripGraphRepository.findDayLogsWithItemExpensesByTripId(1L))
+                .thenReturn(List.of(DAYLOG_1_FOR_EXPENSE, DAYLOG_2_FOR_EXPENSE));
+        when(ledgerSummaryRepository.findByTripId(1L))
+                .thenReturn(List.of(
+                        toLedgerSummary(DAYLOG_1_FOR_EXPENSE, KRW_100_FOOD),
+                        toLedgerSummary(DAYLOG_1_FOR_EXPENSE, EUR_100_SHOPPING),
+                        toLedgerSummary(DAYLOG_2_FOR_EXPENSE, USD_100_ACCOMMODATION)
+                ));
+        when(currencyRateStore.getCurrencyOnOrBefore(any()))
+                .thenReturn(DEFAULT_CURRENCY);
         when(cityRepository.findCitiesByTripId(1L))
                 .thenReturn(cities);
         lenient().when(categoryRepository.findExpenseCategory())
@@ -119,24 +150,37 @@ class LedgerServiceTest {
         // when
         final LedgerResponse actual = ledgerService.getAllExpenses(1L);
         final List<String> actualCategories = actual.getCategories().stream()
-                .filter(categoryExpenseResponse -> !categoryExpenseResponse.getAmount().equals(BigDecimal.ZERO))
+                .filter(categoryExpenseResponse -> categoryExpenseResponse.getAmount().compareTo(BigDecimal.ZERO) != 0)
                 .map(categoryExpenseResponse -> categoryExpenseResponse.getCategory().getName())
                 .toList();
         // then
         assertSoftly(softly -> {
             softly.assertThat(actual)
                     .usingRecursiveComparison()
+                    .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
                     .ignoringCollectionOrder()
                     .ignoringFields("categories")
                     .isEqualTo(expected);
             softly.assertThat(actual.getCategories())
-                    .usingRecursiveFieldByFieldElementComparatorOnFields()
+                    .usingRecursiveFieldByFieldElementComparator(RecursiveComparisonConfiguration.builder()
+                            .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                            .build())
                     .containsAll(expected.getCategories());
             softly.assertThat(actualCategories)
                     .isEqualTo(expectCategories);
         });
     }
 
+    private LedgerSummary toLedgerSummary(final DayLog dayLog, final ExchangeableExpense exchangeableExpense) {
+        return new LedgerSummary(
+                dayLog.getTrip().getId(),
+                dayLog.getId(),
+                exchangeableExpense.expense.getCategory().getId(),
+                exchangeableExpense.expense.getCurrency(),
+                exchangeableExpense.expense.getAmount()
+        );
+    }
+
     public Amount getTotalAmount(final List<ExchangeableExpense> expenses) {
         return expenses.stream()
                 .map(exchangeableExpense -> exchangeableExpense.exchangeAmount)
@@ -148,13 +192,15 @@ class LedgerServiceTest {
     @Test
     void getNoExpenseTrip() {
         // given
-        when(tripRepository.findById(1L))
+        when(tripRepository.findTripById(1L))
                 .thenReturn(Optional.of(LONDON_TRIP));
-        when(currencyRepository.findTopByOrderByDateAsc())
-                .thenReturn(Optional.of(DEFAULT_CURRENCY));
+        when(tripGraphRepository.findDayLogsWithItemExpensesByTripId(1L))
+                .thenReturn(LONDON_TRIP.getDayLogs());
+        when(currencyRateStore.getCurrencyOnOrBefore(any()))
+                .thenReturn(DEFAULT_CURRENCY);
         when(cityRepository.findCitiesByTripId(1L))
                 .thenReturn(List.of());
-        when(categoryRepository.findExpenseCategory())
+        lenient().when(categoryRepository.findExpenseCategory())
                 .thenReturn(EXPENSE_CATEGORIES);
 
         // when
@@ -164,4 +210,79 @@ class LedgerServiceTest {
         assertThat(actual).extracting("categories").asList().hasSize(6);
         assertThat(actual).extracting("dayLogs").asList().hasSize(3);
     }
+
+    @DisplayName("많은 경비 요약을 집계한 날짜별, 카테고리별, 전체 금액이 Amount로 곱해서 더한 뒤 반올림한 결과와 같다.")
+    @Test
+    void getAllExpenses_SameAsAmountAggregation() {
+        // given
+        final Random random = new Random(20230804L);
+        final Currency currency = new Currency(
+                2L,
+                LocalDate.of(2023, 1, 1),
+                1321.57,
+                1437.18,
+                1658.93,
+                913.47,
+                181.62,
+                1497.31,
+                987.27,
+                37.91,
+                168.71,
+                1.0
+        );
+        final List<DayLog> dayLogs = List.of(DAYLOG_1_FOR_EXPENSE, DAYLOG_2_FOR_EXPENSE);
+        final CurrencyType[] currencyTypes = CurrencyType.values();
+        final List<LedgerSummary> ledgerSummaries = new ArrayList<>();
+        final Map<Long, Amount> expectedDayLogAmounts = new HashMap<>();
+        final Map<Long, Amount> expectedCategoryAmounts = new HashMap<>();
+        Amount expectedTotalAmount = Amount.ZERO;
+        for (int i = 0; i < 1_000; i++) {
+            final DayLog dayLog = dayLogs.get(random.nextInt(dayLogs.size()));
+            final Category category = EXPENSE_CATEGORIES.get(random.nextInt(EXPENSE_CATEGORIES.size()));
+            final String currencyCode = currencyTypes[random.nextInt(currencyTypes.length)].getCode();
+            final Amount amount = new Amount(BigDecimal.valueOf(random.nextInt(100_000_000), random.nextInt(4)));
+            ledgerSummaries.add(new LedgerSummary(1L, dayLog.getId(), category.getId(), currencyCode, amount));
+
+            final Amount KRWAmount = amount.multiply(CurrencyType.getMappedCurrencyRate(currencyCode, currency));
+            expectedDayLogAmounts.merge(dayLog.getId(), KRWAmount, Amount::add);
+            expectedCategoryAmounts.merge(category.getId(), KRWAmount, Amount::add);
+            expectedTotalAmount = expectedTotalAmount.add(KRWAmount);
+        }
+        when(tripRepository.findTripById(1L))
+                .thenReturn(Optional.of(TRIP_FOR_EXPENSE));
+        when(tripGraphRepository.findDayLogsWithItemExpensesByTripId(1L))
+                .thenReturn(dayLogs);
+        when(ledgerSummaryRepository.findByTripId(1L))
+                .thenReturn(ledgerSummaries);
+        when(currencyRateStore.getCurrencyOnOrBefore(any()))
+                .thenReturn(currency);
+        when(cityRepository.findCitiesByTripId(1L))
+                .thenReturn(List.of());
+        lenient().when(categoryRepository.findExpenseCategory())
+                .thenReturn(EXPENSE_CATEGORIES);
+
+        // when
+        final LedgerResponse actual = ledgerService.getAllExpenses(1L);
+
+        // then
+        final Amount totalAmount = expectedTotalAmount;
+        assertSoftly(softly -> {
+            softly.assertThat(actual.getTotalAmount()).isEqualByComparingTo(rounded(totalAmount));
+            for (final DayLogLedgerResponse dayLog : actual.getDayLogs()) {
+                softly.assertThat(dayLog.getTotalAmount())
+                        .as("dayLog %d", dayLog.getId())
+                        .isEqualByComparingTo(rounded(expectedDayLogAmounts.getOrDefault(dayLog.getId(), Amount.ZERO)));
+            }
+            for (final CategoryExpenseResponse category : actual.getCategories()) {
+                final Long categoryId = category.getCategory().getId();
+                softly.assertThat(category.getAmount())
+                        .as("category %d", categoryId)
+                        .isEqualByComparingTo(rounded(expectedCategoryAmounts.getOrDefault(categoryId, Amount.ZERO)));
+            }
+        });
+    }
+
+    private BigDecimal rounded(final Amount amount) {
+        return amount.getValue().setScale(3, HALF_UP);
+    }
 }
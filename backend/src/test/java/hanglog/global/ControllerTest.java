@@ -7,6 +7,7 @@ import hanglog.login.LoginArgumentResolver;
 import hanglog.login.domain.repository.RefreshTokenRepository;
 import hanglog.login.infrastructure.BearerAuthorizationExtractor;
 import hanglog.login.infrastructure.JwtProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,7 +21,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.filter.CharacterEncodingFilter;
 
-@Import(RestDocsConfiguration.class)
+@Import({RestDocsConfiguration.class, SimpleMeterRegistry.class})
 @ExtendWith(RestDocumentationExtension.class)
 public abstract class ControllerTest {
 
@@ -1,6 +1,8 @@
 package hanglog.global.config;
 
 import hanglog.community.domain.repository.PublishedTripRepository;
+import hanglog.community.infrastructure.PublishedTripCounter;
+import hanglog.like.repository.TripLikeCountRepository;
 import hanglog.listener.PublishEventListener;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
@@ -9,7 +11,11 @@ import org.springframework.context.annotation.Bean;
 public class EventListenerTestConfig {
 
     @Bean
-    public PublishEventListener publishEventListener(PublishedTripRepository publishedTripRepository) {
-        return new PublishEventListener(publishedTripRepository);
+    public PublishEventListener publishEventListener(
+            PublishedTripRepository publishedTripRepository,
+            TripLikeCountRepository tripLikeCountRepository,
+            PublishedTripCounter publishedTripCounter
+    ) {
+        return new PublishEventListener(publishedTripRepository, tripLikeCountRepository, publishedTripCounter);
     }
 }
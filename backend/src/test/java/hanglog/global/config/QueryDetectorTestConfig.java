@@ -0,0 +1,30 @@
+package hanglog.global.config;
+
+import hanglog.global.detector.NPlusOneDetector;
+import hanglog.global.detector.QueryCounterAop;
+import hanglog.global.detector.QueryMetrics;
+import hanglog.global.detector.SqlStatistics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+@TestConfiguration
+@Import({
+        QueryCounterAop.class,
+        QueryMetrics.class,
+        SqlStatistics.class,
+        NPlusOneDetector.class,
+        AopAutoConfiguration.class
+})
+public class QueryDetectorTestConfig {
+
+    public static final String FAIL_ON_N_PLUS_ONE = "detector.n-plus-one.fail-on-detection=true";
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+}
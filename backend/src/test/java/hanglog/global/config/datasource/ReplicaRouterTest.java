@@ -0,0 +1,95 @@
+package hanglog.global.config.datasource;
+
+import static hanglog.global.config.datasource.DataSourceType.SOURCE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ReplicaRouterTest {
+
+    private static final long MAX_LAG_SECONDS = 10;
+
+    private final DataSource replica1DataSource = mock(DataSource.class);
+    private final DataSource replica2DataSource = mock(DataSource.class);
+    private final Map<DataSource, OptionalLong> lags = new HashMap<>();
+
+    private final ReplicaRouter replicaRouter = new ReplicaRouter(
+            List.of(
+                    new ReplicaTarget("replica1", 3, replica1DataSource),
+                    new ReplicaTarget("replica2", 1, replica2DataSource)
+            ),
+            new WeightedRoundRobinReplicaSelector(),
+            dataSource -> {
+                final OptionalLong lag = lags.get(dataSource);
+                if (lag == null) {
+                    throw new SQLException("connection refused");
+                }
+                return lag;
+            },
+            MAX_LAG_SECONDS,
+            new SimpleMeterRegistry()
+    );
+
+    @DisplayName("읽기 전용 요청을 가중치 비율대로 레플리카에 나눈다.")
+    @Test
+    void routeReadOnly_Weighted() {
+        // given
+        lags.put(replica1DataSource, OptionalLong.of(0));
+        lags.put(replica2DataSource, OptionalLong.of(0));
+        replicaRouter.probe();
+
+        // when
+        final List<Object> routed = IntStream.range(0, 8)
+                .mapToObj(i -> replicaRouter.routeReadOnly())
+                .toList();
+
+        // then
+        assertThat(routed).filteredOn("replica1"::equals).hasSize(6);
+        assertThat(routed).filteredOn("replica2"::equals).hasSize(2);
+    }
+
+    @DisplayName("복제 지연이 허용치를 넘거나 상태 확인에 실패한 레플리카는 제외한다.")
+    @Test
+    void routeReadOnly_EjectLaggingReplica() {
+        // given
+        lags.put(replica1DataSource, OptionalLong.of(MAX_LAG_SECONDS + 1));
+        lags.put(replica2DataSource, OptionalLong.of(1));
+        replicaRouter.probe();
+
+        // when
+        final List<Object> routed = IntStream.range(0, 4)
+                .mapToObj(i -> replicaRouter.routeReadOnly())
+                .toList();
+
+        // then
+        assertThat(routed).containsOnly("replica2");
+    }
+
+    @DisplayName("사용할 수 있는 레플리카가 없으면 Source 로 보내고, 복구되면 다시 레플리카로 보낸다.")
+    @Test
+    void routeReadOnly_FallbackToSource() {
+        // given
+        lags.put(replica1DataSource, OptionalLong.empty());
+        replicaRouter.probe();
+        final Object whileUnhealthy = replicaRouter.routeReadOnly();
+
+        // when
+        lags.put(replica2DataSource, OptionalLong.of(0));
+        replicaRouter.probe();
+        final Object afterRecovery = replicaRouter.routeReadOnly();
+
+        // then
+        assertThat(whileUnhealthy).isEqualTo(SOURCE);
+        assertThat(afterRecovery).isEqualTo("replica2");
+    }
+}
@@ -0,0 +1,179 @@
+package hanglog.global.config.datasource;
+
+import static hanglog.global.config.datasource.DataSourceType.SOURCE;
+import static hanglog.global.config.datasource.ReadYourWritesTracker.LAST_WRITE_COOKIE;
+import static hanglog.global.config.datasource.ReadYourWritesTracker.MEMBER_ID_ATTRIBUTE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class RoutingDataSourceTest {
+
+    private static final String REPLICA_NAME = "replica1";
+
+    private final ReadYourWritesTracker readYourWritesTracker = new ReadYourWritesTracker(Duration.ofMinutes(1));
+    private final RoutingDataSource routingDataSource = createRoutingDataSource(readYourWritesTracker);
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @DisplayName("쓰기 트랜잭션을 커밋한 회원의 읽기 전용 트랜잭션은 Source 로 보낸다.")
+    @Test
+    void determineCurrentLookupKey_PinAfterWrite() {
+        // given
+        requestBy(1L);
+        routingDataSource.determineCurrentLookupKey();
+        readYourWritesTracker.markWritten();
+        commit();
+
+        // when
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        final Object lookupKey = routingDataSource.determineCurrentLookupKey();
+
+        // then
+        assertThat(lookupKey).isEqualTo(SOURCE);
+    }
+
+    @DisplayName("다른 회원의 읽기 전용 트랜잭션은 계속 레플리카로 보낸다.")
+    @Test
+    void determineCurrentLookupKey_OtherMember() {
+        // given
+        requestBy(1L);
+        routingDataSource.determineCurrentLookupKey();
+        readYourWritesTracker.markWritten();
+        commit();
+
+        // when
+        requestBy(2L);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        final Object lookupKey = routingDataSource.determineCurrentLookupKey();
+
+        // then
+        assertThat(lookupKey).isEqualTo(REPLICA_NAME);
+    }
+
+    @DisplayName("쓰기 트랜잭션이 롤백되면 읽기 전용 트랜잭션을 레플리카로 보낸다.")
+    @Test
+    void determineCurrentLookupKey_Rollback() {
+        // given
+        requestBy(1L);
+        routingDataSource.determineCurrentLookupKey();
+        readYourWritesTracker.markWritten();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        final Object lookupKey = routingDataSource.determineCurrentLookupKey();
+
+        // then
+        assertThat(lookupKey).isEqualTo(REPLICA_NAME);
+    }
+
+    @DisplayName("쓰기 쿼리를 실행하지 않은 쓰기 트랜잭션은 읽기 전용 트랜잭션을 Source 로 보내지 않는다.")
+    @Test
+    void determineCurrentLookupKey_NoWrite() {
+        // given
+        requestBy(1L);
+        routingDataSource.determineCurrentLookupKey();
+        commit();
+
+        // when
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        final Object lookupKey = routingDataSource.determineCurrentLookupKey();
+
+        // then
+        assertThat(lookupKey).isEqualTo(REPLICA_NAME);
+    }
+
+    @DisplayName("다른 서버가 남긴 마지막 쓰기 쿠키가 있으면 읽기 전용 트랜잭션을 Source 로 보낸다.")
+    @Test
+    void determineCurrentLookupKey_PinByCookie() {
+        // given
+        requestBy(1L);
+        routingDataSource.determineCurrentLookupKey();
+        readYourWritesTracker.markWritten();
+        commit();
+        final Cookie lastWriteCookie = response.getCookie(LAST_WRITE_COOKIE);
+
+        // when
+        final MockHttpServletRequest nextRequest = requestBy(1L);
+        nextRequest.setCookies(lastWriteCookie);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        final RoutingDataSource otherNode = createRoutingDataSource(new ReadYourWritesTracker(Duration.ofMinutes(1)));
+        final Object lookupKey = otherNode.determineCurrentLookupKey();
+
+        // then
+        assertThat(lookupKey).isEqualTo(SOURCE);
+    }
+
+    @DisplayName("미래 시각이나 읽을 수 없는 마지막 쓰기 쿠키는 무시하고 레플리카로 보낸다.")
+    @Test
+    void determineCurrentLookupKey_InvalidCookie() {
+        // given
+        final MockHttpServletRequest futureRequest = requestBy(1L);
+        futureRequest.setCookies(new Cookie(LAST_WRITE_COOKIE, String.valueOf(Long.MAX_VALUE)));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        final Object futureLookupKey = routingDataSource.determineCurrentLookupKey();
+
+        final MockHttpServletRequest invalidRequest = requestBy(1L);
+        invalidRequest.setCookies(new Cookie(LAST_WRITE_COOKIE, "invalid"));
+        final Object invalidLookupKey = routingDataSource.determineCurrentLookupKey();
+
+        // then
+        assertThat(futureLookupKey).isEqualTo(REPLICA_NAME);
+        assertThat(invalidLookupKey).isEqualTo(REPLICA_NAME);
+    }
+
+    private static RoutingDataSource createRoutingDataSource(final ReadYourWritesTracker readYourWritesTracker) {
+        return new RoutingDataSource(
+                new ReplicaRouter(
+                        List.of(new ReplicaTarget(REPLICA_NAME, 1, mock(DataSource.class))),
+                        new WeightedRoundRobinReplicaSelector(),
+                        dataSource -> OptionalLong.of(0),
+                        10,
+                        new SimpleMeterRegistry()
+                ),
+                readYourWritesTracker
+        );
+    }
+
+    private MockHttpServletRequest requestBy(final Long memberId) {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(MEMBER_ID_ATTRIBUTE, memberId);
+        response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return request;
+    }
+
+    private void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+}
@@ -0,0 +1,85 @@
+package hanglog.global.detector;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConnectionProxyHandlerTest {
+
+    private Connection connection;
+    private SqlStatistics sqlStatistics;
+    private LoggingForm loggingForm;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        final Connection rawConnection = DriverManager.getConnection("jdbc:h2:mem:connection_proxy");
+        rawConnection.createStatement().execute("CREATE TABLE tag (id BIGINT PRIMARY KEY)");
+        sqlStatistics = new SqlStatistics(10, 100, 10);
+        loggingForm = new LoggingForm();
+        connection = (Connection) new ConnectionProxyHandler(
+                rawConnection,
+                loggingForm,
+                sqlStatistics,
+                new NPlusOneDetector(10, false, new SimpleMeterRegistry())
+        ).getProxy();
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.createStatement().execute("DROP TABLE tag");
+        connection.close();
+    }
+
+    @DisplayName("배치로 실행한 쿼리도 한 번의 쿼리로 세고 반영된 행 수를 합산한다.")
+    @Test
+    void executeBatch() throws SQLException {
+        // given
+        final PreparedStatement ps = connection.prepareStatement("INSERT INTO tag (id) VALUES (?)");
+        for (long id = 1; id <= 3; id++) {
+            ps.setLong(1, id);
+            ps.addBatch();
+        }
+
+        // when
+        ps.executeBatch();
+
+        // then
+        final List<SqlFingerprintStats.Snapshot> top = sqlStatistics.getTopByTotalTime(10);
+        assertSoftly(softly -> {
+            softly.assertThat(loggingForm.getQueryCounts()).isEqualTo(1L);
+            softly.assertThat(top).hasSize(1);
+            softly.assertThat(top.get(0).rows()).isEqualTo(3);
+        });
+    }
+
+    @DisplayName("조회 결과는 next()로 읽은 행만큼 행 수를 더한다.")
+    @Test
+    void executeQuery() throws SQLException {
+        // given
+        connection.createStatement().execute("INSERT INTO tag (id) VALUES (1), (2)");
+        final PreparedStatement ps = connection.prepareStatement("SELECT id FROM tag");
+
+        // when
+        final ResultSet resultSet = ps.executeQuery();
+        while (resultSet.next()) {
+            resultSet.getLong(1);
+        }
+
+        // then
+        final List<SqlFingerprintStats.Snapshot> top = sqlStatistics.getTopByTotalTime(10);
+        assertSoftly(softly -> {
+            softly.assertThat(top).hasSize(1);
+            softly.assertThat(top.get(0).rows()).isEqualTo(2);
+        });
+    }
+}
@@ -0,0 +1,94 @@
+package hanglog.global.detector;
+
+import static hanglog.global.detector.NPlusOneDetector.N_PLUS_ONE_METRIC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NPlusOneDetectorTest {
+
+    private static final String SELECT_CITY = "select * from city where id = ?";
+    private static final String INSERT_DAY_LOG = "insert into day_log (ordinal, trip_id) values (?...)";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @DisplayName("같은 SELECT 쿼리가 임계값을 넘어 실행되면 예외가 발생한다.")
+    @Test
+    void inspect_FailOnDetection() {
+        // given
+        final NPlusOneDetector detector = new NPlusOneDetector(2, true, meterRegistry);
+        detector.openScope();
+        detector.inspect(SELECT_CITY);
+        detector.inspect(SELECT_CITY);
+
+        // when & then
+        assertThatThrownBy(() -> detector.inspect(SELECT_CITY))
+                .isInstanceOf(NPlusOneDetectedException.class)
+                .hasMessageContaining(SELECT_CITY);
+    }
+
+    @DisplayName("검사하지 않는 범위 안에서는 같은 쿼리가 반복되어도 감지하지 않고 새 범위도 열지 않는다.")
+    @Test
+    void inspect_UncheckedScope() {
+        // given
+        final NPlusOneDetector detector = new NPlusOneDetector(2, true, meterRegistry);
+        detector.openUncheckedScope();
+
+        // when & then
+        assertThat(detector.openScope()).isFalse();
+        assertThatNoException().isThrownBy(() -> {
+            for (int i = 0; i < 5; i++) {
+                detector.inspect(SELECT_CITY);
+            }
+        });
+    }
+
+    @DisplayName("반복되는 쿼리가 SELECT 가 아니면 감지하지 않는다.")
+    @Test
+    void inspect_IgnoreWrite() {
+        // given
+        final NPlusOneDetector detector = new NPlusOneDetector(2, true, meterRegistry);
+        detector.openScope();
+
+        // when & then
+        assertThatNoException().isThrownBy(() -> {
+            for (int i = 0; i < 5; i++) {
+                detector.inspect(INSERT_DAY_LOG);
+            }
+        });
+    }
+
+    @DisplayName("예외 모드가 아니면 임계값을 넘는 순간 한 번만 메트릭을 올린다.")
+    @Test
+    void inspect_RecordMetric() {
+        // given
+        final NPlusOneDetector detector = new NPlusOneDetector(2, false, meterRegistry);
+        detector.openScope();
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            detector.inspect(SELECT_CITY);
+        }
+
+        // then
+        assertThat(meterRegistry.get(N_PLUS_ONE_METRIC).counter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("열린 범위가 없으면 감지하지 않는다.")
+    @Test
+    void inspect_WithoutScope() {
+        // given
+        final NPlusOneDetector detector = new NPlusOneDetector(2, true, meterRegistry);
+
+        // when & then
+        assertThatNoException().isThrownBy(() -> {
+            for (int i = 0; i < 5; i++) {
+                detector.inspect(SELECT_CITY);
+            }
+        });
+    }
+}
@@ -0,0 +1,56 @@
+package hanglog.global.detector;
+
+import static hanglog.global.detector.QueryMetrics.QUERY_COUNT_METRIC;
+import static hanglog.global.detector.QueryMetrics.QUERY_TIME_METRIC;
+import static hanglog.global.detector.QueryMetrics.UNKNOWN_URI;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QueryMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryMetrics queryMetrics = new QueryMetrics(meterRegistry);
+
+    @DisplayName("요청의 쿼리 수와 쿼리 시간을 URI 템플릿과 HTTP 메서드별로 기록한다.")
+    @Test
+    void record() {
+        // when
+        queryMetrics.record("GET", "/trips/{tripId}", 3, 1_500_000);
+        queryMetrics.record("GET", "/trips/{tripId}", 5, 2_500_000);
+        queryMetrics.record("POST", "/trips", 7, 1_000_000);
+
+        // then
+        final DistributionSummary queryCount = meterRegistry.get(QUERY_COUNT_METRIC)
+                .tags("method", "GET", "uri", "/trips/{tripId}")
+                .summary();
+        final Timer queryTime = meterRegistry.get(QUERY_TIME_METRIC)
+                .tags("method", "GET", "uri", "/trips/{tripId}")
+                .timer();
+        assertSoftly(softly -> {
+            softly.assertThat(queryCount.count()).isEqualTo(2);
+            softly.assertThat(queryCount.totalAmount()).isEqualTo(8);
+            softly.assertThat(queryTime.totalTime(TimeUnit.NANOSECONDS)).isEqualTo(4_000_000);
+            softly.assertThat(meterRegistry.get(QUERY_COUNT_METRIC).summaries()).hasSize(2);
+        });
+    }
+
+    @DisplayName("매칭된 URI 템플릿이 없으면 UNKNOWN 태그로 기록한다.")
+    @Test
+    void record_UnknownUri() {
+        // when
+        queryMetrics.record("GET", null, 1, 100);
+
+        // then
+        final DistributionSummary queryCount = meterRegistry.get(QUERY_COUNT_METRIC)
+                .tags("method", "GET", "uri", UNKNOWN_URI)
+                .summary();
+        assertThat(queryCount.count()).isEqualTo(1);
+    }
+}
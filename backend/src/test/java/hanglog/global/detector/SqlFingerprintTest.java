@@ -0,0 +1,44 @@
+package hanglog.global.detector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SqlFingerprintTest {
+
+    @DisplayName("리터럴과 공백 차이만 있는 쿼리는 같은 지문을 가진다.")
+    @Test
+    void of_Literals() {
+        // given
+        final String sql1 = "SELECT * FROM trip WHERE id = 1 AND title = 'a'";
+        final String sql2 = "select *  from trip\n where id = 25 and title = 'it''s'";
+
+        // when & then
+        assertThat(SqlFingerprint.of(sql1))
+                .isEqualTo(SqlFingerprint.of(sql2))
+                .isEqualTo("select * from trip where id = ? and title = ?");
+    }
+
+    @DisplayName("IN 절과 다중 VALUES 는 길이와 관계없이 하나로 접힌다.")
+    @Test
+    void of_Lists() {
+        // given
+        final String in = "select * from trip_city where trip_id in (?, ?, ?)";
+        final String values = "insert into likes (trip_id, member_id) values (?, ?), (?, ?), (?, ?)";
+
+        // when & then
+        assertThat(SqlFingerprint.of(in)).isEqualTo("select * from trip_city where trip_id in (?...)");
+        assertThat(SqlFingerprint.of(values)).isEqualTo("insert into likes (trip_id, member_id) values (?...)");
+    }
+
+    @DisplayName("식별자에 포함된 숫자는 바꾸지 않는다.")
+    @Test
+    void of_Identifiers() {
+        // given
+        final String sql = "select t1_0.id from trip t1_0 where t1_0.id=?";
+
+        // when & then
+        assertThat(SqlFingerprint.of(sql)).isEqualTo(sql);
+    }
+}
@@ -0,0 +1,22 @@
+package hanglog.global.detector;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+class SqlStatisticsEndpointTest {
+
+    private final SqlStatisticsEndpoint sqlStatisticsEndpoint = new SqlStatisticsEndpoint(
+            new SqlStatistics(10, 100, 10)
+    );
+
+    @DisplayName("조회 개수가 1보다 작으면 잘못된 요청으로 응답한다.")
+    @Test
+    void sqlStatistics_InvalidLimit() {
+        // when & then
+        assertThatThrownBy(() -> sqlStatisticsEndpoint.sqlStatistics(-1))
+                .isInstanceOf(InvalidEndpointRequestException.class);
+    }
+}
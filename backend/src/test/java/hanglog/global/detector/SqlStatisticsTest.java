@@ -0,0 +1,73 @@
+package hanglog.global.detector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import hanglog.global.detector.SlowQueryLog.SlowQuery;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SqlStatisticsTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @DisplayName("같은 지문의 쿼리 실행 횟수, 총 시간, 최대 시간, 행 수를 합산한다.")
+    @Test
+    void record() {
+        // given
+        final SqlStatistics sqlStatistics = new SqlStatistics(10, 100, 10);
+
+        // when
+        sqlStatistics.record("select * from trip where id = 1", 2 * MILLIS).addRows(1);
+        sqlStatistics.record("select * from trip where id = 2", 6 * MILLIS).addRows(1);
+        sqlStatistics.record("select * from city", MILLIS);
+
+        // then
+        final List<SqlFingerprintStats.Snapshot> top = sqlStatistics.getTopByTotalTime(10);
+        assertSoftly(softly -> {
+            softly.assertThat(top).hasSize(2);
+            softly.assertThat(top.get(0).fingerprint()).isEqualTo("select * from trip where id = ?");
+            softly.assertThat(top.get(0).count()).isEqualTo(2);
+            softly.assertThat(top.get(0).totalMillis()).isEqualTo(8.0);
+            softly.assertThat(top.get(0).maxMillis()).isEqualTo(6.0);
+            softly.assertThat(top.get(0).rows()).isEqualTo(2);
+        });
+    }
+
+    @DisplayName("지문 수가 최대치를 넘으면 나머지 쿼리는 기타 항목에 합산한다.")
+    @Test
+    void record_Overflow() {
+        // given
+        final SqlStatistics sqlStatistics = new SqlStatistics(1, 100, 10);
+
+        // when
+        sqlStatistics.record("select * from trip", MILLIS);
+        sqlStatistics.record("select * from city", MILLIS);
+        sqlStatistics.record("select * from member", MILLIS);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(sqlStatistics.getTopByTotalTime(10)).hasSize(1);
+            softly.assertThat(sqlStatistics.getOverflow().count()).isEqualTo(2);
+        });
+    }
+
+    @DisplayName("임계값 이상 걸린 쿼리만 최근 용량만큼 느린 순서로 보관한다.")
+    @Test
+    void getSlowQueries() {
+        // given
+        final SqlStatistics sqlStatistics = new SqlStatistics(10, 100, 2);
+
+        // when
+        sqlStatistics.record("select * from trip", 50 * MILLIS);
+        sqlStatistics.record("select * from city", 300 * MILLIS);
+        sqlStatistics.record("select * from member", 200 * MILLIS);
+        sqlStatistics.record("select * from likes", 150 * MILLIS);
+
+        // then
+        assertThat(sqlStatistics.getSlowQueries())
+                .extracting(SlowQuery::fingerprint)
+                .containsExactly("select * from member", "select * from likes");
+    }
+}
@@ -0,0 +1,72 @@
+package hanglog.integration.controller;
+
+import static hanglog.integration.IntegrationFixture.END_DATE;
+import static hanglog.integration.IntegrationFixture.START_DATE;
+import static io.restassured.http.ContentType.JSON;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+
+import hanglog.community.service.RecommendSnapshotService;
+import hanglog.trip.dto.request.PublishedStatusRequest;
+import hanglog.trip.dto.request.TripCreateRequest;
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class CommunityIntegrationTest extends IntegrationTest {
+
+    @Autowired
+    private RecommendSnapshotService recommendSnapshotService;
+
+    private Long tripId;
+
+    @BeforeEach
+    void setTrip() {
+        final TripCreateRequest tripCreateRequest = new TripCreateRequest(START_DATE, END_DATE, List.of(1L));
+        tripId = Long.parseLong(TripIntegrationTest.requestCreateTrip(memberTokens, tripCreateRequest)
+                .header("location").replace("/trips/", ""));
+        requestUpdatePublishedStatus(true);
+    }
+
+    @DisplayName("추천 스냅샷에 있던 여행을 비공개하면 게스트의 추천 목록에서 빠진다")
+    @Test
+    void getRecommendTrips_UnpublishedTrip() {
+        // given
+        recommendSnapshotService.rebuild();
+        final List<Long> publishedTripIds = requestGetRecommendTripIds();
+
+        // when
+        requestUpdatePublishedStatus(false);
+
+        // then
+        final List<Long> unpublishedTripIds = requestGetRecommendTripIds();
+        assertSoftly(softly -> {
+            softly.assertThat(publishedTripIds).contains(tripId);
+            softly.assertThat(unpublishedTripIds).doesNotContain(tripId);
+        });
+    }
+
+    private void requestUpdatePublishedStatus(final boolean publishedStatus) {
+        RestAssured.given().log().all()
+                .header(AUTHORIZATION, "Bearer " + memberTokens.getAccessToken())
+                .cookies("refresh-token", memberTokens.getRefreshToken())
+                .body(new PublishedStatusRequest(publishedStatus))
+                .contentType(JSON)
+                .when().patch("/trips/{tripId}/publish", tripId)
+                .then().log().all()
+                .extract();
+    }
+
+    private List<Long> requestGetRecommendTripIds() {
+        final ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .when().get("/community/recommends")
+                .then().log().all()
+                .extract();
+        return response.body().jsonPath().getList("trips.id", Long.class);
+    }
+}
@@ -8,6 +8,7 @@ import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 
 import hanglog.trip.dto.request.DayLogUpdateTitleRequest;
+import hanglog.trip.dto.request.ItemMoveRequest;
 import hanglog.trip.dto.request.ItemRequest;
 import hanglog.trip.dto.request.ItemsOrdinalUpdateRequest;
 import hanglog.trip.dto.response.DayLogResponse;
@@ -142,6 +143,45 @@ public class DayLogIntegrationTest extends IntegrationTest {
     }
 
 
+    @DisplayName("데이로그의 아이템 하나를 다른 아이템 뒤나 맨 앞으로 옮긴다.")
+    @Test
+    void moveItem() {
+        // given
+        final Long itemId1 = createMockItem(tripId, dayLogId);
+        final Long itemId2 = createMockItem(tripId, dayLogId);
+        final Long itemId3 = createMockItem(tripId, dayLogId);
+
+        // when
+        final ExtractableResponse<Response> moveToFirstResponse = requestMoveItem(
+                tripId,
+                dayLogId,
+                itemId3,
+                new ItemMoveRequest(null)
+        );
+        final ExtractableResponse<Response> moveAfterResponse = requestMoveItem(
+                tripId,
+                dayLogId,
+                itemId1,
+                new ItemMoveRequest(itemId3)
+        );
+        final List<ItemResponse> itemResponses = requestGetDayLog(tripId, dayLogId)
+                .as(DayLogResponse.class)
+                .getItems();
+
+        // then
+        assertSoftly(
+                softly -> {
+                    softly.assertThat(moveToFirstResponse.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value());
+                    softly.assertThat(moveAfterResponse.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value());
+                    softly.assertThat(itemResponses).extracting("id")
+                            .containsExactly(itemId3, itemId1, itemId2);
+                    softly.assertThat(itemResponses).extracting("ordinal")
+                            .containsExactly(1, 2, 3);
+                }
+        );
+    }
+
+
     private ExtractableResponse<Response> requestGetDayLog(final Long tripId, final Long dayLogId) {
         return RestAssured
                 .given().log().all()
@@ -186,4 +226,22 @@ public class DayLogIntegrationTest extends IntegrationTest {
                 .then().log().all()
                 .extract();
     }
+
+    private ExtractableResponse<Response> requestMoveItem(
+            final Long tripId,
+            final Long dayLogId,
+            final Long itemId,
+            final ItemMoveRequest request
+    ) {
+        return RestAssured
+                .given().log().all()
+                .header(AUTHORIZATION,
+                        "Bearer " + memberTokens.getAccessToken())
+                .cookies("refresh-token", memberTokens.getRefreshToken())
+                .contentType(JSON)
+                .body(request)
+                .when().patch("/trips/{tripId}/daylogs/{dayLogId}/items/{itemId}/order", tripId, dayLogId, itemId)
+                .then().log().all()
+                .extract();
+    }
 }
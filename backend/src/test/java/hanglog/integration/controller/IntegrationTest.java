@@ -1,5 +1,7 @@
 package hanglog.integration.controller;
 
+import static hanglog.global.config.QueryDetectorTestConfig.FAIL_ON_N_PLUS_ONE;
+
 import hanglog.login.domain.MemberTokens;
 import hanglog.login.domain.RefreshToken;
 import hanglog.login.domain.repository.RefreshTokenRepository;
@@ -14,7 +16,7 @@ import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.test.context.jdbc.Sql;
 
-@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = FAIL_ON_N_PLUS_ONE)
 @Sql(value = {
         "classpath:data/truncate.sql",
         "classpath:data/currency.sql",
@@ -48,7 +50,11 @@ public abstract class IntegrationTest {
         memberRepository.save(member);
         final Long memberId = member.getId();
         memberTokens = jwtProvider.generateLoginToken(memberId.toString());
-        final RefreshToken refreshToken = new RefreshToken(memberTokens.getRefreshToken(), memberId);
+        final RefreshToken refreshToken = new RefreshToken(
+                memberTokens.getRefreshToken(),
+                memberId,
+                jwtProvider.getExpiredAt(memberTokens.getRefreshToken())
+        );
         refreshTokenRepository.save(refreshToken);
     }
 
@@ -1,23 +1,40 @@
 package hanglog.integration.service;
 
+import static hanglog.community.domain.recommendstrategy.RecommendType.LIKE;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.springframework.data.domain.Sort.Direction.DESC;
 
 import hanglog.auth.domain.Accessor;
+import hanglog.community.domain.PublishedTrip;
+import hanglog.community.domain.recommendstrategy.LikesRecommendStrategy;
+import hanglog.community.domain.recommendstrategy.RecommendSnapshot;
 import hanglog.community.domain.recommendstrategy.RecommendStrategies;
+import hanglog.community.domain.repository.PublishedTripRepository;
+import hanglog.community.dto.response.CommunityTripCursorResponse;
 import hanglog.community.dto.response.CommunityTripListResponse;
 import hanglog.community.dto.response.CommunityTripResponse;
+import hanglog.community.dto.response.RecommendTripListResponse;
+import hanglog.community.infrastructure.PublishedTripCounter;
 import hanglog.community.service.CommunityService;
+import hanglog.currency.infrastructure.CurrencyRateStore;
 import hanglog.global.config.EventListenerTestConfig;
+import hanglog.global.exception.BadRequestException;
+import hanglog.like.infrastructure.LikeBuffer;
 import hanglog.trip.dto.request.PublishedStatusRequest;
 import hanglog.trip.dto.request.TripCreateRequest;
 import hanglog.trip.dto.response.TripDetailResponse;
 import hanglog.trip.infrastructure.CustomDayLogRepositoryImpl;
 import hanglog.trip.infrastructure.CustomTripCityRepositoryImpl;
+import hanglog.trip.infrastructure.TripGraphRepositoryImpl;
+import hanglog.trip.infrastructure.TripOwnerCache;
 import hanglog.trip.service.LedgerService;
 import hanglog.trip.service.TripService;
+import jakarta.persistence.EntityManager;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,10 +45,16 @@ import org.springframework.data.domain.Pageable;
 
 @Import({
         TripService.class,
+        TripOwnerCache.class,
         CommunityService.class,
+        LikeBuffer.class,
+        PublishedTripCounter.class,
         LedgerService.class,
+        CurrencyRateStore.class,
         RecommendStrategies.class,
+        LikesRecommendStrategy.class,
         CustomDayLogRepositoryImpl.class,
+        TripGraphRepositoryImpl.class,
         CustomTripCityRepositoryImpl.class,
         EventListenerTestConfig.class
 })
@@ -43,6 +66,15 @@ class CommunityServiceIntegrationTest extends ServiceIntegrationTest {
     @Autowired
     private CommunityService communityService;
 
+    @Autowired
+    private RecommendStrategies recommendStrategies;
+
+    @Autowired
+    private PublishedTripRepository publishedTripRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @BeforeEach
     void setTrips() {
         for (long i = 1; i < 21; i++) {
@@ -53,6 +85,11 @@ class CommunityServiceIntegrationTest extends ServiceIntegrationTest {
         }
     }
 
+    @AfterEach
+    void clearRecommendSnapshots() {
+        recommendStrategies.replaceSnapshots(Map.of());
+    }
+
     @DisplayName("페이지 수 만큼 여행과 마지막 페이지 index를 가져온다")
     @Test
     void getTripsByPage() {
@@ -74,6 +111,102 @@ class CommunityServiceIntegrationTest extends ServiceIntegrationTest {
         );
     }
 
+    @DisplayName("커서 이후의 공개된 여행을 최신순으로 가져온다")
+    @Test
+    void getTripsByCursor() {
+        // when
+        final CommunityTripCursorResponse firstResponse = communityService.getCommunityTripsByCursor(
+                Accessor.member(1L),
+                "",
+                10
+        );
+        final CommunityTripCursorResponse lastResponse = communityService.getCommunityTripsByCursor(
+                Accessor.member(1L),
+                firstResponse.getNextCursor(),
+                10
+        );
+
+        // then
+        assertSoftly(
+                softly -> {
+                    softly.assertThat(firstResponse.getTrips()).hasSize(10);
+                    softly.assertThat(firstResponse.getTrips().get(0).getId()).isEqualTo(20L);
+                    softly.assertThat(firstResponse.getNextCursor()).isNotNull();
+                    softly.assertThat(lastResponse.getTrips()).hasSize(10);
+                    softly.assertThat(lastResponse.getTrips().get(9).getId()).isEqualTo(1L);
+                    softly.assertThat(lastResponse.getNextCursor()).isNull();
+                }
+        );
+    }
+
+    @DisplayName("올바르지 않은 커서로 조회하면 예외가 발생한다")
+    @Test
+    void getTripsByCursor_InvalidCursor() {
+        // when & then
+        assertThatThrownBy(() -> communityService.getCommunityTripsByCursor(Accessor.member(1L), "invalid", 10))
+                .isInstanceOf(BadRequestException.class)
+                .extracting("code")
+                .isEqualTo(1016);
+    }
+
+    @DisplayName("비공개한 여행을 다시 공개하면 처음 공개된 정보가 유지된다")
+    @Test
+    void republish_KeepFirstPublishedTrip() {
+        // given
+        final PublishedTrip publishedTrip = publishedTripRepository.findByTripId(1L).orElseThrow();
+        tripService.updatePublishedStatus(1L, new PublishedStatusRequest(false));
+
+        // when
+        tripService.updatePublishedStatus(1L, new PublishedStatusRequest(true));
+        entityManager.clear();
+
+        // then
+        final PublishedTrip republishedTrip = publishedTripRepository.findByTripId(1L).orElseThrow();
+        assertSoftly(softly -> {
+            softly.assertThat(republishedTrip.getId()).isEqualTo(publishedTrip.getId());
+            softly.assertThat(publishedTripRepository.count()).isEqualTo(20L);
+        });
+    }
+
+    @DisplayName("커서 페이지 크기가 최대 크기를 넘으면 예외가 발생한다")
+    @Test
+    void getTripsByCursor_ExceedMaxSize() {
+        // when & then
+        assertThatThrownBy(() -> communityService.getCommunityTripsByCursor(
+                Accessor.member(1L),
+                null,
+                Integer.MAX_VALUE
+        ))
+                .isInstanceOf(BadRequestException.class)
+                .extracting("code")
+                .isEqualTo(1017);
+    }
+
+    @DisplayName("추천 스냅샷이 있으면 다시 계산하지 않고 스냅샷의 여행을 반환한다")
+    @Test
+    void getRecommendTrips_Snapshot() {
+        // given
+        final RecommendSnapshot recommendSnapshot = communityService.createRecommendSnapshot(LIKE);
+        recommendStrategies.replaceSnapshots(Map.of(LIKE, recommendSnapshot));
+        tripService.updatePublishedStatus(recommendSnapshot.getTripIds().get(0), new PublishedStatusRequest(false));
+
+        // when
+        final RecommendTripListResponse response = communityService.getRecommendTrips(Accessor.member(1L), LIKE);
+
+        // then
+        assertSoftly(
+                softly -> {
+                    softly.assertThat(response.getTitle()).isEqualTo(recommendSnapshot.getTitle());
+                    softly.assertThat(response.getTrips())
+                            .extracting(CommunityTripResponse::getId)
+                            .containsExactlyElementsOf(recommendSnapshot.getTripIds());
+                    softly.assertThat(response.getTrips())
+                            .extracting(CommunityTripResponse::getIsLike)
+                            .containsOnly(false);
+                }
+        );
+    }
+
     @DisplayName("게스트가 여행을 방문한다.")
     @Test
     void getTripDetail_Guest() {
@@ -0,0 +1,80 @@
+package hanglog.integration.service;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import hanglog.global.dataset.DatasetGenerator;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+class DatasetGeneratorIntegrationTest extends ServiceIntegrationTest {
+
+    private static final int MEMBER_COUNT = 30;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @DisplayName("같은 seed로 생성하면 같은 양의 데이터가 생성되고 집계 테이블이 원본과 일치한다.")
+    @Test
+    void generate() {
+        // given
+        final DatasetGenerator generator = createGenerator();
+        final DatasetGenerator sameSeedGenerator = createGenerator();
+
+        // when
+        generator.generate();
+        sameSeedGenerator.generate();
+
+        // then
+        final Map<String, Long> insertedCounts = generator.getInsertedCounts();
+        assertSoftly(softly -> {
+            softly.assertThat(sameSeedGenerator.getInsertedCounts()).isEqualTo(insertedCounts);
+            softly.assertThat(insertedCounts.get("member")).isEqualTo(MEMBER_COUNT);
+            softly.assertThat(insertedCounts.get("trip")).isPositive();
+            softly.assertThat(insertedCounts.get("likes")).isPositive();
+            softly.assertThat(count("SELECT COUNT(*) FROM member")).isEqualTo(MEMBER_COUNT * 2 + 1);
+            softly.assertThat(sum("SELECT SUM(amount) FROM ledger_summary"))
+                    .isEqualByComparingTo(sum("SELECT SUM(amount) FROM expense"));
+            softly.assertThat(count("SELECT SUM(like_count) FROM trip_like_count"))
+                    .isEqualTo(count("SELECT COUNT(*) FROM likes"));
+        });
+    }
+
+    private DatasetGenerator createGenerator() {
+        return new DatasetGenerator(
+                namedParameterJdbcTemplate,
+                context,
+                1L,
+                MEMBER_COUNT,
+                3,
+                5,
+                0.5,
+                0.1,
+                3,
+                10,
+                100,
+                LocalDate.of(2023, 8, 1),
+                false
+        );
+    }
+
+    private Long count(final String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    private BigDecimal sum(final String sql) {
+        return jdbcTemplate.queryForObject(sql, BigDecimal.class);
+    }
+}
@@ -0,0 +1,245 @@
+package hanglog.integration.service;
+
+import static hanglog.integration.IntegrationFixture.START_DATE;
+import static hanglog.integration.IntegrationFixture.TRIP_CREATE_REQUEST;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED;
+
+import hanglog.currency.infrastructure.CurrencyRateStore;
+import hanglog.expense.domain.Amount;
+import hanglog.trip.domain.LedgerSummary;
+import hanglog.trip.domain.repository.CustomDayLogRepository;
+import hanglog.trip.domain.repository.CustomLedgerSummaryRepository;
+import hanglog.trip.domain.repository.LedgerSummaryRepository;
+import hanglog.trip.dto.request.ExpenseRequest;
+import hanglog.trip.dto.request.ItemRequest;
+import hanglog.trip.dto.request.TripUpdateRequest;
+import hanglog.trip.dto.response.LedgerResponse;
+import hanglog.trip.infrastructure.CustomDayLogRepositoryImpl;
+import hanglog.trip.infrastructure.CustomImageRepositoryImpl;
+import hanglog.trip.infrastructure.CustomLedgerSummaryRepositoryImpl;
+import hanglog.trip.infrastructure.CustomTripCityRepositoryImpl;
+import hanglog.trip.infrastructure.TripGraphRepositoryImpl;
+import hanglog.trip.infrastructure.TripOwnerCache;
+import hanglog.trip.service.ItemService;
+import hanglog.trip.service.LedgerService;
+import hanglog.trip.service.LedgerSummaryService;
+import hanglog.trip.service.TripService;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+@Import({
+        TripService.class,
+        TripOwnerCache.class,
+        ItemService.class,
+        LedgerService.class,
+        CurrencyRateStore.class,
+        LedgerSummaryService.class,
+        CustomTripCityRepositoryImpl.class,
+        CustomDayLogRepositoryImpl.class,
+        TripGraphRepositoryImpl.class,
+        CustomImageRepositoryImpl.class,
+        CustomLedgerSummaryRepositoryImpl.class
+})
+class LedgerServiceIntegrationTest extends ServiceIntegrationTest {
+
+    private static final long FOOD_CATEGORY_ID = 100L;
+
+    @Autowired
+    private TripService tripService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private LedgerSummaryService ledgerSummaryService;
+
+    @Autowired
+    private CustomDayLogRepository customDayLogRepository;
+
+    @Autowired
+    private LedgerSummaryRepository ledgerSummaryRepository;
+
+    @Autowired
+    private CustomLedgerSummaryRepository customLedgerSummaryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long tripId;
+    private Long dayLogId;
+
+    @BeforeEach
+    void setUp() {
+        tripId = tripService.save(member.getId(), TRIP_CREATE_REQUEST);
+        dayLogId = customDayLogRepository.findDayLogIdsByTripId(tripId).get(0);
+    }
+
+    @DisplayName("경비가 있는 아이템을 저장하면 가계부 요약에 금액이 반영된다.")
+    @Test
+    void save() {
+        // given
+        itemService.save(tripId, createItemRequest(10000));
+        itemService.save(tripId, createItemRequest(5000));
+        flushAndClear();
+
+        // when
+        final LedgerResponse ledgerResponse = ledgerService.getAllExpenses(tripId);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(ledgerResponse.getTotalAmount()).isEqualByComparingTo(new BigDecimal(15000));
+            softly.assertThat(ledgerResponse.getDayLogs().get(0).getTotalAmount())
+                    .isEqualByComparingTo(new BigDecimal(15000));
+            softly.assertThat(ledgerResponse.getDayLogs().get(0).getItems()).hasSize(2);
+        });
+    }
+
+    @DisplayName("경비가 있는 아이템을 삭제하면 가계부 요약에서 금액이 빠진다.")
+    @Test
+    void delete() {
+        // given
+        final Long itemId = itemService.save(tripId, createItemRequest(10000));
+        itemService.save(tripId, createItemRequest(5000));
+
+        // when
+        itemService.delete(itemId);
+        flushAndClear();
+
+        // then
+        final LedgerResponse ledgerResponse = ledgerService.getAllExpenses(tripId);
+        assertSoftly(softly -> {
+            softly.assertThat(ledgerResponse.getTotalAmount()).isEqualByComparingTo(new BigDecimal(5000));
+            softly.assertThat(ledgerResponse.getDayLogs().get(0).getItems()).hasSize(1);
+        });
+    }
+
+    @DisplayName("가계부 요약을 재구성하면 아이템의 경비로부터 다시 계산된다.")
+    @Test
+    void rebuild() {
+        // given
+        final Long itemId = itemService.save(tripId, createItemRequest(10000));
+        itemService.save(tripId, createItemRequest(5000));
+        itemService.delete(itemId);
+        flushAndClear();
+        ledgerSummaryRepository.deleteByTripIds(List.of(tripId));
+
+        // when
+        final Long lastTripId = ledgerSummaryService.rebuild(0L);
+        flushAndClear();
+
+        // then
+        final LedgerResponse ledgerResponse = ledgerService.getAllExpenses(tripId);
+        assertSoftly(softly -> {
+            softly.assertThat(lastTripId).isNull();
+            softly.assertThat(ledgerResponse.getTotalAmount()).isEqualByComparingTo(new BigDecimal(5000));
+        });
+    }
+
+    @DisplayName("여행 기간이 줄어들면 삭제된 날짜의 가계부 요약도 삭제된다.")
+    @Test
+    void update_DecreasePeriod() {
+        // given
+        final Long lastDayLogId = customDayLogRepository.findDayLogIdsByTripId(tripId).get(2);
+        itemService.save(tripId, createItemRequest(10000));
+        itemService.save(tripId, createItemRequest(lastDayLogId, 5000));
+        flushAndClear();
+        final TripUpdateRequest tripUpdateRequest = new TripUpdateRequest(
+                "여행 제목",
+                null,
+                START_DATE,
+                START_DATE.plusDays(1),
+                "",
+                TRIP_CREATE_REQUEST.getCityIds()
+        );
+
+        // when
+        tripService.update(tripId, tripUpdateRequest);
+        flushAndClear();
+
+        // then
+        final List<LedgerSummary> ledgerSummaries = ledgerSummaryRepository.findByTripId(tripId);
+        assertSoftly(softly -> {
+            softly.assertThat(ledgerSummaries).extracting(LedgerSummary::getDayLogId).containsExactly(dayLogId);
+            softly.assertThat(ledgerService.getAllExpenses(tripId).getTotalAmount())
+                    .isEqualByComparingTo(new BigDecimal(10000));
+        });
+    }
+
+    @DisplayName("같은 날짜, 카테고리, 통화의 경비가 동시에 처음 저장되어도 모두 가계부 요약에 반영된다.")
+    @Test
+    @Transactional(propagation = NOT_SUPPORTED)
+    void addAmount_Concurrently() throws InterruptedException {
+        // given
+        final int threadCount = 8;
+        final ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        final CountDownLatch latch = new CountDownLatch(threadCount);
+        final List<Throwable> failures = new CopyOnWriteArrayList<>();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                try {
+                    customLedgerSummaryRepository.addAmount(
+                            tripId,
+                            dayLogId,
+                            FOOD_CATEGORY_ID,
+                            "KRW",
+                            new Amount(1000)
+                    );
+                } catch (final Throwable e) {
+                    failures.add(e);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        final List<LedgerSummary> ledgerSummaries = ledgerSummaryRepository.findByTripId(tripId);
+        assertSoftly(softly -> {
+            softly.assertThat(failures).isEmpty();
+            softly.assertThat(ledgerSummaries).hasSize(1);
+            softly.assertThat(ledgerSummaries.get(0).getAmount().getValue())
+                    .isEqualByComparingTo(new BigDecimal(threadCount * 1000));
+        });
+    }
+
+    private ItemRequest createItemRequest(final int amount) {
+        return createItemRequest(dayLogId, amount);
+    }
+
+    private ItemRequest createItemRequest(final Long dayLogId, final int amount) {
+        return new ItemRequest(
+                false,
+                "택시",
+                null,
+                "",
+                dayLogId,
+                List.of(),
+                null,
+                new ExpenseRequest("KRW", new BigDecimal(amount), FOOD_CATEGORY_ID)
+        );
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -1,23 +1,56 @@
 package hanglog.integration.service;
 
 import static hanglog.integration.IntegrationFixture.TRIP_CREATE_REQUEST;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
+import hanglog.community.domain.recommendstrategy.TrendingRecommendStrategy;
+import hanglog.community.infrastructure.TrendingScoreIndex;
+import hanglog.community.service.TrendingScoreService;
+import hanglog.like.domain.CanceledLike;
+import hanglog.like.domain.LikeChanges;
+import hanglog.like.domain.LikeIntent;
+import hanglog.like.domain.TripLikeCount;
+import hanglog.like.dto.LikeElement;
 import hanglog.like.dto.request.LikeRequest;
+import hanglog.like.infrastructure.CustomLikeRepositoryImpl;
+import hanglog.like.infrastructure.LikeBuffer;
+import hanglog.like.repository.CustomLikeRepository;
 import hanglog.like.repository.LikeRepository;
+import hanglog.like.repository.TripLikeCountRepository;
+import hanglog.like.service.LikeFlushService;
 import hanglog.like.service.LikeService;
+import hanglog.like.service.TripLikeCountService;
+import hanglog.trip.domain.Trip;
+import hanglog.trip.dto.request.PublishedStatusRequest;
 import hanglog.trip.infrastructure.CustomDayLogRepositoryImpl;
 import hanglog.trip.infrastructure.CustomTripCityRepositoryImpl;
+import hanglog.trip.infrastructure.TripGraphRepositoryImpl;
+import hanglog.trip.infrastructure.TripOwnerCache;
 import hanglog.trip.service.TripService;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
 
 @Import({
         TripService.class,
+        TripOwnerCache.class,
         LikeService.class,
+        LikeFlushService.class,
+        LikeBuffer.class,
+        CustomLikeRepositoryImpl.class,
+        TripLikeCountService.class,
+        TrendingScoreService.class,
+        TrendingScoreIndex.class,
+        TrendingRecommendStrategy.class,
         CustomDayLogRepositoryImpl.class,
+        TripGraphRepositoryImpl.class,
         CustomTripCityRepositoryImpl.class
 })
 class LikeServiceIntegrationTest extends ServiceIntegrationTest {
@@ -28,9 +61,30 @@ class LikeServiceIntegrationTest extends ServiceIntegrationTest {
     @Autowired
     private LikeService likeService;
 
+    @Autowired
+    private LikeFlushService likeFlushService;
+
     @Autowired
     private LikeRepository likeRepository;
 
+    @Autowired
+    private CustomLikeRepository customLikeRepository;
+
+    @Autowired
+    private TripLikeCountRepository tripLikeCountRepository;
+
+    @Autowired
+    private TripLikeCountService tripLikeCountService;
+
+    @Autowired
+    private TrendingScoreService trendingScoreService;
+
+    @Autowired
+    private TrendingRecommendStrategy trendingRecommendStrategy;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @DisplayName("해당 게시물의 좋아요 여부를 변경할 수 있다.")
     @Test
     void update() {
@@ -44,9 +98,144 @@ class LikeServiceIntegrationTest extends ServiceIntegrationTest {
         assertSoftly(softly -> {
             softly.assertThat(likeRepository.existsByMemberIdAndTripId(member.getId(), tripId)).isFalse();
             likeService.update(member.getId(), tripId, likeTrueRequest);
+            likeFlushService.flush();
             softly.assertThat(likeRepository.existsByMemberIdAndTripId(member.getId(), tripId)).isTrue();
             likeService.update(member.getId(), tripId, likeFalseRequest);
+            likeFlushService.flush();
             softly.assertThat(likeRepository.existsByMemberIdAndTripId(member.getId(), tripId)).isFalse();
         });
     }
+
+    @DisplayName("좋아요 여부를 변경하면 좋아요 수가 함께 변경된다.")
+    @Test
+    void update_LikeCount() {
+        // given
+        final Long tripId = tripService.save(member.getId(), TRIP_CREATE_REQUEST);
+
+        // when & then
+        assertSoftly(softly -> {
+            likeService.update(member.getId(), tripId, new LikeRequest(true));
+            likeFlushService.flush();
+            likeService.update(member.getId(), tripId, new LikeRequest(true));
+            likeFlushService.flush();
+            softly.assertThat(getLikeCount(tripId)).isEqualTo(1L);
+            likeService.update(member.getId(), tripId, new LikeRequest(false));
+            likeFlushService.flush();
+            likeService.update(member.getId(), tripId, new LikeRequest(false));
+            likeFlushService.flush();
+            softly.assertThat(getLikeCount(tripId)).isEqualTo(0L);
+        });
+    }
+
+    @DisplayName("이미 반영된 좋아요나 없는 좋아요의 취소가 다시 반영되어도 좋아요 수는 실제 좋아요 수와 같다.")
+    @Test
+    void saveIntents_AlreadyApplied() {
+        // given
+        final Long tripId = tripService.save(member.getId(), TRIP_CREATE_REQUEST);
+        final Long otherTripId = tripService.save(member.getId(), TRIP_CREATE_REQUEST);
+        final LikeIntent likeIntent = new LikeIntent(member.getId(), tripId, false, true);
+        customLikeRepository.saveIntents(List.of(likeIntent), LocalDateTime.now());
+
+        // when
+        customLikeRepository.saveIntents(
+                List.of(likeIntent, new LikeIntent(member.getId(), otherTripId, true, false)),
+                LocalDateTime.now()
+        );
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(getLikeCount(tripId)).isEqualTo(1L);
+            softly.assertThat(getLikeCount(otherTripId)).isEqualTo(0L);
+        });
+    }
+
+    @DisplayName("실제로 추가되거나 삭제된 좋아요만 변경 내역으로 돌려준다.")
+    @Test
+    void saveIntents_LikeChanges() {
+        // given
+        final Long tripId = tripService.save(member.getId(), TRIP_CREATE_REQUEST);
+        final LocalDateTime likedAt = LocalDateTime.of(2023, 8, 1, 0, 0);
+        final LikeIntent likeIntent = new LikeIntent(member.getId(), tripId, false, true);
+        final LikeIntent unlikeIntent = new LikeIntent(member.getId(), tripId, true, false);
+        final LikeChanges liked = customLikeRepository.saveIntents(List.of(likeIntent), likedAt);
+
+        // when
+        final LikeChanges likedAgain = customLikeRepository.saveIntents(List.of(likeIntent), likedAt.plusDays(1));
+        final LikeChanges unliked = customLikeRepository.saveIntents(List.of(unlikeIntent), likedAt.plusDays(2));
+        final LikeChanges unlikedAgain = customLikeRepository.saveIntents(List.of(unlikeIntent), likedAt.plusDays(3));
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(liked.getLikedTripIds()).containsExactly(tripId);
+            softly.assertThat(likedAgain.getLikedTripIds()).isEmpty();
+            softly.assertThat(unliked.getCanceledLikes())
+                    .extracting(CanceledLike::getTripId, CanceledLike::getLikedAt)
+                    .containsExactly(tuple(tripId, likedAt));
+            softly.assertThat(unlikedAgain.getCanceledLikes()).isEmpty();
+        });
+    }
+
+    @DisplayName("좋아요 수가 실제 좋아요와 다르면 보정한다.")
+    @Test
+    void reconcile() {
+        // given
+        final Long tripId = tripService.save(member.getId(), TRIP_CREATE_REQUEST);
+        likeService.update(member.getId(), tripId, new LikeRequest(true));
+        likeFlushService.flush();
+        tripLikeCountRepository.save(new TripLikeCount(tripId, 6));
+
+        // when
+        tripLikeCountService.reconcile();
+
+        // then
+        assertThat(getLikeCount(tripId)).isEqualTo(1L);
+    }
+
+    private long getLikeCount(final Long tripId) {
+        final List<LikeElement> likeElements = likeRepository.findLikeCountAndIsLikeByTripIds(
+                member.getId(),
+                List.of(tripId)
+        );
+        return likeElements.get(0).getLikeCount();
+    }
+
+    @DisplayName("반영 전의 좋아요 요청을 연달아 보내면 마지막 요청만 저장된다.")
+    @Test
+    void update_Coalesce() {
+        // given
+        final Long tripId = tripService.save(member.getId(), TRIP_CREATE_REQUEST);
+
+        // when
+        likeService.update(member.getId(), tripId, new LikeRequest(true));
+        likeService.update(member.getId(), tripId, new LikeRequest(false));
+        likeService.update(member.getId(), tripId, new LikeRequest(true));
+        likeFlushService.flush();
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(likeRepository.existsByMemberIdAndTripId(member.getId(), tripId)).isTrue();
+            softly.assertThat(getLikeCount(tripId)).isEqualTo(1L);
+        });
+    }
+
+    @DisplayName("저장된 좋아요로 인기 급상승 점수를 다시 계산한다.")
+    @Test
+    void rebuildTrendingScores() {
+        // given
+        final Long tripId = tripService.save(member.getId(), TRIP_CREATE_REQUEST);
+        final Long otherTripId = tripService.save(member.getId(), TRIP_CREATE_REQUEST);
+        tripService.updatePublishedStatus(tripId, new PublishedStatusRequest(true));
+        tripService.updatePublishedStatus(otherTripId, new PublishedStatusRequest(true));
+        entityManager.flush();
+        likeService.update(member.getId(), tripId, new LikeRequest(true));
+        likeFlushService.flush();
+
+        // when
+        trendingScoreService.rebuild();
+
+        // then
+        assertThat(trendingRecommendStrategy.recommend(Pageable.ofSize(5)))
+                .extracting(Trip::getId)
+                .containsExactly(tripId);
+    }
 }
@@ -5,15 +5,19 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
 import hanglog.community.domain.repository.PublishedTripRepository;
 import hanglog.login.domain.OauthProviders;
+import hanglog.login.domain.RefreshToken;
 import hanglog.login.domain.repository.RefreshTokenRepository;
 import hanglog.login.infrastructure.BearerAuthorizationExtractor;
 import hanglog.login.infrastructure.JwtProvider;
 import hanglog.login.service.LoginService;
+import hanglog.login.service.RefreshTokenSweepService;
 import hanglog.member.domain.repository.MemberRepository;
 import hanglog.trip.domain.repository.SharedTripRepository;
 import hanglog.trip.domain.repository.TripRepository;
 import hanglog.trip.infrastructure.CustomTripRepositoryImpl;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,6 +26,7 @@ import org.springframework.context.annotation.Import;
 
 @Import({
         LoginService.class,
+        RefreshTokenSweepService.class,
         OauthProviders.class,
         JwtProvider.class,
         BearerAuthorizationExtractor.class,
@@ -50,7 +55,11 @@ class LoginServiceIntegrationTest extends ServiceIntegrationTest {
     @Autowired
     private ApplicationEventPublisher publisher;
     @Autowired
+    private RefreshTokenSweepService refreshTokenSweepService;
+    @Autowired
     private EntityManager entityManager;
+    @Autowired
+    private MeterRegistry meterRegistry;
 
     @DisplayName("멤버를 삭제한다.")
     @Test
@@ -63,4 +72,40 @@ class LoginServiceIntegrationTest extends ServiceIntegrationTest {
 
         assertThat(memberRepository.findById(member.getId())).isEmpty();
     }
+
+    @DisplayName("만료된 refreshToken만 삭제한다.")
+    @Test
+    void sweepExpiredRefreshTokens() {
+        // given
+        final LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.save(new RefreshToken("expiredToken1", member.getId(), now.minusDays(1)));
+        refreshTokenRepository.save(new RefreshToken("expiredToken2", member.getId(), now.minusMinutes(1)));
+        refreshTokenRepository.save(new RefreshToken("validToken", member.getId(), now.plusDays(1)));
+        entityManager.flush();
+
+        // when
+        final int sweptCount = refreshTokenSweepService.sweep();
+        entityManager.clear();
+
+        // then
+        assertThat(sweptCount).isEqualTo(2);
+        assertThat(refreshTokenRepository.existsByToken("expiredToken1")).isFalse();
+        assertThat(refreshTokenRepository.existsByToken("validToken")).isTrue();
+    }
+
+    @DisplayName("첫 정리 전에도 refreshToken 개수를 지표로 보여준다.")
+    @Test
+    void countTokens() {
+        // given
+        final LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.save(new RefreshToken("token1", member.getId(), now.plusDays(1)));
+        refreshTokenRepository.save(new RefreshToken("token2", member.getId(), now.plusDays(1)));
+        entityManager.flush();
+
+        // when
+        refreshTokenSweepService.countTokens();
+
+        // then
+        assertThat(meterRegistry.get("refresh_token.size").gauge().value()).isEqualTo(2);
+    }
 }
@@ -1,13 +1,18 @@
 package hanglog.integration.service;
 
+import static hanglog.global.config.QueryDetectorTestConfig.FAIL_ON_N_PLUS_ONE;
+
+import hanglog.global.config.QueryDetectorTestConfig;
 import hanglog.member.domain.Member;
 import hanglog.member.domain.repository.MemberRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.jdbc.Sql;
 
-@DataJpaTest
+@DataJpaTest(properties = FAIL_ON_N_PLUS_ONE)
+@Import(QueryDetectorTestConfig.class)
 @Sql(value = {
         "classpath:data/truncate.sql",
         "classpath:data/currency.sql",
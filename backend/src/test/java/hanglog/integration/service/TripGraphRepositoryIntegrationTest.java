@@ -0,0 +1,173 @@
+package hanglog.integration.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import hanglog.trip.domain.DayLog;
+import hanglog.trip.domain.Trip;
+import hanglog.trip.domain.repository.CustomDayLogRepository;
+import hanglog.trip.domain.repository.TripGraphRepository;
+import hanglog.trip.dto.request.ExpenseRequest;
+import hanglog.trip.dto.request.ItemRequest;
+import hanglog.trip.dto.request.PlaceRequest;
+import hanglog.trip.dto.request.TripCreateRequest;
+import hanglog.trip.dto.response.TripDetailResponse;
+import hanglog.trip.infrastructure.CustomDayLogRepositoryImpl;
+import hanglog.trip.infrastructure.CustomImageRepositoryImpl;
+import hanglog.trip.infrastructure.CustomLedgerSummaryRepositoryImpl;
+import hanglog.trip.infrastructure.CustomTripCityRepositoryImpl;
+import hanglog.trip.infrastructure.TripGraphRepositoryImpl;
+import hanglog.trip.infrastructure.TripOwnerCache;
+import hanglog.trip.service.ItemService;
+import hanglog.trip.service.TripService;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+@Import({
+        TripService.class,
+        TripOwnerCache.class,
+        ItemService.class,
+        CustomTripCityRepositoryImpl.class,
+        CustomDayLogRepositoryImpl.class,
+        CustomImageRepositoryImpl.class,
+        CustomLedgerSummaryRepositoryImpl.class,
+        TripGraphRepositoryImpl.class
+})
+class TripGraphRepositoryIntegrationTest extends ServiceIntegrationTest {
+
+    private static final int DAY_COUNT = 10;
+    private static final int ITEM_COUNT_PER_DAY = 10;
+    private static final int IMAGE_COUNT_PER_ITEM = 5;
+    private static final int LOADER_QUERY_COUNT = 4;
+    private static final int LEDGER_LOADER_QUERY_COUNT = 2;
+    private static final String FETCH_JOIN_QUERY = """
+            SELECT trip
+            FROM Trip trip
+            LEFT JOIN FETCH trip.member member
+            LEFT JOIN FETCH trip.sharedTrip sharedTrip
+            LEFT JOIN FETCH trip.dayLogs dayLogs
+            LEFT JOIN FETCH dayLogs.items items
+            LEFT JOIN FETCH items.images images
+            LEFT JOIN FETCH items.expense expense
+            LEFT JOIN FETCH items.place place
+            LEFT JOIN FETCH expense.category expense_category
+            LEFT JOIN FETCH place.category place_category
+            WHERE trip.id = :tripId
+            """;
+
+    @Autowired
+    private TripService tripService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private TripGraphRepository tripGraphRepository;
+
+    @Autowired
+    private CustomDayLogRepository customDayLogRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long tripId;
+
+    @BeforeEach
+    void setUp() {
+        final LocalDate startDate = LocalDate.of(2023, 8, 1);
+        tripId = tripService.save(member.getId(), new TripCreateRequest(
+                startDate,
+                startDate.plusDays(DAY_COUNT - 1),
+                List.of(1L)
+        ));
+        final List<Long> dayLogIds = customDayLogRepository.findDayLogIdsByTripId(tripId);
+        for (final Long dayLogId : dayLogIds) {
+            IntStream.range(0, ITEM_COUNT_PER_DAY)
+                    .forEach(itemIndex -> itemService.save(tripId, createItemRequest(dayLogId, itemIndex)));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @DisplayName("여러 번의 IN 쿼리로 조회한 여행은 한 번의 fetch join으로 조회한 여행과 같은 상세 정보를 가진다.")
+    @Test
+    void findById() {
+        // given
+        final Trip fetchJoinedTrip = entityManager.createQuery(FETCH_JOIN_QUERY, Trip.class)
+                .setParameter("tripId", tripId)
+                .getSingleResult();
+        final TripDetailResponse expected = TripDetailResponse.personalTrip(fetchJoinedTrip, List.of());
+        entityManager.clear();
+
+        // when
+        final Trip loadedTrip = tripGraphRepository.findById(tripId).get();
+        final TripDetailResponse actual = TripDetailResponse.personalTrip(loadedTrip, List.of());
+
+        // then
+        assertThat(actual).usingRecursiveComparison()
+                .isEqualTo(expected);
+    }
+
+    @DisplayName("여행의 크기와 관계없이 단계별로 고정된 수의 쿼리만 실행한다.")
+    @Test
+    void findById_QueryCount() {
+        // given
+        final Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        final Trip loadedTrip = tripGraphRepository.findById(tripId).get();
+        TripDetailResponse.personalTrip(loadedTrip, List.of());
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(LOADER_QUERY_COUNT);
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @DisplayName("가계부용 날짜와 경비는 아이템 수와 관계없이 두 번의 쿼리로 조회한다.")
+    @Test
+    void findDayLogsWithItemExpensesByTripId_QueryCount() {
+        // given
+        final Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        final List<DayLog> dayLogs = tripGraphRepository.findDayLogsWithItemExpensesByTripId(tripId);
+        dayLogs.forEach(dayLog -> dayLog.getItems().forEach(item -> item.getExpense().getCategory().getKorName()));
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(LEDGER_LOADER_QUERY_COUNT);
+        statistics.setStatisticsEnabled(false);
+    }
+
+    private ItemRequest createItemRequest(final Long dayLogId, final int itemIndex) {
+        final List<String> imageNames = IntStream.range(0, IMAGE_COUNT_PER_ITEM)
+                .mapToObj(imageIndex -> dayLogId + "-" + itemIndex + "-" + imageIndex + ".png")
+                .toList();
+        return new ItemRequest(
+                true,
+                "에펠탑",
+                4.5,
+                "에펠탑을 방문",
+                dayLogId,
+                imageNames,
+                new PlaceRequest("에펠탑", new BigDecimal("38.123456"), new BigDecimal("39.123456"), List.of("culture")),
+                new ExpenseRequest("EUR", new BigDecimal(10000), 100L)
+        );
+    }
+}
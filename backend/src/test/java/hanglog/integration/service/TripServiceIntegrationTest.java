@@ -25,6 +25,8 @@ import hanglog.trip.dto.response.TripDetailResponse;
 import hanglog.trip.dto.response.TripResponse;
 import hanglog.trip.infrastructure.CustomDayLogRepositoryImpl;
 import hanglog.trip.infrastructure.CustomTripCityRepositoryImpl;
+import hanglog.trip.infrastructure.TripGraphRepositoryImpl;
+import hanglog.trip.infrastructure.TripOwnerCache;
 import hanglog.trip.service.TripService;
 import jakarta.persistence.EntityManager;
 import java.time.LocalDate;
@@ -38,8 +40,10 @@ import org.springframework.context.annotation.Import;
 
 @Import({
         TripService.class,
+        TripOwnerCache.class,
         CustomTripCityRepositoryImpl.class,
-        CustomDayLogRepositoryImpl.class
+        CustomDayLogRepositoryImpl.class,
+        TripGraphRepositoryImpl.class
 })
 class TripServiceIntegrationTest extends ServiceIntegrationTest {
 
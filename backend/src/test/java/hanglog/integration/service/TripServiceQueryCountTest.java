@@ -0,0 +1,71 @@
+package hanglog.integration.service;
+
+import static hanglog.integration.IntegrationFixture.TRIP_CREATE_REQUEST;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import hanglog.global.detector.QueryCounterAop;
+import hanglog.trip.dto.response.TripResponse;
+import hanglog.trip.infrastructure.CustomDayLogRepositoryImpl;
+import hanglog.trip.infrastructure.CustomTripCityRepositoryImpl;
+import hanglog.trip.infrastructure.TripGraphRepositoryImpl;
+import hanglog.trip.infrastructure.TripOwnerCache;
+import hanglog.trip.service.TripService;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+@Import({
+        TripService.class,
+        TripOwnerCache.class,
+        CustomTripCityRepositoryImpl.class,
+        CustomDayLogRepositoryImpl.class,
+        TripGraphRepositoryImpl.class
+})
+class TripServiceQueryCountTest extends ServiceIntegrationTest {
+
+    @Autowired
+    private TripService tripService;
+
+    @Autowired
+    private QueryCounterAop queryCounterAop;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @DisplayName("멤버의 모든 Trip 조회 시 Trip 개수와 관계없이 쿼리 수가 일정하다.")
+    @Test
+    void getAllTrips_ConstantQueryCount() {
+        // given
+        saveTrips(1);
+        final long singleTripQueryCount = countQueriesOfGetAllTrips(1);
+
+        saveTrips(5);
+        final long manyTripsQueryCount = countQueriesOfGetAllTrips(6);
+
+        // then
+        assertThat(singleTripQueryCount).isPositive();
+        assertThat(manyTripsQueryCount).isEqualTo(singleTripQueryCount);
+    }
+
+    private void saveTrips(final int count) {
+        IntStream.range(0, count)
+                .forEach(i -> tripService.save(member.getId(), TRIP_CREATE_REQUEST));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private long countQueriesOfGetAllTrips(final int expectedTripCount) {
+        final long before = queryCounterAop.getCurrentLoggingForm().getQueryCounts();
+        final List<TripResponse> tripResponses = tripService.getAllTrips(member.getId());
+        final long after = queryCounterAop.getCurrentLoggingForm().getQueryCounts();
+        entityManager.clear();
+
+        assertThat(tripResponses).hasSize(expectedTripCount);
+        assertThat(tripResponses).allSatisfy(tripResponse -> assertThat(tripResponse.getCities()).isNotEmpty());
+        return after - before;
+    }
+}
@@ -0,0 +1,130 @@
+package hanglog.like.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import hanglog.like.domain.LikeIntent;
+import hanglog.like.dto.LikeElement;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LikeBufferTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final Long TRIP_ID = 1L;
+
+    private LikeBuffer likeBuffer;
+
+    @BeforeEach
+    void setUp() {
+        likeBuffer = new LikeBuffer();
+    }
+
+    @DisplayName("같은 회원과 여행의 좋아요 요청은 마지막 요청으로 합쳐진다.")
+    @Test
+    void put_Coalesce() {
+        // when
+        likeBuffer.put(new LikeIntent(MEMBER_ID, TRIP_ID, false, true));
+        likeBuffer.put(new LikeIntent(MEMBER_ID, TRIP_ID, true, false));
+        likeBuffer.put(new LikeIntent(MEMBER_ID, TRIP_ID, false, true));
+
+        // then
+        final List<LikeIntent> likeIntents = likeBuffer.drain();
+        assertSoftly(softly -> {
+            softly.assertThat(likeIntents).hasSize(1);
+            softly.assertThat(likeIntents.get(0).isPersistedStatus()).isFalse();
+            softly.assertThat(likeIntents.get(0).isRequestStatus()).isTrue();
+        });
+    }
+
+    @DisplayName("저장된 상태로 되돌아가는 요청은 버퍼에서 제거된다.")
+    @Test
+    void put_Cancel() {
+        // when
+        likeBuffer.put(new LikeIntent(MEMBER_ID, TRIP_ID, false, true));
+        likeBuffer.put(new LikeIntent(MEMBER_ID, TRIP_ID, true, false));
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(likeBuffer.findPendingStatus(MEMBER_ID, TRIP_ID)).isEmpty();
+            softly.assertThat(likeBuffer.drain()).isEmpty();
+        });
+    }
+
+    @DisplayName("반영 전의 좋아요 요청을 조회 결과에 덧씌운다.")
+    @Test
+    void overlay() {
+        // given
+        likeBuffer.put(new LikeIntent(MEMBER_ID, TRIP_ID, false, true));
+        likeBuffer.put(new LikeIntent(2L, TRIP_ID, false, true));
+        likeBuffer.put(new LikeIntent(MEMBER_ID, 2L, false, true));
+        final List<LikeElement> persisted = List.of(new LikeElement(TRIP_ID, 3L, false));
+
+        // when
+        final List<LikeElement> overlaid = likeBuffer.overlay(MEMBER_ID, List.of(TRIP_ID, 2L, 3L), persisted);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(overlaid).hasSize(2);
+            softly.assertThat(overlaid.get(0).getLikeCount()).isEqualTo(5L);
+            softly.assertThat(overlaid.get(0).isLike()).isTrue();
+            softly.assertThat(overlaid.get(1).getTripId()).isEqualTo(2L);
+            softly.assertThat(overlaid.get(1).getLikeCount()).isEqualTo(1L);
+        });
+    }
+
+    @DisplayName("반영 중인 요청은 완료될 때까지 조회 결과에 남아 있다.")
+    @Test
+    void complete() {
+        // given
+        likeBuffer.put(new LikeIntent(MEMBER_ID, TRIP_ID, false, true));
+        final List<LikeIntent> likeIntents = likeBuffer.drain();
+        final List<LikeElement> persisted = List.of(new LikeElement(TRIP_ID, 0L, false));
+
+        // when
+        final List<LikeElement> flushing = likeBuffer.overlay(MEMBER_ID, List.of(TRIP_ID), persisted);
+        likeBuffer.complete(likeIntents);
+        final List<LikeElement> completed = likeBuffer.overlay(MEMBER_ID, List.of(TRIP_ID), persisted);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(flushing.get(0).getLikeCount()).isEqualTo(1L);
+            softly.assertThat(completed.get(0).getLikeCount()).isEqualTo(0L);
+        });
+    }
+
+    @DisplayName("반영에 실패한 요청은 버퍼로 되돌아간다.")
+    @Test
+    void restore() {
+        // given
+        likeBuffer.put(new LikeIntent(MEMBER_ID, TRIP_ID, false, true));
+        final List<LikeIntent> likeIntents = likeBuffer.drain();
+
+        // when
+        likeBuffer.restore(likeIntents);
+
+        // then
+        assertThat(likeBuffer.drain()).hasSize(1);
+    }
+
+    @DisplayName("반영되지 않은 좋아요가 상한에 이르면 버퍼가 가득 찬 상태가 된다.")
+    @Test
+    void isFull() {
+        // given
+        for (long tripId = 1; tripId < 10_000; tripId++) {
+            likeBuffer.put(new LikeIntent(MEMBER_ID, tripId, false, true));
+        }
+        final boolean fullBeforeLimit = likeBuffer.isFull();
+
+        // when
+        likeBuffer.put(new LikeIntent(MEMBER_ID, 10_000L, false, true));
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(fullBeforeLimit).isFalse();
+            softly.assertThat(likeBuffer.isFull()).isTrue();
+        });
+    }
+}
@@ -186,4 +186,22 @@ class JwtProviderTest {
                 .isInstanceOf(AuthException.class)
                 .hasMessage(EXPIRED_PERIOD_REFRESH_TOKEN.getMessage());
     }
+
+    @DisplayName("한 번 검증된 accessToken도 만료 시각이 지나면 다시 만료 예외를 던진다.")
+    @Test
+    void validateTokens_ExpiredAfterCached() throws InterruptedException {
+        // given
+        final String refreshToken = makeTestJwt(SAMPLE_EXPIRATION_TIME, SAMPLE_SUBJECT, realSecretKey);
+        final String accessToken = makeTestJwt(1000L, SAMPLE_SUBJECT, realSecretKey);
+        final MemberTokens memberTokens = new MemberTokens(refreshToken, accessToken);
+        jwtProvider.validateTokens(memberTokens);
+
+        // when
+        Thread.sleep(1100L);
+
+        // then
+        assertThatThrownBy(() -> jwtProvider.validateTokens(memberTokens))
+                .isInstanceOf(ExpiredPeriodJwtException.class)
+                .hasMessage(EXPIRED_PERIOD_ACCESS_TOKEN.getMessage());
+    }
 }
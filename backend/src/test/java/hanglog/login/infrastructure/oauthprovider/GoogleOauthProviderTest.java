@@ -0,0 +1,206 @@
+package hanglog.login.infrastructure.oauthprovider;
+
+import static hanglog.global.exception.ExceptionCode.INVALID_ID_TOKEN;
+import static hanglog.global.exception.ExceptionCode.OAUTH_SERVICE_BUSY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import hanglog.global.exception.AuthException;
+import hanglog.login.domain.OauthUserInfo;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+class GoogleOauthProviderTest {
+
+    private static final String CLIENT_ID = "hanglog-client";
+    private static final String KEY_ID = "stub-key";
+    private static final String NO_ID_TOKEN_CODE = "no-id-token";
+    private static final String FORGED_ID_TOKEN_CODE = "forged-id-token";
+
+    private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+    private KeyPair signingKeyPair;
+    private KeyPair forgedKeyPair;
+    private HttpServer stubOauthServer;
+    private String baseUri;
+
+    @BeforeEach
+    void setUp() throws IOException, NoSuchAlgorithmException {
+        final KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        signingKeyPair = keyPairGenerator.generateKeyPair();
+        forgedKeyPair = keyPairGenerator.generateKeyPair();
+
+        stubOauthServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubOauthServer.createContext("/token", exchange -> respond(exchange, tokenResponse(exchange)));
+        stubOauthServer.createContext("/userinfo", exchange -> respond(exchange, """
+                {"id": "12345", "name": "userinfo", "picture": "https://hanglog.com/userinfo.png"}
+                """));
+        stubOauthServer.createContext("/certs", exchange -> respond(exchange, jwksResponse()));
+        stubOauthServer.start();
+        baseUri = "http://localhost:" + stubOauthServer.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubOauthServer.stop(0);
+    }
+
+    private String tokenResponse(final HttpExchange exchange) throws IOException {
+        final String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        if (body.contains("code=" + NO_ID_TOKEN_CODE)) {
+            return """
+                    {"access_token": "access-token"}
+                    """;
+        }
+        final KeyPair keyPair = body.contains("code=" + FORGED_ID_TOKEN_CODE) ? forgedKeyPair : signingKeyPair;
+        return """
+                {"access_token": "access-token", "id_token": "%s"}
+                """.formatted(createIdToken(keyPair));
+    }
+
+    private String createIdToken(final KeyPair keyPair) {
+        return Jwts.builder()
+                .setHeaderParam("kid", KEY_ID)
+                .setIssuer("https://accounts.google.com")
+                .setAudience(CLIENT_ID)
+                .setSubject("12345")
+                .claim("name", "idtoken")
+                .claim("picture", "https://hanglog.com/idtoken.png")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(keyPair.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+    }
+
+    private String jwksResponse() {
+        final RSAPublicKey publicKey = (RSAPublicKey) signingKeyPair.getPublic();
+        final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return """
+                {"keys": [{"kid": "%s", "kty": "RSA", "alg": "RS256", "n": "%s", "e": "%s"}]}
+                """.formatted(
+                KEY_ID,
+                encoder.encodeToString(publicKey.getModulus().toByteArray()),
+                encoder.encodeToString(publicKey.getPublicExponent().toByteArray())
+        );
+    }
+
+    private void respond(final HttpExchange exchange, final String body) throws IOException {
+        requestCounts.computeIfAbsent(exchange.getHttpContext().getPath(), ignored -> new AtomicInteger())
+                .incrementAndGet();
+        final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (final OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(bytes);
+        }
+    }
+
+    private int requestCount(final String path) {
+        return requestCounts.getOrDefault(path, new AtomicInteger()).get();
+    }
+
+    private GoogleOauthProvider createProvider(final int maxConcurrentCalls) {
+        final OauthApiClient oauthApiClient = new OauthApiClient(
+                new RestTemplate(),
+                new SimpleMeterRegistry(),
+                maxConcurrentCalls,
+                0
+        );
+        final GoogleIdTokenVerifier googleIdTokenVerifier = new GoogleIdTokenVerifier(
+                oauthApiClient,
+                CLIENT_ID,
+                baseUri + "/certs"
+        );
+        return new GoogleOauthProvider(
+                CLIENT_ID,
+                "secret",
+                "redirect",
+                baseUri + "/token",
+                baseUri + "/userinfo",
+                oauthApiClient,
+                googleIdTokenVerifier
+        );
+    }
+
+    @DisplayName("ID 토큰이 검증되면 userinfo 요청 없이 사용자 정보를 가져오고, JWKS는 캐싱한다.")
+    @Test
+    void getUserInfo_VerifiedIdToken() {
+        // given
+        final GoogleOauthProvider provider = createProvider(10);
+
+        // when
+        final OauthUserInfo first = provider.getUserInfo("code");
+        final OauthUserInfo second = provider.getUserInfo("code");
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(first.getSocialLoginId()).isEqualTo("12345");
+            softly.assertThat(first.getNickname()).isEqualTo("idtoken");
+            softly.assertThat(second.getImageUrl()).isEqualTo("https://hanglog.com/idtoken.png");
+            softly.assertThat(requestCount("/userinfo")).isZero();
+            softly.assertThat(requestCount("/certs")).isEqualTo(1);
+        });
+    }
+
+    @DisplayName("토큰 응답에 ID 토큰이 없으면 userinfo 요청으로 사용자 정보를 가져온다.")
+    @Test
+    void getUserInfo_WithoutIdToken() {
+        // given
+        final GoogleOauthProvider provider = createProvider(10);
+
+        // when
+        final OauthUserInfo oauthUserInfo = provider.getUserInfo(NO_ID_TOKEN_CODE);
+
+        // then
+        assertThat(oauthUserInfo.getNickname()).isEqualTo("userinfo");
+        assertThat(requestCount("/userinfo")).isEqualTo(1);
+    }
+
+    @DisplayName("JWKS의 키로 서명되지 않은 ID 토큰이면 예외가 발생한다.")
+    @Test
+    void getUserInfo_ForgedIdToken() {
+        // given
+        final GoogleOauthProvider provider = createProvider(10);
+
+        // when & then
+        assertThatThrownBy(() -> provider.getUserInfo(FORGED_ID_TOKEN_CODE))
+                .isInstanceOf(AuthException.class)
+                .extracting("code")
+                .isEqualTo(INVALID_ID_TOKEN.getCode());
+    }
+
+    @DisplayName("동시 호출 한도를 넘으면 제공자를 호출하지 않고 예외가 발생한다.")
+    @Test
+    void getUserInfo_BulkheadFull() {
+        // given
+        final GoogleOauthProvider provider = createProvider(0);
+
+        // when & then
+        assertThatThrownBy(() -> provider.getUserInfo("code"))
+                .isInstanceOf(AuthException.class)
+                .extracting("code")
+                .isEqualTo(OAUTH_SERVICE_BUSY.getCode());
+        assertThat(requestCount("/token")).isZero();
+    }
+}
@@ -17,6 +17,7 @@ import hanglog.trip.domain.repository.CustomItemRepository;
 import hanglog.trip.domain.repository.DayLogRepository;
 import hanglog.trip.domain.repository.ImageRepository;
 import hanglog.trip.domain.repository.ItemRepository;
+import hanglog.trip.domain.repository.LedgerSummaryRepository;
 import hanglog.trip.domain.repository.PlaceRepository;
 import hanglog.trip.domain.repository.TripCityRepository;
 import hanglog.trip.domain.repository.TripRepository;
@@ -52,6 +53,8 @@ class DeleteEventListenerTest {
     private RefreshTokenRepository refreshTokenRepository;
     @Mock
     private TripCityRepository tripCityRepository;
+    @Mock
+    private LedgerSummaryRepository ledgerSummaryRepository;
     @InjectMocks
     private DeleteEventListener listener;
 
@@ -82,6 +85,7 @@ class DeleteEventListenerTest {
         verify(imageRepository, times(1)).deleteByItemIds(anyList());
         verify(itemRepository, times(1)).deleteByIds(anyList());
         verify(dayLogRepository, times(1)).deleteByIds(anyList());
+        verify(ledgerSummaryRepository, times(1)).deleteByTripIds(event.getTripIds());
         verify(tripRepository, times(1)).deleteByMemberId(anyLong());
         verify(refreshTokenRepository, times(1)).deleteByMemberId(anyLong());
     }
@@ -112,6 +116,7 @@ class DeleteEventListenerTest {
         verify(imageRepository, times(1)).deleteByItemIds(anyList());
         verify(itemRepository, times(1)).deleteByIds(anyList());
         verify(dayLogRepository, times(1)).deleteByIds(anyList());
+        verify(ledgerSummaryRepository, times(1)).deleteByTripIds(List.of(event.getTripId()));
         verify(tripCityRepository, times(1)).deleteAllByTripId(anyLong());
     }
 }
@@ -6,6 +6,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
 import hanglog.member.domain.Member;
+import hanglog.member.domain.MemberUpdateEvent;
 import hanglog.member.domain.repository.MemberRepository;
 import hanglog.member.dto.request.MyPageRequest;
 import hanglog.member.dto.response.MyPageResponse;
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +30,9 @@ class MemberServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private ApplicationEventPublisher publisher;
+
     @DisplayName("멤버의 닉네임과 프로필 사진을 조회할 수 있다.")
     @Test
     void getMyPageInfo() {
@@ -66,6 +71,7 @@ class MemberServiceTest {
         // then
         verify(memberRepository).findById(any());
         verify(memberRepository).save(any());
+        verify(publisher).publishEvent(any(MemberUpdateEvent.class));
     }
 
 }
@@ -0,0 +1,35 @@
+package hanglog.trip.domain;
+
+import static hanglog.global.exception.ExceptionCode.EXCEED_ITEM_COUNT_OF_DAY_LOG;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import hanglog.global.exception.InvalidDomainException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ItemOrdinalsTest {
+
+    @DisplayName("위치에 해당하는 순서 값은 간격만큼 띄운 값이다.")
+    @Test
+    void ofPosition() {
+        // when
+        final int ordinal = ItemOrdinals.ofPosition(2);
+
+        // then
+        assertThat(ordinal).isEqualTo(3 * ItemOrdinals.GAP);
+    }
+
+    @DisplayName("순서 값이 int 범위를 넘는 위치라면 예외가 발생한다.")
+    @Test
+    void ofPosition_Overflow() {
+        // given
+        final int overflowPosition = Integer.MAX_VALUE / ItemOrdinals.GAP;
+
+        // when & then
+        assertThatThrownBy(() -> ItemOrdinals.ofPosition(overflowPosition))
+                .isInstanceOf(InvalidDomainException.class)
+                .extracting("code")
+                .isEqualTo(EXCEED_ITEM_COUNT_OF_DAY_LOG.getCode());
+    }
+}
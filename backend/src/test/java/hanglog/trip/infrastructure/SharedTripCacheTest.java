@@ -0,0 +1,108 @@
+package hanglog.trip.infrastructure;
+
+import static hanglog.trip.fixture.ShareFixture.TRIP_SHARE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import hanglog.trip.dto.response.TripDetailResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SharedTripCacheTest {
+
+    private static final Long TRIP_ID = TRIP_SHARE.getId();
+    private static final Long OTHER_TRIP_ID = TRIP_ID + 1;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SharedTripCache sharedTripCache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sharedTripCache = new SharedTripCache(meterRegistry);
+        loadCount = new AtomicInteger();
+    }
+
+    @DisplayName("같은 여행을 다시 조회하면 캐시된 여행을 반환한다.")
+    @Test
+    void getTripDetail() {
+        // when
+        final TripDetailResponse first = sharedTripCache.getTripDetail(TRIP_ID, this::load);
+        final TripDetailResponse second = sharedTripCache.getTripDetail(TRIP_ID, this::load);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(second).isSameAs(first);
+            softly.assertThat(loadCount.get()).isEqualTo(1);
+            softly.assertThat(countGets("hit")).isEqualTo(1);
+            softly.assertThat(countGets("miss")).isEqualTo(1);
+        });
+    }
+
+    @DisplayName("여행이 수정되면 캐시에서 제거되어 다시 조회한다.")
+    @Test
+    void evict() {
+        // given
+        sharedTripCache.getTripDetail(TRIP_ID, this::load);
+
+        // when
+        sharedTripCache.evict(TRIP_ID);
+        sharedTripCache.getTripDetail(TRIP_ID, this::load);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(loadCount.get()).isEqualTo(2);
+            softly.assertThat(countGets("miss")).isEqualTo(2);
+        });
+    }
+
+    @DisplayName("조회하는 동안 여행이 수정되면 불러온 여행을 캐시에 남기지 않는다.")
+    @Test
+    void getTripDetail_EvictedWhileLoading() {
+        // given
+        sharedTripCache.getTripDetail(TRIP_ID, tripId -> {
+            sharedTripCache.evict(TRIP_ID);
+            return load(tripId);
+        });
+
+        // when
+        sharedTripCache.getTripDetail(TRIP_ID, this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @DisplayName("여러 여행을 한 번에 캐시에서 제거할 수 있다.")
+    @Test
+    void evictAll() {
+        // given
+        sharedTripCache.getTripDetail(TRIP_ID, this::load);
+        sharedTripCache.getTripDetail(OTHER_TRIP_ID, this::load);
+
+        // when
+        sharedTripCache.evictAll(List.of(TRIP_ID, OTHER_TRIP_ID));
+        sharedTripCache.getTripDetail(TRIP_ID, this::load);
+        sharedTripCache.getTripDetail(OTHER_TRIP_ID, this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(4);
+    }
+
+    private TripDetailResponse load(final Long tripId) {
+        loadCount.incrementAndGet();
+        return TripDetailResponse.sharedTrip(TRIP_SHARE, List.of());
+    }
+
+    private double countGets(final String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", "sharedTripDetail")
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
@@ -21,6 +21,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import hanglog.global.ControllerTest;
 import hanglog.login.domain.MemberTokens;
 import hanglog.trip.dto.request.DayLogUpdateTitleRequest;
+import hanglog.trip.dto.request.ItemMoveRequest;
 import hanglog.trip.dto.request.ItemsOrdinalUpdateRequest;
 import hanglog.trip.dto.response.DayLogResponse;
 import hanglog.trip.service.DayLogService;
@@ -96,6 +97,20 @@ class DayLogControllerTest extends ControllerTest {
                 .content(objectMapper.writeValueAsString(updateRequest)));
     }
 
+    private ResultActions performPatchMoveItemRequest(
+            final int tripId,
+            final int dayLogId,
+            final int itemId,
+            final ItemMoveRequest moveRequest)
+            throws Exception {
+        return mockMvc.perform(patch("/trips/{tripId}/daylogs/{dayLogId}/items/{itemId}/order",
+                tripId, dayLogId, itemId)
+                .header(AUTHORIZATION, MEMBER_TOKENS.getAccessToken())
+                .cookie(COOKIE)
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(moveRequest)));
+    }
+
     @DisplayName("날짜별 여행을 조회할 수 있다.")
     @Test
     void getDayLog() throws Exception {
@@ -291,4 +306,38 @@ class DayLogControllerTest extends ControllerTest {
         resultActions.andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.message").value("중복되지 않는 아이템 아이디들을 입력해주세요."));
     }
+
+    @DisplayName("데이로그의 아이템 하나를 다른 아이템 뒤로 옮길 수 있다.")
+    @Test
+    void moveItem() throws Exception {
+        // given
+        final ItemMoveRequest request = new ItemMoveRequest(2L);
+
+        doNothing().when(dayLogService).moveItem(anyLong(), anyLong(), anyLong(), any(ItemMoveRequest.class));
+
+        // when
+        final ResultActions resultActions = performPatchMoveItemRequest(1, 1, 3, request);
+
+        // then
+        resultActions.andExpect(status().isNoContent())
+                .andDo(
+                        restDocs.document(
+                                pathParameters(
+                                        parameterWithName("tripId")
+                                                .description("여행 ID"),
+                                        parameterWithName("dayLogId")
+                                                .description("날짜별 기록 ID"),
+                                        parameterWithName("itemId")
+                                                .description("옮길 아이템 ID")
+                                ),
+                                requestFields(
+                                        fieldWithPath("previousItemId")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("옮긴 뒤 바로 앞에 올 아이템 ID, 맨 앞으로 옮길 때는 null")
+                                                .attributes(field("constraint", "양의 정수 또는 null"))
+                                                .optional()
+                                )
+                        )
+                );
+    }
 }
@@ -7,7 +7,6 @@ import static hanglog.global.restdocs.RestDocsConfiguration.field;
 import static hanglog.trip.fixture.CityFixture.LONDON;
 import static hanglog.trip.fixture.DayLogFixture.EXPENSE_LONDON_DAYLOG;
 import static hanglog.trip.fixture.TripFixture.LONDON_TO_JAPAN;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
@@ -65,9 +64,7 @@ class SharedTripControllerTest extends ControllerTest {
     @Test
     void getSharedTrip() throws Exception {
         // given
-        when(sharedTripService.getTripId(anyString()))
-                .thenReturn(1L);
-        when(sharedTripService.getSharedTripDetail(anyLong()))
+        when(sharedTripService.getTripDetailBySharedCode(anyString()))
                 .thenReturn(TripDetailResponse.sharedTrip(ShareFixture.TRIP_SHARE, List.of(ShareFixture.CALIFORNIA, ShareFixture.TOKYO, ShareFixture.BEIJING)));
 
         // when
@@ -201,9 +198,6 @@ class SharedTripControllerTest extends ControllerTest {
     @Test
     void getSharedExpenses() throws Exception {
         // given
-        when(sharedTripService.getTripId(anyString()))
-                .thenReturn(1L);
-
         final LedgerResponse ledgerResponse = LedgerResponse.of(
                 LONDON_TO_JAPAN,
                 AMOUNT_20000,
@@ -214,7 +208,7 @@ class SharedTripControllerTest extends ControllerTest {
         );
 
         // when
-        when(ledgerService.getAllExpenses(1L)).thenReturn(ledgerResponse);
+        when(sharedTripService.getLedgerBySharedCode(anyString())).thenReturn(ledgerResponse);
 
         // then
         mockMvc.perform(get("/shared-trips/{sharedCode}/expense", "xxxxxx").contentType(APPLICATION_JSON))
@@ -4,14 +4,21 @@ import static hanglog.trip.fixture.DayLogFixture.LONDON_DAYLOG_1;
 import static hanglog.trip.fixture.DayLogFixture.UPDATED_LONDON_DAYLOG;
 import static hanglog.trip.fixture.ItemFixture.DAYLOG_FOR_ITEM_FIXTURE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import hanglog.global.exception.BadRequestException;
 import hanglog.trip.domain.DayLog;
+import hanglog.trip.domain.ItemOrdinals;
 import hanglog.trip.domain.repository.CustomItemRepository;
 import hanglog.trip.domain.repository.DayLogRepository;
 import hanglog.trip.dto.request.DayLogUpdateTitleRequest;
+import hanglog.trip.dto.request.ItemMoveRequest;
 import hanglog.trip.dto.request.ItemsOrdinalUpdateRequest;
 import hanglog.trip.dto.response.DayLogResponse;
 import java.time.LocalDate;
@@ -23,6 +30,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class DayLogServiceTest {
@@ -36,6 +44,9 @@ class DayLogServiceTest {
     @Mock
     private CustomItemRepository customItemRepository;
 
+    @Mock
+    private ApplicationEventPublisher publisher;
+
     @DisplayName("날짜별 여행을 조회할 수 있다.")
     @Test
     void getDayLogById() {
@@ -90,4 +101,75 @@ class DayLogServiceTest {
         // then
         verify(customItemRepository).updateOrdinals(any());
     }
+
+    @DisplayName("아이템 하나를 옮기면 앞뒤 아이템 순서의 중간값으로 그 아이템만 수정한다.")
+    @Test
+    void moveItem() {
+        // given
+        given(dayLogRepository.findById(1L))
+                .willReturn(Optional.of(DAYLOG_FOR_ITEM_FIXTURE));
+        given(customItemRepository.findOrdinal(1L, 4L))
+                .willReturn(Optional.of(ItemOrdinals.ofPosition(3)));
+        given(customItemRepository.findOrdinal(1L, 1L))
+                .willReturn(Optional.of(ItemOrdinals.ofPosition(0)));
+        given(customItemRepository.findNextOrdinal(1L, 4L, ItemOrdinals.ofPosition(0)))
+                .willReturn(Optional.of(ItemOrdinals.ofPosition(1)));
+
+        // when
+        dayLogService.moveItem(1L, 1L, 4L, new ItemMoveRequest(1L));
+
+        // then
+        verify(customItemRepository).updateOrdinal(4L, ItemOrdinals.GAP + ItemOrdinals.GAP / 2);
+        verify(customItemRepository, never()).updateOrdinals(any());
+    }
+
+    @DisplayName("옮길 자리에 남은 간격이 없으면 날짜의 아이템 순서를 재배치한 뒤 옮긴다.")
+    @Test
+    void moveItem_Rebalance() {
+        // given
+        given(dayLogRepository.findById(1L))
+                .willReturn(Optional.of(DAYLOG_FOR_ITEM_FIXTURE));
+        given(dayLogRepository.findWithItemsById(1L))
+                .willReturn(Optional.of(DAYLOG_FOR_ITEM_FIXTURE));
+        given(customItemRepository.findOrdinal(1L, 4L))
+                .willReturn(Optional.of(4));
+        given(customItemRepository.findNextOrdinal(1L, 4L, 0))
+                .willReturn(Optional.of(1))
+                .willReturn(Optional.of(ItemOrdinals.ofPosition(0)));
+
+        // when
+        dayLogService.moveItem(1L, 1L, 4L, new ItemMoveRequest(null));
+
+        // then
+        verify(customItemRepository).updateOrdinals(any());
+        verify(customItemRepository).updateOrdinal(4L, ItemOrdinals.GAP / 2);
+    }
+
+    @DisplayName("아이템을 자기 자신의 뒤로 옮기려 하면 예외가 발생한다.")
+    @Test
+    void moveItem_SelfPrevious() {
+        // given
+        given(dayLogRepository.findById(1L))
+                .willReturn(Optional.of(DAYLOG_FOR_ITEM_FIXTURE));
+
+        // when & then
+        assertThatThrownBy(() -> dayLogService.moveItem(1L, 1L, 4L, new ItemMoveRequest(4L)))
+                .isInstanceOf(BadRequestException.class);
+        verify(customItemRepository, never()).updateOrdinal(anyLong(), anyInt());
+    }
+
+    @DisplayName("다른 여행의 날짜에 있는 아이템을 옮기려 하면 예외가 발생한다.")
+    @Test
+    void moveItem_NotAssociatedTrip() {
+        // given
+        given(dayLogRepository.findById(1L))
+                .willReturn(Optional.of(DAYLOG_FOR_ITEM_FIXTURE));
+
+        // when & then
+        assertThatThrownBy(() -> dayLogService.moveItem(2L, 1L, 4L, new ItemMoveRequest(null)))
+                .isInstanceOf(BadRequestException.class)
+                .extracting("code")
+                .isEqualTo(6001);
+        verify(customItemRepository, never()).updateOrdinal(anyLong(), anyInt());
+    }
 }
@@ -16,6 +16,7 @@ import hanglog.global.exception.BadRequestException;
 import hanglog.trip.domain.DayLog;
 import hanglog.trip.domain.Item;
 import hanglog.trip.domain.repository.CustomImageRepository;
+import hanglog.trip.domain.repository.CustomLedgerSummaryRepository;
 import hanglog.trip.domain.repository.DayLogRepository;
 import hanglog.trip.domain.repository.ItemRepository;
 import hanglog.trip.domain.repository.PlaceRepository;
@@ -37,6 +38,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class ItemServiceTest {
@@ -62,6 +64,12 @@ class ItemServiceTest {
     @Mock
     private DayLogRepository dayLogRepository;
 
+    @Mock
+    private CustomLedgerSummaryRepository customLedgerSummaryRepository;
+
+    @Mock
+    private ApplicationEventPublisher publisher;
+
     @DisplayName("새롭게 생성한 여행 아이템의 id를 반환한다.")
     @Test
     void save() {
@@ -255,6 +263,43 @@ class ItemServiceTest {
         verify(itemRepository).deleteById(any());
     }
 
+    @DisplayName("경비가 있는 여행 아이템을 삭제하면 가계부 요약에서 해당 금액을 뺀다.")
+    @Test
+    void delete_SubtractLedgerSummary() {
+        // given
+        final DayLog dayLog = new DayLog(
+                1L,
+                "첫날",
+                1,
+                TripFixture.LONDON_TRIP,
+                List.of()
+        );
+        final Item itemForDelete = new Item(
+                1L,
+                ItemType.NON_SPOT,
+                "버스",
+                1,
+                3.0,
+                "",
+                dayLog,
+                ExpenseFixture.EURO_10000
+        );
+        given(itemRepository.findById(any()))
+                .willReturn(Optional.of(itemForDelete));
+
+        // when
+        itemService.delete(itemForDelete.getId());
+
+        // then
+        verify(customLedgerSummaryRepository).addAmount(
+                TripFixture.LONDON_TRIP.getId(),
+                dayLog.getId(),
+                ExpenseFixture.EURO_10000.getCategory().getId(),
+                ExpenseFixture.EURO_10000.getCurrency(),
+                ExpenseFixture.EURO_10000.getAmount().multiply(-1)
+        );
+    }
+
     @DisplayName("모든 여행 아이템의 Response를 반환한다.")
     @Test
     void getItems() {
@@ -268,9 +313,9 @@ class ItemServiceTest {
         // then
         assertSoftly(softly -> {
             softly.assertThat(items.get(0)).usingRecursiveComparison()
-                    .isEqualTo(ItemResponse.of(ItemFixture.LONDON_EYE_ITEM));
+                    .isEqualTo(ItemResponse.of(ItemFixture.LONDON_EYE_ITEM, 1));
             softly.assertThat(items.get(1)).usingRecursiveComparison()
-                    .isEqualTo(ItemResponse.of(ItemFixture.TAXI_ITEM));
+                    .isEqualTo(ItemResponse.of(ItemFixture.TAXI_ITEM, 2));
         });
     }
 }
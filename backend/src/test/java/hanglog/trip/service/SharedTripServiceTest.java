@@ -6,10 +6,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import hanglog.global.exception.BadRequestException;
 import hanglog.trip.domain.repository.SharedTripRepository;
 import hanglog.trip.fixture.ShareFixture;
+import hanglog.trip.infrastructure.SharedTripCache;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -29,6 +31,9 @@ class SharedTripServiceTest {
     @Mock
     private SharedTripRepository sharedTripRepository;
 
+    @Mock
+    private SharedTripCache sharedTripCache;
+
     @DisplayName("공유된 여행을 조회한다.")
     @Test
     void getSharedTrip() {
@@ -71,4 +76,19 @@ class SharedTripServiceTest {
                 .extracting("code")
                 .isEqualTo(NOT_FOUND_SHARED_CODE.getCode());
     }
+
+    @DisplayName("공유가 해제된 여행은 캐시를 거치지 않고 조회에 실패한다.")
+    @Test
+    void getTripDetailBySharedCode_UnsharedFail() {
+        // given
+        given(sharedTripRepository.findBySharedCode(anyString()))
+                .willReturn(Optional.of(ShareFixture.UNSHARED_TRIP));
+
+        // when & then
+        assertThatThrownBy(() -> sharedTripService.getTripDetailBySharedCode("sharedCode"))
+                .isInstanceOf(BadRequestException.class)
+                .extracting("code")
+                .isEqualTo(INVALID_SHARE_CODE.getCode());
+        verifyNoInteractions(sharedTripCache);
+    }
 }
@@ -10,24 +10,29 @@ import static hanglog.trip.fixture.TripFixture.LONDON_TRIP;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import hanglog.city.domain.repository.CityRepository;
 import hanglog.community.domain.PublishedTrip;
 import hanglog.community.domain.repository.PublishedTripRepository;
+import hanglog.global.exception.AuthException;
 import hanglog.global.exception.BadRequestException;
 import hanglog.member.domain.repository.MemberRepository;
 import hanglog.trip.domain.DayLog;
 import hanglog.trip.domain.Trip;
 import hanglog.trip.domain.repository.CustomDayLogRepository;
 import hanglog.trip.domain.repository.CustomTripCityRepository;
+import hanglog.trip.domain.repository.LedgerSummaryRepository;
 import hanglog.trip.domain.repository.SharedTripRepository;
 import hanglog.trip.domain.repository.TripCityRepository;
+import hanglog.trip.domain.repository.TripGraphRepository;
 import hanglog.trip.domain.repository.TripRepository;
 import hanglog.trip.domain.type.PublishedStatusType;
 import hanglog.trip.domain.type.SharedStatusType;
@@ -37,6 +42,7 @@ import hanglog.trip.dto.request.TripCreateRequest;
 import hanglog.trip.dto.request.TripUpdateRequest;
 import hanglog.trip.dto.response.SharedCodeResponse;
 import hanglog.trip.dto.response.TripDetailResponse;
+import hanglog.trip.infrastructure.TripOwnerCache;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -62,6 +68,9 @@ class TripServiceTest {
     @Mock
     private TripRepository tripRepository;
 
+    @Mock
+    private TripGraphRepository tripGraphRepository;
+
     @Mock
     private SharedTripRepository sharedTripRepository;
 
@@ -83,6 +92,12 @@ class TripServiceTest {
     @Mock
     private CustomTripCityRepository customTripCityRepository;
 
+    @Mock
+    private LedgerSummaryRepository ledgerSummaryRepository;
+
+    @Mock
+    private TripOwnerCache tripOwnerCache;
+
     @Mock
     private ApplicationEventPublisher publisher;
 
@@ -99,6 +114,19 @@ class TripServiceTest {
         verify(tripRepository).existsByMemberIdAndId(anyLong(), anyLong());
     }
 
+    @DisplayName("캐시된 작성자 정보가 있으면 DB를 조회하지 않고 여행 작성자를 검증한다.")
+    @Test
+    void validateTripByMember_CachedOwner() {
+        // given
+        given(tripOwnerCache.findOwnerId(1L)).willReturn(Optional.of(1L));
+
+        // when & then
+        assertDoesNotThrow(() -> tripService.validateTripByMember(1L, 1L));
+        assertThatThrownBy(() -> tripService.validateTripByMember(2L, 1L))
+                .isInstanceOf(AuthException.class);
+        verify(tripRepository, never()).existsByMemberIdAndId(anyLong(), anyLong());
+    }
+
     @DisplayName("여행을 생성한 후 tripId를 반환한다.")
     @Test
     void save() {
@@ -151,7 +179,7 @@ class TripServiceTest {
     @Test
     void getTrip() {
         // given
-        given(tripRepository.findById(1L))
+        given(tripGraphRepository.findById(1L))
                 .willReturn(Optional.of(LONDON_TRIP));
 
         given(cityRepository.findCitiesByTripId(anyLong()))
@@ -178,19 +206,17 @@ class TripServiceTest {
                 List.of(1L, 2L)
         );
 
-        given(tripRepository.findById(LONDON_TRIP.getId()))
+        given(tripRepository.findWithDayLogsById(LONDON_TRIP.getId()))
                 .willReturn(Optional.of(LONDON_TRIP));
-        given(cityRepository.findById(1L))
-                .willReturn(Optional.of(PARIS));
-        given(cityRepository.findById(2L))
-                .willReturn(Optional.of(LONDON));
+        given(cityRepository.findCitiesByIds(List.of(1L, 2L)))
+                .willReturn(List.of(PARIS, LONDON));
         doNothing().when(customTripCityRepository).saveAll(any(), anyLong());
 
         // when
         tripService.update(LONDON_TRIP.getId(), updateRequest);
 
         // then
-        verify(tripRepository).findById(LONDON_TRIP.getId());
+        verify(tripRepository).findWithDayLogsById(LONDON_TRIP.getId());
         verify(tripRepository).save(any(Trip.class));
     }
 
@@ -361,14 +387,12 @@ class TripServiceTest {
                     PublishedStatusType.UNPUBLISHED
             );
 
-            given(tripRepository.findById(trip.getId()))
+            given(tripRepository.findWithDayLogsById(trip.getId()))
                     .willReturn(Optional.of(trip));
             given(tripRepository.save(any(Trip.class)))
                     .willReturn(updatedTrip);
-            given(cityRepository.findById(1L))
-                    .willReturn(Optional.of(PARIS));
-            given(cityRepository.findById(2L))
-                    .willReturn(Optional.of(LONDON));
+            given(cityRepository.findCitiesByIds(List.of(1L, 2L)))
+                    .willReturn(List.of(PARIS, LONDON));
         }
 
         @DisplayName("변경된 일정이 같은 경우")
@@ -397,7 +421,7 @@ class TripServiceTest {
         void update_DecreasePeriod() {
             // given
             changeDate(1, 2);
-            given(tripRepository.findById(trip.getId()))
+            given(tripRepository.findWithDayLogsById(trip.getId()))
                     .willReturn(Optional.of(new Trip(
                                             trip.getId(),
                                             MEMBER,
@@ -420,7 +444,7 @@ class TripServiceTest {
 
             // when
             tripService.update(trip.getId(), updateRequest);
-            final List<DayLog> actualDayLogs = tripRepository.findById(trip.getId()).get().getDayLogs();
+            final List<DayLog> actualDayLogs = tripRepository.findWithDayLogsById(trip.getId()).get().getDayLogs();
 
             // then
             assertSoftly(
@@ -439,7 +463,7 @@ class TripServiceTest {
         void update_IncreasePeriod() {
             // given
             changeDate(1, 5);
-            given(tripRepository.findById(trip.getId()))
+            given(tripRepository.findWithDayLogsById(trip.getId()))
                     .willReturn(Optional.of(new Trip(
                                             trip.getId(),
                                             MEMBER,
@@ -465,7 +489,7 @@ class TripServiceTest {
 
             // when
             tripService.update(trip.getId(), updateRequest);
-            final List<DayLog> actualDayLogs = tripRepository.findById(trip.getId()).get().getDayLogs();
+            final List<DayLog> actualDayLogs = tripRepository.findWithDayLogsById(trip.getId()).get().getDayLogs();
 
             // then
             assertSoftly(
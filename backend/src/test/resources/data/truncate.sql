@@ -11,4 +11,9 @@ TRUNCATE TABLE city RESTART IDENTITY;
 TRUNCATE TABLE category RESTART IDENTITY;
 TRUNCATE TABLE member RESTART IDENTITY;
 TRUNCATE TABLE refresh_token RESTART IDENTITY;
+TRUNCATE TABLE ledger_summary RESTART IDENTITY;
+TRUNCATE TABLE shared_trip RESTART IDENTITY;
+TRUNCATE TABLE published_trip RESTART IDENTITY;
+TRUNCATE TABLE likes RESTART IDENTITY;
+TRUNCATE TABLE trip_like_count RESTART IDENTITY;
 SET referential_integrity TRUE;